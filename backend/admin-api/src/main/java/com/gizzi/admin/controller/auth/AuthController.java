@@ -39,7 +39,7 @@ public class AuthController {
 	// 인증 서비스
 	private final AuthService       authService;
 
-	// 사용자 서비스 (로그인 ID로 사용자 조회)
+	// 사용자 서비스 (OTP 세션 생성 시 사용자 조회)
 	private final UserService       userService;
 
 	// 관리자 그룹 소속 확인 서비스
@@ -57,28 +57,23 @@ public class AuthController {
 	public ResponseEntity<ApiResponseDto<LoginResponseDto>> login(
 			@Valid @RequestBody LoginRequestDto request,
 			HttpServletRequest httpRequest) {
-		// 로그인 ID로 사용자 조회 (없으면 AUTH_INVALID_CREDENTIALS)
-		UserEntity user = userService.findByLoginId(request.getUserId());
-
-		// administrator 그룹 소속 여부 확인 (비관리자는 접근 차단)
-		if (!adminAccessService.isAdminMember(user.getId())) {
-			log.warn("비관리자 사용자 로그인 시도 차단: userId={}", request.getUserId());
-			throw new BusinessException(AuthErrorCode.ACCESS_DENIED);
-		}
-
 		// 클라이언트 IP 주소 추출
 		String ipAddress = httpRequest.getRemoteAddr();
 		// 클라이언트 User-Agent 추출
 		String userAgent = httpRequest.getHeader("User-Agent");
 
-		// 로그인 서비스 호출 (자격증명 검증 → JWT 발급)
-		LoginResponseDto response = authService.login(request, ipAddress, userAgent);
+		// 로그인 서비스 호출 (시도 제한 → 자격증명 검증 → 관리자 그룹 소속 확인 → JWT 발급)
+		// 존재하지 않는 ID를 포함한 모든 실패는 AuthService가 실패 윈도우에 기록하고,
+		// administrator 그룹 소속 여부는 자격증명 검증이 끝난 사용자에 대해 확인한다 (비관리자는 ACCESS_DENIED)
+		LoginResponseDto response = authService.login(request, ipAddress, userAgent,
+				user -> adminAccessService.isAdminMember(user.getId()));
 
 		// OTP 필수 여부 확인 (시스템 설정 auth/otp_required)
 		boolean otpRequired = settingService.getSystemBoolean("auth", "otp_required");
 
 		// OTP가 필요한 경우 JWT를 대신하여 OTP 세션 생성
 		if (otpRequired) {
+			UserEntity       user        = userService.findByLoginId(request.getUserId());
 			LoginResponseDto otpResponse = authService.createOtpSessionIfNeeded(user, true);
 			if (otpResponse != null) {
 				// JWT 발급 취소: 방금 생성된 세션의 토큰을 무효화
@@ -0,0 +1,54 @@
+package com.gizzi.admin.controller.permission;
+
+import com.gizzi.core.common.dto.ApiResponseDto;
+import com.gizzi.core.module.PermissionHolderIndex;
+import com.gizzi.core.module.dto.HolderUserPageDto;
+import com.gizzi.core.module.dto.PermissionHoldersDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 관리자 권한 보유자 조회 API 컨트롤러
+// "인스턴스 Y에서 권한 X를 가진 그룹/사용자"를 역색인으로 조회한다 (알림 발송 등 대량 작업 대상 추출용)
+@Slf4j
+@RestController
+@RequestMapping("/permissions/holders")
+@RequiredArgsConstructor
+public class PermissionHolderController {
+
+	// 권한 역색인
+	private final PermissionHolderIndex holderIndex;
+
+	// 권한을 직접 보유한 그룹/사용자 + 소유자 + 권한을 부여하는 역할/역할 보유 그룹 조회 API
+	// GET /permissions/holders?instanceId=...&permission=BOARD_POST_READ
+	@GetMapping
+	public ResponseEntity<ApiResponseDto<PermissionHoldersDto>> getHolders(
+			@RequestParam String instanceId,
+			@RequestParam String permission) {
+		// 인스턴스 색인에서 권한 ID 기준 보유자 조회 + 역할 카탈로그에서 권한을 부여하는 역할 조회
+		PermissionHoldersDto response = holderIndex.getHolders(instanceId, permission);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok(response));
+	}
+
+	// 권한 보유 사용자 PK 페이지 조회 API (그룹 멤버·역할 보유자 포함, 사용자 PK 오름차순 키셋 페이징)
+	// 응답의 nextCursor를 다음 요청의 after로 전달하며, nextCursor가 null이면 마지막 페이지
+	// GET /permissions/holders/users?instanceId=...&permission=BOARD_POST_READ&after=...&size=1000
+	@GetMapping("/users")
+	public ResponseEntity<ApiResponseDto<HolderUserPageDto>> getHolderUsers(
+			@RequestParam String instanceId,
+			@RequestParam String permission,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "1000") int size) {
+		// 직접 부여 사용자 + 소유자 + 그룹 멤버 + 역할 보유자를 병합하여 size명 반환 (최대 5000)
+		HolderUserPageDto response = holderIndex.getHolderUserPage(instanceId, permission, after, size);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok(response));
+	}
+}
@@ -0,0 +1,38 @@
+package com.gizzi.admin.controller.permission;
+
+import com.gizzi.core.common.dto.ApiResponseDto;
+import com.gizzi.core.module.dto.PermissionMatrixResultDto;
+import com.gizzi.core.module.dto.SetPermissionMatrixRequestDto;
+import com.gizzi.core.module.service.ModulePermissionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 관리자 권한 매트릭스 API 컨트롤러
+// 여러 그룹 × 여러 모듈 인스턴스의 권한을 한 번의 요청으로 일괄 설정한다
+@Slf4j
+@RestController
+@RequestMapping("/permissions")
+@RequiredArgsConstructor
+public class PermissionMatrixController {
+
+	// 모듈 권한 서비스
+	private final ModulePermissionService permissionService;
+
+	// 권한 매트릭스 일괄 설정 API (요청에 포함된 칸만 diff로 반영)
+	// PUT /permissions/matrix
+	@PutMapping("/matrix")
+	public ResponseEntity<ApiResponseDto<PermissionMatrixResultDto>> setMatrix(
+			@Valid @RequestBody SetPermissionMatrixRequestDto request) {
+		// 칸별 목표 상태와 기존 상태를 비교해 바뀐 행만 반영
+		PermissionMatrixResultDto response = permissionService.setPermissionMatrix(request);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok(response));
+	}
+}
@@ -0,0 +1,154 @@
+package com.gizzi.admin.controller.role;
+
+import com.gizzi.core.common.dto.ApiResponseDto;
+import com.gizzi.core.domain.role.dto.CreateRoleRequestDto;
+import com.gizzi.core.domain.role.dto.RoleResponseDto;
+import com.gizzi.core.domain.role.dto.SetRolePermissionsRequestDto;
+import com.gizzi.core.domain.role.service.RoleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 관리자 역할 관리 API 컨트롤러
+// 역할(모듈 권한 묶음) CRUD + 사용자/그룹/그룹 멤버 역할 부여·회수 기능을 제공한다
+// 부여/회수는 멱등이며 사용자/그룹 식별자는 PK를 사용한다
+@Slf4j
+@RestController
+@RequestMapping("/roles")
+@RequiredArgsConstructor
+public class RoleController {
+
+	// 역할 서비스
+	private final RoleService roleService;
+
+	// 역할 생성 API
+	@PostMapping
+	public ResponseEntity<ApiResponseDto<RoleResponseDto>> createRole(
+			@Valid @RequestBody CreateRoleRequestDto request) {
+		// 역할 생성 서비스 호출
+		RoleResponseDto response = roleService.createRole(request);
+
+		// 201 Created 응답 반환
+		return ResponseEntity
+			.status(HttpStatus.CREATED)
+			.body(ApiResponseDto.ok(response));
+	}
+
+	// 전체 역할 목록 조회 API (역할별 권한 ID 포함)
+	@GetMapping
+	public ResponseEntity<ApiResponseDto<List<RoleResponseDto>>> getRoles() {
+		// 전체 역할 목록 서비스 호출
+		List<RoleResponseDto> response = roleService.getRoles();
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok(response));
+	}
+
+	// 역할 삭제 API
+	@DeleteMapping("/{roleId}")
+	public ResponseEntity<Void> deleteRole(@PathVariable String roleId) {
+		// 역할 삭제 서비스 호출
+		roleService.deleteRole(roleId);
+
+		// 204 No Content 응답 반환
+		return ResponseEntity.noContent().build();
+	}
+
+	// 역할 권한 전체 교체 API
+	@PutMapping("/{roleId}/permissions")
+	public ResponseEntity<ApiResponseDto<RoleResponseDto>> setRolePermissions(
+			@PathVariable String roleId,
+			@Valid @RequestBody SetRolePermissionsRequestDto request) {
+		// 역할 권한 설정 서비스 호출 (바뀐 행만 반영)
+		RoleResponseDto response = roleService.setRolePermissions(roleId, request);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok(response));
+	}
+
+	// 사용자 역할 부여 API
+	@PutMapping("/{roleId}/users/{userId}")
+	public ResponseEntity<ApiResponseDto<Void>> assignToUser(
+			@PathVariable String roleId,
+			@PathVariable String userId) {
+		// 사용자 역할 부여 서비스 호출
+		roleService.assignToUser(roleId, userId);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok());
+	}
+
+	// 사용자 역할 회수 API
+	@DeleteMapping("/{roleId}/users/{userId}")
+	public ResponseEntity<Void> revokeFromUser(
+			@PathVariable String roleId,
+			@PathVariable String userId) {
+		// 사용자 역할 회수 서비스 호출
+		roleService.revokeFromUser(roleId, userId);
+
+		// 204 No Content 응답 반환
+		return ResponseEntity.noContent().build();
+	}
+
+	// 그룹 역할 부여 API (그룹의 모든 멤버에게 적용)
+	@PutMapping("/{roleId}/groups/{groupId}")
+	public ResponseEntity<ApiResponseDto<Void>> assignToGroup(
+			@PathVariable String roleId,
+			@PathVariable String groupId) {
+		// 그룹 역할 부여 서비스 호출
+		roleService.assignToGroup(roleId, groupId);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok());
+	}
+
+	// 그룹 역할 회수 API
+	@DeleteMapping("/{roleId}/groups/{groupId}")
+	public ResponseEntity<Void> revokeFromGroup(
+			@PathVariable String roleId,
+			@PathVariable String groupId) {
+		// 그룹 역할 회수 서비스 호출
+		roleService.revokeFromGroup(roleId, groupId);
+
+		// 204 No Content 응답 반환
+		return ResponseEntity.noContent().build();
+	}
+
+	// 그룹 멤버 역할 부여 API (해당 그룹 소속인 동안만 유효)
+	@PutMapping("/{roleId}/groups/{groupId}/members/{userId}")
+	public ResponseEntity<ApiResponseDto<Void>> assignToGroupMember(
+			@PathVariable String roleId,
+			@PathVariable String groupId,
+			@PathVariable String userId) {
+		// 그룹 멤버 역할 부여 서비스 호출
+		roleService.assignToGroupMember(roleId, groupId, userId);
+
+		// 200 OK 응답 반환
+		return ResponseEntity.ok(ApiResponseDto.ok());
+	}
+
+	// 그룹 멤버 역할 회수 API
+	@DeleteMapping("/{roleId}/groups/{groupId}/members/{userId}")
+	public ResponseEntity<Void> revokeFromGroupMember(
+			@PathVariable String roleId,
+			@PathVariable String groupId,
+			@PathVariable String userId) {
+		// 그룹 멤버 역할 회수 서비스 호출
+		roleService.revokeFromGroupMember(roleId, groupId, userId);
+
+		// 204 No Content 응답 반환
+		return ResponseEntity.noContent().build();
+	}
+}
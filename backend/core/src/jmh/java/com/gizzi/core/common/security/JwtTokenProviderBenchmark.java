@@ -0,0 +1,87 @@
+package com.gizzi.core.common.security;
+
+import com.gizzi.core.common.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Access Token 클레임 파싱 벤치마크
+// 요청마다 파서를 빌드하던 방식, 미리 빌드한 파서로 매번 검증하는 방식(캐시 미스 경로),
+// 검증된 클레임 캐시를 거치는 JwtTokenProvider.parseClaims(캐시 히트 경로)를 비교한다
+//
+// 실행: ./gradlew :core:jmh -Pjmh.includes=JwtTokenProviderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String SECRET = "benchmark-secret-key-at-least-256-bits-long!!";	// HMAC 비밀키 (32바이트 이상)
+	private static final String ISSUER = "benchmark";										// 발급자 식별자
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 벤치마크 상태 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private JwtTokenProvider provider;		// 클레임 캐시를 사용하는 대상
+	private JwtParser        parser;		// 미리 빌드한 파서 (캐시 미스 경로와 동일)
+	private SecretKey        secretKey;		// 요청마다 파서를 빌드할 때 사용할 키
+	private String           token;			// 파싱할 Access Token
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 토큰 발급 + 캐시 예열
+	//----------------------------------------------------------------------------------------------------------------------
+	@Setup
+	public void setUp()
+	{
+		// 만료 시간은 DB 설정 없이 프로퍼티만 사용 (SettingService 불필요)
+		JwtProperties properties = new JwtProperties(SECRET, 3_600_000L, 604_800_000L, 30, ISSUER);
+		provider  = new JwtTokenProvider(properties, null);
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		parser    = Jwts.parser().verifyWith(secretKey).requireIssuer(ISSUER).build();
+		token     = provider.generateAccessToken(UUID.randomUUID().toString(), "bench", UUID.randomUUID().toString());
+		provider.parseClaims(token);
+	}
+
+	//======================================================================================================================
+	// 변경 전 — 요청마다 파서 빌드 + 서명 검증 + JSON 파싱
+	//======================================================================================================================
+	@Benchmark
+	public Claims parserPerCall()
+	{
+		return Jwts.parser().verifyWith(secretKey).requireIssuer(ISSUER).build()
+			.parseSignedClaims(token).getPayload();
+	}
+
+	//======================================================================================================================
+	// 캐시 미스 경로 — 미리 빌드한 파서로 서명 검증 + JSON 파싱
+	//======================================================================================================================
+	@Benchmark
+	public Claims prebuiltParser()
+	{
+		return parser.parseSignedClaims(token).getPayload();
+	}
+
+	//======================================================================================================================
+	// 캐시 히트 경로 — 토큰 SHA-256 + 클레임 캐시 조회
+	//======================================================================================================================
+	@Benchmark
+	public Claims cachedClaims()
+	{
+		return provider.parseClaims(token);
+	}
+}
@@ -0,0 +1,111 @@
+package com.gizzi.core.domain.session.entity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 세션 저장 벤치마크 (H2 인메모리 + Hibernate)
+// Persistable로 신규 여부를 알려 persist(INSERT 1회)로 저장하는 현재 경로와,
+// 선발급 ID 때문에 save()가 merge(SELECT + INSERT)로 빠지던 경로,
+// 임시 해시로 먼저 저장한 뒤 토큰 발급 후 updateTokens로 갱신하던 이전 흐름(INSERT + UPDATE)을 비교한다
+//
+// 실행: ./gradlew :core:jmh -Pjmh.includes=SessionEntityPersistBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionEntityPersistBenchmark
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String USER_ID      = UUID.randomUUID().toString();	// 세션 소유 사용자 PK
+	private static final String PENDING_HASH = "pending";						// 이전 흐름의 임시 토큰 해시
+	private static final String TOKEN_HASH   = "a".repeat(64);					// SHA-256 hex 길이의 토큰 해시
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 벤치마크 상태 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private SessionFactory sessionFactory;		// tb_sessions 단일 엔티티 세션 팩토리
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — H2 인메모리 DB에 tb_sessions 스키마 생성
+	//----------------------------------------------------------------------------------------------------------------------
+	@Setup
+	public void setUp()
+	{
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(SessionEntity.class)
+			.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:session-bench;DB_CLOSE_DELAY=-1")
+			.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+			.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+			.buildSessionFactory();
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 종료 — 세션 팩토리 닫기 (스키마 삭제)
+	//----------------------------------------------------------------------------------------------------------------------
+	@TearDown
+	public void tearDown()
+	{
+		sessionFactory.close();
+	}
+
+	//======================================================================================================================
+	// 현재 경로 — isNew()=true이므로 save()가 persist 호출 (INSERT 1회)
+	//======================================================================================================================
+	@Benchmark
+	public SessionEntity persistNew()
+	{
+		SessionEntity session = newSession(TOKEN_HASH);
+		sessionFactory.inTransaction(em -> em.persist(session));
+		return session;
+	}
+
+	//======================================================================================================================
+	// Persistable 미구현 시 — 선발급 ID가 있어 save()가 merge 호출 (SELECT + INSERT)
+	//======================================================================================================================
+	@Benchmark
+	public SessionEntity mergeNew()
+	{
+		SessionEntity session = newSession(TOKEN_HASH);
+		return sessionFactory.fromTransaction(em -> em.merge(session));
+	}
+
+	//======================================================================================================================
+	// 이전 흐름 — 임시 해시로 저장 후 토큰 발급 결과로 갱신 (INSERT + UPDATE)
+	//======================================================================================================================
+	@Benchmark
+	public SessionEntity persistThenUpdateTokens()
+	{
+		SessionEntity session = newSession(PENDING_HASH);
+		sessionFactory.inTransaction(em ->
+		{
+			em.persist(session);
+			em.flush();
+			session.updateTokens(TOKEN_HASH, TOKEN_HASH, session.getAccessExpiresAt(), session.getRefreshExpiresAt());
+		});
+		return session;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 선발급 ID로 새 세션 엔티티 생성
+	//----------------------------------------------------------------------------------------------------------------------
+	private static SessionEntity newSession(String tokenHash)
+	{
+		LocalDateTime now = LocalDateTime.now();
+		return SessionEntity.create(UUID.randomUUID().toString(), USER_ID, "LOCAL",
+			tokenHash, tokenHash, now.plusMinutes(30), now.plusDays(7), "127.0.0.1", "jmh");
+	}
+}
@@ -0,0 +1,259 @@
+package com.gizzi.core.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 노드 간 캐시 무효화 버스 — 인프로세스 캐시가 토픽 단위로 무효화를 발행/구독한다
+// 모든 토픽이 Redis Pub/Sub 채널 하나를 공유하며, 메시지 형식은 "{topic}|{version}|{nodeId}|{key}"
+//   - version: 토픽별 Redis 카운터(cache:invalidation:version:{topic}) INCR 값 — 토픽 내 전역 순번
+//   - nodeId : 발행 노드 식별자 — 발행 노드는 이미 로컬에 적용했으므로 자기 메시지는 버전만 기록한다
+//   - key    : 무효화 범위 (ALL = 토픽 전체)
+// Pub/Sub은 구독이 끊긴 동안의 메시지를 보관하지 않으므로 두 경로로 누락을 따라잡는다
+//   1. 수신한 버전이 마지막으로 본 버전 + 1보다 크면 (중간 메시지 누락) 토픽 전체 무효화
+//   2. 주기적으로 토픽별 버전 카운터를 읽어 마지막으로 본 버전보다 크면 (재연결 전 누락) 토픽 전체 무효화
+// 핸들러는 리스너 스레드에서 호출되므로 짧게 끝나야 하며, 예외는 로그만 남기고 다른 핸들러 호출을 계속한다
+//
+// 사용 예:
+//   bus.subscribe(CacheTopic.SETTINGS, key -> refresh());
+//   bus.publishAfterCommit(CacheTopic.SETTINGS, "system/session");
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	public  static final String CHANNEL        = "cache:invalidate";				// 무효화 브로드캐스트 채널
+	public  static final String ALL            = "*";								// 토픽 전체 무효화 표식
+	private static final String VERSION_PREFIX = "cache:invalidation:version:";	// 토픽별 버전 카운터 키 접두사
+	private static final String SEPARATOR      = "|";								// 메시지 필드 구분자
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final StringRedisTemplate           redisTemplate;		// 버전 카운터 + 메시지 발행
+	private final RedisMessageListenerContainer listenerContainer;	// Redis Pub/Sub 리스너 컨테이너
+	private final MeterRegistry                 meterRegistry;		// 메트릭 레지스트리
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상태 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final String                                  nodeId   = UUID.randomUUID().toString();		// 이 노드의 식별자
+	private final Map<CacheTopic, List<Consumer<String>>> handlers = new EnumMap<>(CacheTopic.class);	// 토픽 → 구독 핸들러 (init 이후 읽기 전용 맵)
+	private final Map<CacheTopic, AtomicLong>             seen     = new EnumMap<>(CacheTopic.class);	// 토픽 → 마지막으로 본 버전 (init 이후 읽기 전용 맵)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 토픽별 상태 준비 + 채널 구독 + 현재 버전을 기준점으로 기록
+	// 시작 시점의 캐시는 DB에서 새로 적재되므로 이전 버전의 메시지는 따라잡을 필요가 없다
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostConstruct
+	void init()
+	{
+		for (CacheTopic topic : CacheTopic.values())
+		{
+			handlers.put(topic, new CopyOnWriteArrayList<>());
+			seen.put(topic, new AtomicLong());
+		}
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+		Map<CacheTopic, Long> versions = readVersions();
+		if (versions != null)
+		{
+			versions.forEach((topic, version) -> seen.get(topic).set(version));
+		}
+	}
+
+	//======================================================================================================================
+	// 토픽 구독 — handler는 무효화 키(ALL이면 토픽 전체)를 받는다
+	// 로컬 발행, 다른 노드의 메시지, 누락 따라잡기 모두 같은 핸들러로 전달된다
+	//======================================================================================================================
+	public void subscribe(CacheTopic topic, Consumer<String> handler)
+	{
+		handlers.get(topic).add(handler);
+	}
+
+	//======================================================================================================================
+	// 트랜잭션 커밋 후 모든 노드에 무효화 발행 (트랜잭션 밖이면 즉시)
+	//======================================================================================================================
+	public void publishAfterCommit(CacheTopic topic, String key)
+	{
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+		{
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+			{
+				@Override
+				public void afterCommit()
+				{
+					publish(topic, key);
+				}
+			});
+			return;
+		}
+		publish(topic, key);
+	}
+
+	//======================================================================================================================
+	// 무효화 메시지 수신
+	//======================================================================================================================
+	@Override
+	public void onMessage(Message message, byte[] pattern)
+	{
+		String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+		if (fields.length < 4)
+		{
+			log.warn("캐시 무효화 메시지 형식 오류 — 무시: body={}", new String(message.getBody(), StandardCharsets.UTF_8));
+			return;
+		}
+
+		CacheTopic topic = CacheTopic.fromCode(fields[0]);
+		if (topic == null)
+		{
+			return;
+		}
+
+		long version;
+		try
+		{
+			version = Long.parseLong(fields[1]);
+		}
+		catch (NumberFormatException e)
+		{
+			log.warn("캐시 무효화 메시지 버전 오류 — 토픽 전체 무효화: topic={}", topic.getCode());
+			dispatch(topic, ALL, "gap");
+			return;
+		}
+
+		// 마지막으로 본 버전 갱신 — 중간 버전이 비었다면 누락된 메시지가 있으므로 토픽 전체 무효화
+		long previous = seen.get(topic).getAndAccumulate(version, Math::max);
+		if (version > previous + 1)
+		{
+			log.info("캐시 무효화 메시지 누락 감지 — 토픽 전체 무효화: topic={}, seen={}, received={}",
+					topic.getCode(), previous, version);
+			dispatch(topic, ALL, "gap");
+			return;
+		}
+
+		// 자기 자신이 발행한 메시지는 발행 시 이미 로컬에 적용됨
+		if (nodeId.equals(fields[2]) || version <= previous)
+		{
+			return;
+		}
+		dispatch(topic, fields[3], "received");
+	}
+
+	//======================================================================================================================
+	// 누락 따라잡기 (주기 실행) — 토픽별 버전 카운터가 마지막으로 본 버전보다 크면 토픽 전체 무효화
+	// 구독 연결이 끊겼다가 재연결된 경우처럼 Pub/Sub 메시지가 통째로 유실된 구간을 복구한다
+	//======================================================================================================================
+	@Scheduled(fixedDelayString = "${app.cache.invalidation.catch-up-ms:10000}")
+	public void catchUp()
+	{
+		Map<CacheTopic, Long> versions = readVersions();
+		if (versions == null)
+		{
+			return;
+		}
+
+		versions.forEach((topic, version) ->
+		{
+			long previous = seen.get(topic).getAndAccumulate(version, Math::max);
+			if (version > previous)
+			{
+				log.info("캐시 무효화 따라잡기 — 토픽 전체 무효화: topic={}, seen={}, current={}",
+						topic.getCode(), previous, version);
+				dispatch(topic, ALL, "catch-up");
+			}
+		});
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로컬 적용 후 버전 증가 + 브로드캐스트 (Redis 장애 시 로컬만 적용, 다른 노드는 복구 후 따라잡기로 반영)
+	//----------------------------------------------------------------------------------------------------------------------
+	private void publish(CacheTopic topic, String key)
+	{
+		dispatch(topic, key, "published");
+		try
+		{
+			// 마지막으로 본 버전은 자기 메시지를 수신할 때 갱신한다
+			// (여기서 미리 올리면 먼저 INCR한 다른 노드의 메시지가 뒤늦게 도착했을 때 오래된 버전으로 버려진다)
+			Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + topic.getCode());
+			redisTemplate.convertAndSend(CHANNEL,
+					topic.getCode() + SEPARATOR + version + SEPARATOR + nodeId + SEPARATOR + key);
+		}
+		catch (Exception e)
+		{
+			log.warn("캐시 무효화 발행 실패: topic={}, key={}, error={}", topic.getCode(), key, e.getMessage());
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토픽 핸들러 호출 (핸들러 예외는 로그만 남기고 계속)
+	//----------------------------------------------------------------------------------------------------------------------
+	private void dispatch(CacheTopic topic, String key, String source)
+	{
+		meterRegistry.counter("cache.invalidation", "topic", topic.getCode(), "source", source).increment();
+		for (Consumer<String> handler : handlers.get(topic))
+		{
+			try
+			{
+				handler.accept(key);
+			}
+			catch (Exception e)
+			{
+				log.warn("캐시 무효화 핸들러 실패: topic={}, key={}, error={}", topic.getCode(), key, e.getMessage());
+			}
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토픽별 현재 버전 일괄 조회 (MGET 1회, 카운터가 없으면 0, Redis 장애 시 null)
+	//----------------------------------------------------------------------------------------------------------------------
+	private Map<CacheTopic, Long> readVersions()
+	{
+		CacheTopic[] topics = CacheTopic.values();
+		List<String> keys   = new ArrayList<>(topics.length);
+		for (CacheTopic topic : topics)
+		{
+			keys.add(VERSION_PREFIX + topic.getCode());
+		}
+
+		try
+		{
+			List<String>          values   = redisTemplate.opsForValue().multiGet(keys);
+			Map<CacheTopic, Long> versions = new EnumMap<>(CacheTopic.class);
+			for (int i = 0; i < topics.length; i++)
+			{
+				String value = values != null ? values.get(i) : null;
+				versions.put(topics[i], value != null ? Long.parseLong(value) : 0L);
+			}
+			return versions;
+		}
+		catch (Exception e)
+		{
+			log.warn("캐시 무효화 버전 조회 실패: error={}", e.getMessage());
+			return null;
+		}
+	}
+}
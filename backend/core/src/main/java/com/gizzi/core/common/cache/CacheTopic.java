@@ -0,0 +1,45 @@
+package com.gizzi.core.common.cache;
+
+// 캐시 무효화 버스 토픽 — 인프로세스 캐시 단위로 하나씩 정의한다
+// code는 메시지 본문과 Redis 버전 키(cache:invalidation:version:{code})에 사용되므로 배포 후 변경하지 않는다
+// 새 캐시를 버스에 연결하려면 토픽을 추가하고 CacheInvalidationBus.subscribe()로 핸들러를 등록한다
+public enum CacheTopic
+{
+	SETTINGS("settings"),						// 시스템/모듈 설정 스냅샷 (SettingCache)
+	SYSTEM_INIT("system-init"),					// 시스템 초기화 여부 (SystemInitService)
+	ADMIN_MEMBERS("admin-members"),				// 관리자 그룹 PK + 멤버 집합 (AdminAccessService)
+	MODULE_PERMISSIONS("module-permissions"),	// 모듈 권한 정의 카탈로그 (ModuleRegistry → PermissionCatalog)
+	PERMISSIONS("permissions"),					// 컴파일된 권한 + 권한 역색인 + 멤버십 + 역할 카탈로그 (PermissionCache)
+	MENUS("menus"),								// 보이는 메뉴 스냅샷 + 프로필별 메뉴 트리 (MenuTreeCache)
+	AUTH_PROVIDERS("auth-providers");			// 인증 제공자 설정 스냅샷 (AuthProviderCache)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final String code;	// 메시지/버전 키에 쓰이는 토픽 코드
+
+	CacheTopic(String code)
+	{
+		this.code = code;
+	}
+
+	public String getCode()
+	{
+		return code;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토픽 코드 → 토픽 (모르는 코드면 null — 버전이 다른 노드가 보낸 신규 토픽은 무시)
+	//----------------------------------------------------------------------------------------------------------------------
+	public static CacheTopic fromCode(String code)
+	{
+		for (CacheTopic topic : values())
+		{
+			if (topic.code.equals(code))
+			{
+				return topic;
+			}
+		}
+		return null;
+	}
+}
@@ -1,5 +1,7 @@
 package com.gizzi.core.common.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,16 +10,50 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 //----------------------------------------------------------------------------------------------------------------------
 // 비밀번호 인코더 설정
 // BCrypt 해싱을 제공하며 Spring Security 인증 매니저에서도 이 빈을 사용한다
+// 기동 시 목표 지연 시간에 맞춰 cost factor를 보정한다 (하드웨어가 빨라질수록 cost가 올라감)
 //----------------------------------------------------------------------------------------------------------------------
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig
 {
 	//----------------------------------------------------------------------------------------------------------------------
-	// BCrypt 패스워드 인코더 빈 등록 (cost factor: 기본값 10)
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final int    MIN_COST           = 10;						// 최소 cost (기존 기본값, 이보다 낮추지 않음)
+	private static final String CALIBRATION_SAMPLE = "calibration-password";	// 보정 측정용 샘플 문자열
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// BCrypt 패스워드 인코더 빈 등록 (cost factor: 목표 지연 시간 기준 자동 보정, 최소 10)
 	//----------------------------------------------------------------------------------------------------------------------
 	@Bean
-	public PasswordEncoder passwordEncoder()
+	public PasswordEncoder passwordEncoder(@Value("${app.password.target-hash-ms:250}") long targetHashMs,
+	                                       @Value("${app.password.max-cost:14}") int maxCost)
+	{
+		return new BCryptPasswordEncoder(calibrateCost(targetHashMs, maxCost));
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 목표 지연 시간을 넘지 않는 가장 높은 cost 선택
+	// cost가 1 오를 때마다 소요 시간이 약 2배가 되므로 최소 cost에서 한 번 측정 후 배수로 추정한다
+	//----------------------------------------------------------------------------------------------------------------------
+	private int calibrateCost(long targetHashMs, int maxCost)
 	{
-		return new BCryptPasswordEncoder();
+		// 최소 cost로 1회 워밍업 + 1회 측정
+		BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_COST);
+		probe.encode(CALIBRATION_SAMPLE);
+		long start     = System.nanoTime();
+		probe.encode(CALIBRATION_SAMPLE);
+		double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+
+		// 추정 소요 시간이 목표 이내인 동안 cost 증가
+		int cost = MIN_COST;
+		while (cost < maxCost && elapsed * 2 <= targetHashMs)
+		{
+			cost++;
+			elapsed *= 2;
+		}
+
+		log.info("BCrypt cost 보정 완료: cost={}, 예상 해싱 시간={}ms (목표 {}ms)", cost, Math.round(elapsed), targetHashMs);
+		return cost;
 	}
 }
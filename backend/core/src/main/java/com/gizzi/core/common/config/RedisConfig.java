@@ -0,0 +1,27 @@
+package com.gizzi.core.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+//----------------------------------------------------------------------------------------------------------------------
+// Redis 부가 설정
+// Pub/Sub 메시지 리스너 컨테이너를 등록한다 (노드 간 캐시 무효화 브로드캐스트 수신용)
+// 채널 구독은 각 캐시 컴포넌트가 자신의 초기화 시점에 직접 등록한다
+//----------------------------------------------------------------------------------------------------------------------
+@Configuration
+public class RedisConfig
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// Redis Pub/Sub 리스너 컨테이너 빈 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory)
+	{
+		// 스프링이 관리하는 자동 연결 팩토리로 구독 연결 생성
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+}
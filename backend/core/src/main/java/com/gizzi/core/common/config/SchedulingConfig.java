@@ -0,0 +1,15 @@
+package com.gizzi.core.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//----------------------------------------------------------------------------------------------------------------------
+// 스케줄링 설정
+// @Scheduled 백그라운드 작업(세션 활동 기록 플러시 등)을 활성화한다
+// 스케줄러 스레드 풀 크기는 spring.task.scheduling.pool.size로 지정한다 (기본 1개 — 긴 작업이 다른 작업을 막지 않도록 각 앱 설정에서 늘림)
+//----------------------------------------------------------------------------------------------------------------------
+@Configuration
+@EnableScheduling
+public class SchedulingConfig
+{
+}
@@ -16,6 +16,7 @@ public enum AuthErrorCode implements ErrorCode
 	UNAUTHORIZED         ("AUTH_UNAUTHORIZED",          "인증이 필요합니다",                        "Authorization 헤더 누락 또는 무효",             HttpStatus.UNAUTHORIZED),		// 인증되지 않은 요청
 	ACCESS_DENIED        ("AUTH_ACCESS_DENIED",         "접근 권한이 없습니다",                     "인증은 되었으나 해당 리소스에 대한 권한 없음",   HttpStatus.FORBIDDEN),			// 접근 권한 부족
 	INVALID_CREDENTIALS  ("AUTH_INVALID_CREDENTIALS",   "아이디 또는 비밀번호가 올바르지 않습니다", "로그인 자격증명 검증 실패",                      HttpStatus.UNAUTHORIZED),		// 로그인 자격증명 불일치
+	TOO_MANY_LOGIN_ATTEMPTS("AUTH_TOO_MANY_ATTEMPTS",   "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", "IP 또는 로그인 ID의 최근 실패 횟수가 한도를 초과함", HttpStatus.TOO_MANY_REQUESTS),	// 로그인 시도 한도 초과
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 계정 상태 에러 ]
@@ -16,7 +16,8 @@ public enum CommonErrorCode implements ErrorCode
 	INTERNAL_SERVER_ERROR("COM_INTERNAL_ERROR",     "서버 내부 오류",         "예상치 못한 서버 오류가 발생함",        HttpStatus.INTERNAL_SERVER_ERROR),	// 서버 내부 오류
 	INVALID_INPUT        ("COM_INVALID_INPUT",      "유효하지 않은 입력값",   "Bean Validation 검증 실패",            HttpStatus.BAD_REQUEST),			// Bean Validation 실패
 	RESOURCE_NOT_FOUND   ("COM_RESOURCE_NOT_FOUND", "리소스를 찾을 수 없음", "요청한 리소스가 존재하지 않음",         HttpStatus.NOT_FOUND),				// 리소스 미존재
-	METHOD_NOT_ALLOWED   ("COM_METHOD_NOT_ALLOWED", "허용되지 않은 메서드",  "HTTP 메서드가 지원되지 않음",           HttpStatus.METHOD_NOT_ALLOWED);		// HTTP 메서드 불일치
+	METHOD_NOT_ALLOWED   ("COM_METHOD_NOT_ALLOWED", "허용되지 않은 메서드",  "HTTP 메서드가 지원되지 않음",           HttpStatus.METHOD_NOT_ALLOWED),		// HTTP 메서드 불일치
+	SERVER_BUSY          ("COM_SERVER_BUSY",        "요청이 많아 처리할 수 없음", "작업 큐가 가득 차 요청을 즉시 거부함",   HttpStatus.SERVICE_UNAVAILABLE);	// 작업 큐 포화 (비밀번호 해싱 등)
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 필드 ]
@@ -29,7 +29,12 @@ public enum ModuleErrorCode implements ErrorCode
 	//----------------------------------------------------------------------------------------------------------------------
 	MODULE_SINGLE_NO_INSTANCE       ("MODULE_SINGLE_NO_INSTANCE",         "SINGLE 타입 모듈은 인스턴스를 생성할 수 없습니다",    "SINGLE 모듈에 인스턴스 생성 시도",          HttpStatus.BAD_REQUEST),	// SINGLE 모듈 인스턴스 생성 불가
 	MODULE_DISABLED                 ("MODULE_DISABLED",                   "비활성 상태인 모듈입니다",                          "is_enabled=false인 모듈 접근 시도",         HttpStatus.BAD_REQUEST),	// 비활성 모듈 접근
-	MODULE_INVALID_SLUG             ("MODULE_INVALID_SLUG",               "올바르지 않은 슬러그 형식입니다",                    "slug 정규식 검증 실패",                    HttpStatus.BAD_REQUEST);	// 슬러그 형식 오류
+	MODULE_INVALID_SLUG             ("MODULE_INVALID_SLUG",               "올바르지 않은 슬러그 형식입니다",                    "slug 정규식 검증 실패",                    HttpStatus.BAD_REQUEST),	// 슬러그 형식 오류
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 권한 에러 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	MODULE_PERMISSION_INVALID       ("MODULE_PERMISSION_INVALID",         "인스턴스에 부여할 수 없는 권한입니다",                "인스턴스 모듈에 정의되지 않은 권한 ID",       HttpStatus.BAD_REQUEST);	// 모듈 불일치/미정의 권한
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 필드 ]
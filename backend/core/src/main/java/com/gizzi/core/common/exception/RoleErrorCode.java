@@ -0,0 +1,26 @@
+package com.gizzi.core.common.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// 역할 관련 에러 코드 (ROLE_*)
+// 역할 CRUD, 역할 권한 설정, 역할 부여/회수에서 발생하는 비즈니스 에러
+@Getter
+@AllArgsConstructor
+public enum RoleErrorCode implements ErrorCode
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 역할 조회/생성 에러 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	ROLE_NOT_FOUND               ("ROLE_NOT_FOUND",                   "역할을 찾을 수 없습니다",                       "PK로 역할 조회 실패",                     HttpStatus.NOT_FOUND),		// 역할 조회 실패
+	DUPLICATE_ROLE_CODE          ("ROLE_DUPLICATE_CODE",              "이미 사용 중인 역할 코드입니다",                 "code 중복 검증 실패",                    HttpStatus.CONFLICT);		// 역할 코드 중복
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final String     code;			// 에러 코드 문자열 (예: "ROLE_NOT_FOUND")
+	private final String     message;		// 사용자에게 표시할 에러 메시지
+	private final String     description;	// 개발자용 상세 설명 (로깅/디버깅 용도)
+	private final HttpStatus httpStatus;	// HTTP 상태 코드
+}
@@ -1,6 +1,7 @@
 package com.gizzi.core.common.security;
 
-import com.gizzi.core.domain.auth.service.RedisTokenService;
+import com.gizzi.core.domain.auth.service.AccessTokenLivenessCache;
+import com.gizzi.core.domain.session.service.SessionActivityTracker;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -28,8 +29,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private final JwtTokenProvider  jwtTokenProvider;		// JWT 토큰 생성/파싱 컴포넌트
-	private final RedisTokenService redisTokenService;		// Redis 토큰 세션 관리 서비스
+	private final JwtTokenProvider         jwtTokenProvider;		// JWT 토큰 생성/파싱 컴포넌트
+	private final AccessTokenLivenessCache livenessCache;			// Access Token 활성 상태 니어 캐시 (Redis 폴백)
+	private final SessionActivityTracker   sessionActivityTracker;	// 세션 최근 접속 시각 write-behind 기록기
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 상수 ]
@@ -69,9 +71,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
 			String sessionId = jwtTokenProvider.getSessionId(claims);
 
 			//----------------------------------------------------------------------------------------------------------------------
-			// 4. Redis에서 Access Token 활성 상태 확인 (로그아웃 체크)
+			// 4. Access Token 활성 상태 확인 (로그아웃 체크 — 니어 캐시 우선, 미스 시 Redis 조회)
 			//----------------------------------------------------------------------------------------------------------------------
-			if (!redisTokenService.isAccessTokenActive(userPk, sessionId))
+			if (!livenessCache.isActive(userPk, sessionId))
 			{
 				log.debug("비활성 Access Token: userPk={}, sessionId={}", userPk, sessionId);
 				filterChain.doFilter(request, response);
@@ -88,6 +90,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
 					List.of(new SimpleGrantedAuthority("ROLE_USER"))     // 기본 권한
 				);
 			SecurityContextHolder.getContext().setAuthentication(authentication);
+
+			// 세션 최근 접속 시각 기록 (메모리 버퍼, 주기적으로 DB 일괄 반영)
+			sessionActivityTracker.touch(sessionId);
 		}
 		catch (JwtException e)
 		{
@@ -1,9 +1,12 @@
 package com.gizzi.core.common.security;
 
 import com.gizzi.core.common.config.JwtProperties;
+import com.gizzi.core.common.util.HashUtil;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +16,12 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
 
 // JWT 토큰 생성, 파싱, 검증을 담당하는 컴포넌트
 // Access Token과 Refresh Token의 생성 및 클레임 추출을 처리한다
+// 파서는 생성 시 한 번만 빌드하여 재사용하고 (스레드 안전), 검증된 Access Token 클레임은
+// 토큰 다이제스트 → 클레임 캐시에 토큰 자체의 만료 시각까지 보관하여 매 요청의 서명 검증/JSON 파싱을 생략한다
 @Slf4j
 @Component
 public class JwtTokenProvider
@@ -25,11 +31,36 @@ public class JwtTokenProvider
 	//----------------------------------------------------------------------------------------------------------------------
 	private final SecretKey     		secretKey;				// JWT 서명에 사용할 비밀키
 	private final JwtProperties 		jwtProperties;			// JWT 설정 프로퍼티 (기본값 역할)
+	private final JwtParser     		jwtParser;				// 서명 + issuer 검증 파서 (불변, 재사용)
 	//----------------------------------------------------------------------------------------------------------------------
 	// 시스템 설정 서비스 (DB 설정 우선, 실패 시 yml 폴백)
 	//----------------------------------------------------------------------------------------------------------------------
 	private final SettingService 		settingService;
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 설정 키 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final SettingKey ACCESS_TOKEN_EXP  = SettingKey.system("session", "access_token_exp");	// Access Token 만료 시간 설정 키
+	private static final SettingKey REFRESH_TOKEN_EXP = SettingKey.system("session", "refresh_token_exp");	// Refresh Token 만료 시간 설정 키
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 검증 클레임 캐시 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final int MAX_CLAIMS_CACHE_ENTRIES = 10_000;						// 최대 캐시 항목 수 (메모리 상한)
+	private final ConcurrentHashMap<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();	// 토큰 SHA-256 → 검증된 클레임
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 캐시 항목 — 검증된 클레임 + 토큰 만료 시각
+	//----------------------------------------------------------------------------------------------------------------------
+	private record CachedClaims(Claims claims, long expiresAt)
+	{
+		// 토큰 자체가 만료되었는지 확인
+		boolean isExpired(long now)
+		{
+			return now >= expiresAt;
+		}
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 생성자: 프로퍼티에서 비밀키 문자열을 SecretKey 객체로 변환
 	//----------------------------------------------------------------------------------------------------------------------
@@ -41,6 +72,13 @@ public class JwtTokenProvider
 		// 비밀키 문자열을 HMAC-SHA 키로 변환 (최소 256bit 필요)
 		//----------------------------------------------------------------------------------------------------------------------
 		this.secretKey 			= Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+		//----------------------------------------------------------------------------------------------------------------------
+		// 서명 검증 + issuer 일치 확인 파서를 한 번만 빌드 (JwtParser는 불변이며 스레드 안전)
+		//----------------------------------------------------------------------------------------------------------------------
+		this.jwtParser 			= Jwts.parser()
+			.verifyWith(secretKey)
+			.requireIssuer(jwtProperties.getIssuer())
+			.build();
 	}
 
 	//======================================================================================================================
@@ -96,16 +134,56 @@ public class JwtTokenProvider
 
 	//======================================================================================================================
 	// 토큰에서 클레임 파싱 (엄격 검증: 서명 + issuer + 만료 검증)
+	// 이미 검증된 Access Token이면 캐시된 클레임을 반환하고, 만료되었으면 파서로 넘겨 ExpiredJwtException을 발생시킨다
 	//======================================================================================================================
 	public Claims parseClaims(String token)
 	{
-		// 서명 검증 + issuer 일치 확인 + 만료 체크 후 클레임 반환
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.requireIssuer(jwtProperties.getIssuer())
-			.build()
-			.parseSignedClaims(token)
-			.getPayload();
+		//----------------------------------------------------------------------------------------------------------------------
+		// 캐시 조회 — 토큰 원문 대신 다이제스트를 키로 사용 (힙에 Bearer 토큰을 보관하지 않기 위함)
+		//----------------------------------------------------------------------------------------------------------------------
+		String       digest = HashUtil.sha256Hex(token);
+		CachedClaims cached = claimsCache.get(digest);
+		long         now    = System.currentTimeMillis();
+		if (cached != null)
+		{
+			// 만료 전이면 캐시 히트
+			if (!cached.isExpired(now))
+			{
+				return cached.claims();
+			}
+			// 만료된 항목은 제거 후 파서에서 만료 예외를 발생시키도록 진행 (grace period 처리 유지)
+			claimsCache.remove(digest);
+		}
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 캐시 미스 — 서명 검증 + issuer 일치 확인 + 만료 체크 후 클레임 반환
+		//----------------------------------------------------------------------------------------------------------------------
+		Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+		// Access Token만 캐시 (Refresh Token은 갱신 시 1회만 사용되므로 캐시 이득이 없음)
+		if (!isRefreshToken(claims) && claims.getExpiration() != null)
+		{
+			cacheClaims(digest, claims, now);
+		}
+		return claims;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 검증된 클레임을 캐시에 저장 (상한 도달 시 만료 항목 정리, 그래도 가득 차면 저장 생략)
+	//----------------------------------------------------------------------------------------------------------------------
+	private void cacheClaims(String digest, Claims claims, long now)
+	{
+		if (claimsCache.size() >= MAX_CLAIMS_CACHE_ENTRIES)
+		{
+			// 만료된 토큰 항목 일괄 제거
+			claimsCache.values().removeIf(entry -> entry.isExpired(now));
+			if (claimsCache.size() >= MAX_CLAIMS_CACHE_ENTRIES)
+			{
+				return;
+			}
+		}
+		// 토큰 자체의 만료 시각까지 보관
+		claimsCache.put(digest, new CachedClaims(claims, claims.getExpiration().getTime()));
 	}
 
 	//======================================================================================================================
@@ -188,7 +266,7 @@ public class JwtTokenProvider
 	{
 		try
 		{
-			return settingService.getSystemNumber("session", "access_token_exp");
+			return settingService.getNumber(ACCESS_TOKEN_EXP);
 		}
 		catch (Exception e)
 		{
@@ -208,7 +286,7 @@ public class JwtTokenProvider
 	{
 		try
 		{
-			return settingService.getSystemNumber("session", "refresh_token_exp");
+			return settingService.getNumber(REFRESH_TOKEN_EXP);
 		}
 		catch (Exception e)
 		{
@@ -0,0 +1,185 @@
+package com.gizzi.core.common.security;
+
+import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.common.exception.CommonErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 비밀번호 해싱 전용 서비스
+// BCrypt 연산을 전용 고정 크기 스레드 풀에서 실행하여 동시 해싱 수를 CPU 코어 수로 제한한다
+// 대기 큐가 가득 차면 즉시 거부(COM_SERVER_BUSY)하여 크리덴셜 스터핑 폭주가 Tomcat 워커를 모두 점유하지 않게 한다
+@Slf4j
+@Component
+public class PasswordHashingService
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final PasswordEncoder    passwordEncoder;	// BCrypt 인코더 (cost 보정 완료)
+	private final ThreadPoolExecutor executor;			// 해싱 전용 스레드 풀 (고정 크기 + 유한 큐)
+	private final long               timeoutMs;			// 해싱 결과 최대 대기 시간 (밀리초)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final Timer   encodeTimer;				// encode 소요 시간
+	private final Timer   matchesTimer;				// matches 소요 시간
+	private final Counter rejectedCounter;			// 큐 포화/대기 초과로 거부된 요청 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자: 해싱 전용 스레드 풀 구성 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	public PasswordHashingService(PasswordEncoder passwordEncoder,
+	                              MeterRegistry meterRegistry,
+	                              @Value("${app.password.hash-threads:0}") int threads,
+	                              @Value("${app.password.queue-capacity:64}") int queueCapacity,
+	                              @Value("${app.password.timeout-ms:5000}") long timeoutMs)
+	{
+		this.passwordEncoder = passwordEncoder;
+		this.timeoutMs       = timeoutMs;
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 스레드 수 미지정(0) 시 CPU 코어 수 사용, 큐 포화 시 AbortPolicy로 즉시 거부
+		//----------------------------------------------------------------------------------------------------------------------
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			poolSize, poolSize,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 메트릭 등록: 큐 길이/활성 스레드 게이지, 연산별 타이머, 거부 카운터
+		//----------------------------------------------------------------------------------------------------------------------
+		Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+			.register(meterRegistry);
+		Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+			.register(meterRegistry);
+		this.encodeTimer     = meterRegistry.timer("auth.password.hash", "op", "encode");
+		this.matchesTimer    = meterRegistry.timer("auth.password.hash", "op", "matches");
+		this.rejectedCounter = meterRegistry.counter("auth.password.hash.rejected");
+
+		log.info("비밀번호 해싱 스레드 풀 구성: threads={}, queueCapacity={}", poolSize, queueCapacity);
+	}
+
+	//======================================================================================================================
+	// 비밀번호 해싱
+	//======================================================================================================================
+	public String encode(String rawPassword)
+	{
+		return submit(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+	}
+
+	//======================================================================================================================
+	// 비밀번호 일치 여부 검증
+	//======================================================================================================================
+	public boolean matches(String rawPassword, String encodedPassword)
+	{
+		return submit(() -> timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+	}
+
+	//======================================================================================================================
+	// 기존 해시가 현재 cost보다 약하여 재해싱이 필요한지 확인 (해시 접두사만 검사하므로 풀을 거치지 않음)
+	//======================================================================================================================
+	public boolean needsRehash(String encodedPassword)
+	{
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 해싱 작업을 전용 풀에 제출하고 결과 대기 (큐 포화/대기 초과 시 COM_SERVER_BUSY)
+	//----------------------------------------------------------------------------------------------------------------------
+	private <T> T submit(Callable<T> task)
+	{
+		// 큐가 가득 차면 즉시 거부
+		Future<T> future;
+		try
+		{
+			future = executor.submit(task);
+		}
+		catch (RejectedExecutionException e)
+		{
+			rejectedCounter.increment();
+			throw new BusinessException(CommonErrorCode.SERVER_BUSY);
+		}
+
+		// 결과 대기 (최대 timeoutMs)
+		try
+		{
+			return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e)
+		{
+			// 대기 초과 — 아직 시작 전이면 큐에서 제거
+			future.cancel(true);
+			rejectedCounter.increment();
+			throw new BusinessException(CommonErrorCode.SERVER_BUSY);
+		}
+		catch (InterruptedException e)
+		{
+			// 요청 스레드 인터럽트 — 인터럽트 상태 복원 후 작업 취소
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new BusinessException(CommonErrorCode.SERVER_BUSY);
+		}
+		catch (ExecutionException e)
+		{
+			// 해싱 중 예외 — 원인 예외를 그대로 전파
+			if (e.getCause() instanceof RuntimeException runtimeException)
+			{
+				throw runtimeException;
+			}
+			throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 해싱 연산 소요 시간 측정 (풀 대기 시간 제외, 순수 BCrypt 시간)
+	//----------------------------------------------------------------------------------------------------------------------
+	private <T> T timed(Timer timer, Supplier<T> operation)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 종료 시 스레드 풀 정리
+	//----------------------------------------------------------------------------------------------------------------------
+	@PreDestroy
+	void shutdown()
+	{
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,48 @@
+package com.gizzi.core.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+//----------------------------------------------------------------------------------------------------------------------
+// 해시 유틸리티
+// 스레드별 MessageDigest 인스턴스를 재사용하여 매 호출마다 Provider 조회/객체 생성을 하지 않는다
+//----------------------------------------------------------------------------------------------------------------------
+public final class HashUtil
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final HexFormat HEX = HexFormat.of();		// 소문자 16진수 포맷터 (불변, 스레드 안전)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 스레드별 다이제스트 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			// SHA-256은 모든 JVM에서 지원하므로 도달 불가
+			throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+		}
+	});
+
+	// 인스턴스 생성 방지
+	private HashUtil()
+	{
+	}
+
+	//======================================================================================================================
+	// 문자열의 SHA-256 해시를 16진수 문자열로 반환 (64자)
+	//======================================================================================================================
+	public static String sha256Hex(String input)
+	{
+		// digest() 호출 시 내부 상태가 리셋되므로 별도 reset 불필요
+		byte[] hash = SHA256.get().digest(input.getBytes(StandardCharsets.UTF_8));
+		return HEX.formatHex(hash);
+	}
+}
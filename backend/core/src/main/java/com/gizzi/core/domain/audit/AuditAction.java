@@ -35,6 +35,16 @@ public final class AuditAction
 	public static final String MEMBER_ADD		= "MEMBER_ADD";			// 그룹 멤버 추가
 	public static final String MEMBER_REMOVE	= "MEMBER_REMOVE";		// 그룹 멤버 제거
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 역할 관련 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	public static final String ROLE_CREATE		= "ROLE_CREATE";		// 역할 생성
+	public static final String ROLE_DELETE		= "ROLE_DELETE";		// 역할 삭제
+	public static final String ROLE_PERMISSION	= "ROLE_PERMISSION";	// 역할 권한 묶음 변경
+	public static final String ROLE_ASSIGN		= "ROLE_ASSIGN";		// 역할 부여 (사용자/그룹/그룹 멤버)
+	public static final String ROLE_REVOKE		= "ROLE_REVOKE";		// 역할 회수 (사용자/그룹/그룹 멤버)
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 설정 관련 ]
 	//----------------------------------------------------------------------------------------------------------------------
@@ -14,6 +14,7 @@ public final class AuditTarget
 	public static final String USER		= "USER";		// 사용자
 	public static final String GROUP	= "GROUP";		// 그룹
 	public static final String MEMBER	= "MEMBER";		// 그룹 멤버
+	public static final String ROLE		= "ROLE";		// 역할
 	public static final String SETTING	= "SETTING";	// 시스템/모듈 설정
 	public static final String IDENTITY	= "IDENTITY";	// 소셜 연동 (UserIdentity)
 	public static final String SMS		= "SMS";		// SMS 관련
@@ -0,0 +1,157 @@
+package com.gizzi.core.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Access Token 활성 상태 니어 캐시 — ConcurrentHashMap 기반 + 짧은 TTL
+// JWT 필터가 매 요청마다 Redis hasKey를 호출하지 않도록 (userPk, sessionId) 활성 여부를 인메모리에 보관한다
+// 활성(true) 결과만 캐시하고, 로그아웃/갱신/전체 삭제 시 Redis Pub/Sub 폐기 채널로 모든 노드에서 즉시 제거한다
+// 폐기 메시지 형식: "{userPk}:{sessionId}" (단일 세션) 또는 "{userPk}:*" (사용자 전체 세션)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenLivenessCache implements MessageListener
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	public  static final String REVOCATION_CHANNEL	= "auth:revocation";	// 토큰 폐기 브로드캐스트 채널
+	public  static final String ALL_SESSIONS		= "*";					// 사용자 전체 세션 폐기 표식
+	private static final String SEPARATOR			= ":";					// 캐시 키 구분자
+	private static final long   TTL_MILLIS			= 5_000L;				// 캐시 항목 TTL (밀리초, 기본 5초)
+	private static final int    MAX_ENTRIES			= 50_000;				// 최대 캐시 항목 수 (메모리 상한)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final RedisTokenService             redisTokenService;		// Redis 토큰 세션 관리 서비스 (캐시 미스 시 원본 조회)
+	private final RedisMessageListenerContainer listenerContainer;		// Redis Pub/Sub 리스너 컨테이너
+	private final MeterRegistry                 meterRegistry;			// 메트릭 레지스트리 (히트/미스 계측)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 캐시 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final ConcurrentHashMap<String, Long> cache = new ConcurrentHashMap<>();	// "{userPk}:{sessionId}" → 만료 시각
+	private final AtomicLong revocationEpoch = new AtomicLong();						// 폐기 메시지 수신 시마다 증가하는 세대 번호
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private Counter hitCounter;			// 캐시 히트 횟수
+	private Counter missCounter;		// 캐시 미스 횟수 (Redis 조회 발생)
+	private Counter revocationCounter;	// 수신한 폐기 메시지 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 폐기 채널 구독 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostConstruct
+	void init()
+	{
+		// 폐기 채널 구독 (자기 자신이 발행한 메시지도 수신하여 로컬 캐시를 정리한다)
+		listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+
+		// 히트/미스/폐기 카운터 및 캐시 크기 게이지 등록
+		hitCounter        = meterRegistry.counter("auth.token.liveness.cache", "result", "hit");
+		missCounter       = meterRegistry.counter("auth.token.liveness.cache", "result", "miss");
+		revocationCounter = meterRegistry.counter("auth.token.liveness.revocations");
+		Gauge.builder("auth.token.liveness.cache.size", cache, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
+	//======================================================================================================================
+	// Access Token 활성 여부 확인 (캐시 우선 → Redis 폴백)
+	//======================================================================================================================
+	public boolean isActive(String userPk, String sessionId)
+	{
+		//----------------------------------------------------------------------------------------------------------------------
+		// 캐시 히트 — TTL 이내의 활성 항목이면 Redis 조회 없이 반환
+		//----------------------------------------------------------------------------------------------------------------------
+		String key       = userPk + SEPARATOR + sessionId;
+		Long   expiresAt = cache.get(key);
+		long   now       = System.currentTimeMillis();
+		if (expiresAt != null && now <= expiresAt)
+		{
+			hitCounter.increment();
+			return true;
+		}
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 캐시 미스 — Redis에서 원본 상태 조회
+		// 조회 도중 폐기 메시지가 도착했다면 세대 번호가 바뀌므로 결과를 캐시하지 않는다
+		//----------------------------------------------------------------------------------------------------------------------
+		missCounter.increment();
+		long    epoch  = revocationEpoch.get();
+		boolean active = redisTokenService.isAccessTokenActive(userPk, sessionId);
+
+		// 비활성 결과는 캐시하지 않음 (재로그인 직후 즉시 반영되어야 하므로)
+		if (!active)
+		{
+			cache.remove(key);
+			return false;
+		}
+
+		// 상한 도달 시 만료 항목을 정리하고, 그래도 가득 차 있으면 캐시 없이 반환
+		if (cache.size() >= MAX_ENTRIES)
+		{
+			evictExpired(now);
+			if (cache.size() >= MAX_ENTRIES)
+			{
+				return true;
+			}
+		}
+
+		// 활성 결과 캐시 후 세대 번호 재확인 — 그 사이 폐기가 있었으면 방금 넣은 항목을 되돌린다
+		cache.put(key, now + TTL_MILLIS);
+		if (revocationEpoch.get() != epoch)
+		{
+			cache.remove(key);
+		}
+		return true;
+	}
+
+	//======================================================================================================================
+	// 폐기 메시지 수신 (Redis Pub/Sub 콜백)
+	//======================================================================================================================
+	@Override
+	public void onMessage(Message message, byte[] pattern)
+	{
+		// 메시지 본문 디코딩: "{userPk}:{sessionId}" 또는 "{userPk}:*"
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		revocationEpoch.incrementAndGet();
+		revocationCounter.increment();
+
+		// 사용자 전체 폐기 — 해당 사용자 접두사를 가진 모든 항목 제거
+		if (body.endsWith(SEPARATOR + ALL_SESSIONS))
+		{
+			String prefix = body.substring(0, body.length() - ALL_SESSIONS.length());
+			cache.keySet().removeIf(key -> key.startsWith(prefix));
+			log.debug("토큰 니어 캐시 사용자 전체 폐기: prefix={}", prefix);
+			return;
+		}
+
+		// 단일 세션 폐기
+		cache.remove(body);
+		log.debug("토큰 니어 캐시 세션 폐기: key={}", body);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 만료된 캐시 항목 일괄 제거
+	//----------------------------------------------------------------------------------------------------------------------
+	private void evictExpired(long now)
+	{
+		cache.values().removeIf(expiresAt -> expiresAt < now);
+	}
+}
@@ -0,0 +1,135 @@
+package com.gizzi.core.domain.auth.service;
+
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
+import com.gizzi.core.domain.auth.entity.AuthProviderEntity;
+import com.gizzi.core.domain.auth.repository.AuthProviderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 인증 제공자 설정 인메모리 캐시
+// 소셜 로그인 인가/콜백마다 tb_auth_providers를 조회하지 않도록 전체 Provider 목록을 불변 스냅샷으로 보관한다
+// 관리자가 AuthProviderService로 설정을 수정하면 커밋 후 캐시 무효화 버스(AUTH_PROVIDERS 토픽)로 모든 노드의 스냅샷을 무효화한다
+// 스냅샷의 엔티티는 영속성 컨텍스트와 분리된 상태이므로 읽기 전용으로만 사용한다 (FK 참조는 ID만 사용됨)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthProviderCache
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final AuthProviderRepository        authProviderRepository;	// 인증 제공자 리포지토리 (스냅샷 적재)
+	private final CacheInvalidationBus          invalidationBus;			// 노드 간 캐시 무효화 버스
+	private final MeterRegistry                 meterRegistry;				// 메트릭 레지스트리
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 캐시 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();	// 현재 스냅샷 (null이면 다음 조회 시 적재)
+	private final AtomicLong                version  = new AtomicLong();		// 무효화 시마다 증가하는 세대 번호
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private Counter loadCounter;			// 스냅샷 적재(DB 조회) 횟수
+	private Counter invalidationCounter;	// 수신한 무효화 메시지 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// Provider 스냅샷 — 코드별 색인 + 활성 Provider 목록 (표시 순서 정렬)
+	//----------------------------------------------------------------------------------------------------------------------
+	private record Snapshot(Map<String, AuthProviderEntity> byCode, List<AuthProviderEntity> enabled)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 무효화 토픽 구독 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostConstruct
+	void init()
+	{
+		invalidationBus.subscribe(CacheTopic.AUTH_PROVIDERS, key ->
+		{
+			invalidationCounter.increment();
+			invalidateLocal();
+		});
+		loadCounter         = meterRegistry.counter("auth.provider.cache.loads");
+		invalidationCounter = meterRegistry.counter("auth.provider.cache.invalidations");
+	}
+
+	//======================================================================================================================
+	// 코드로 Provider 조회
+	//======================================================================================================================
+	public Optional<AuthProviderEntity> findByCode(String code)
+	{
+		return Optional.ofNullable(current().byCode().get(code));
+	}
+
+	//======================================================================================================================
+	// 활성 Provider 목록 조회 (표시 순서 정렬)
+	//======================================================================================================================
+	public List<AuthProviderEntity> getEnabled()
+	{
+		return current().enabled();
+	}
+
+	//======================================================================================================================
+	// 트랜잭션 커밋 후 모든 노드의 스냅샷 무효화 (트랜잭션 밖이면 즉시)
+	//======================================================================================================================
+	public void invalidateAfterCommit()
+	{
+		invalidationBus.publishAfterCommit(CacheTopic.AUTH_PROVIDERS, CacheInvalidationBus.ALL);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 현재 스냅샷 반환 (없으면 DB에서 적재)
+	// 적재 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	//----------------------------------------------------------------------------------------------------------------------
+	private Snapshot current()
+	{
+		Snapshot cached = snapshot.get();
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		long                     loadVersion = version.get();
+		List<AuthProviderEntity> providers   = authProviderRepository.findAll();
+		loadCounter.increment();
+
+		Snapshot loaded = new Snapshot(
+			providers.stream().collect(Collectors.toUnmodifiableMap(AuthProviderEntity::getCode, Function.identity())),
+			providers.stream()
+				.filter(p -> Boolean.TRUE.equals(p.getIsEnabled()))
+				.sorted(Comparator.comparing(AuthProviderEntity::getDisplayOrder))
+				.toList());
+
+		if (version.get() == loadVersion)
+		{
+			snapshot.compareAndSet(null, loaded);
+		}
+		return loaded;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로컬 스냅샷 폐기
+	//----------------------------------------------------------------------------------------------------------------------
+	private void invalidateLocal()
+	{
+		version.incrementAndGet();
+		snapshot.set(null);
+	}
+}
@@ -26,6 +26,7 @@ public class AuthProviderService
 	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
 	private final AuthProviderRepository authProviderRepository;	// 인증 제공자 리포지토리
+	private final AuthProviderCache      authProviderCache;		// 인증 제공자 설정 캐시 (수정 시 무효화)
 
 	//======================================================================================================================
 	// 전체 Provider 목록 조회
@@ -72,6 +73,9 @@ public class AuthProviderService
 			request.getIsEnabled()
 		);
 
+		// 커밋 후 모든 노드의 Provider 캐시 무효화
+		authProviderCache.invalidateAfterCommit();
+
 		log.info("인증 제공자 설정 수정: id={}, code={}, enabled={}", id, provider.getCode(), request.getIsEnabled());
 
 		return AuthProviderResponseDto.from(provider);
@@ -5,6 +5,8 @@ import com.gizzi.core.common.exception.BusinessException;
 import com.gizzi.core.common.exception.SmsErrorCode;
 import com.gizzi.core.common.exception.UserErrorCode;
 import com.gizzi.core.common.security.JwtTokenProvider;
+import com.gizzi.core.common.security.PasswordHashingService;
+import com.gizzi.core.common.util.HashUtil;
 import com.gizzi.core.domain.audit.AuditAction;
 import com.gizzi.core.domain.audit.AuditTarget;
 import com.gizzi.core.domain.audit.service.AuditLogService;
@@ -19,6 +21,7 @@ import com.gizzi.core.domain.session.repository.SessionRepository;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
 import com.gizzi.core.domain.user.service.UserService;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
 import com.gizzi.core.domain.sms.service.OtpService;
 import com.gizzi.core.domain.sms.service.SmsService;
@@ -28,18 +31,17 @@ import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.HexFormat;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 //----------------------------------------------------------------------------------------------------------------------
 // 인증 관련 비즈니스 로직을 처리하는 서비스
@@ -53,35 +55,57 @@ public class AuthService
 {
 	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private final JwtTokenProvider    jwtTokenProvider;		// JWT 토큰 생성/파싱 컴포넌트
-	private final RedisTokenService   redisTokenService;	// Redis 토큰 세션 관리 서비스
-	private final UserService         userService;			// 사용자 서비스 (로그인 실패 카운트 등)
-	private final UserRepository      userRepository;		// 사용자 리포지토리
-	private final SessionRepository   sessionRepository;	// 세션 리포지토리
-	private final PasswordEncoder     passwordEncoder;		// 비밀번호 인코더
-	private final SettingService      settingService;		// 시스템 설정 서비스 (잠금 자동 해제 시간 등)
-	private final AuditLogService     auditLogService;		// 감사 로그 서비스
-	private final StringRedisTemplate stringRedisTemplate;	// Redis 템플릿 (OTP 세션 관리용)
-	private final OtpService          otpService;			// OTP 서비스 (SMS 인증)
-	private final SmsService          smsService;			// SMS 발송 서비스 (OTP 발송용)
+	private final JwtTokenProvider       jwtTokenProvider;		// JWT 토큰 생성/파싱 컴포넌트
+	private final RedisTokenService      redisTokenService;		// Redis 토큰 세션 관리 서비스
+	private final UserService            userService;			// 사용자 서비스 (로그인 실패 잠금 동기화 등)
+	private final UserRepository         userRepository;			// 사용자 리포지토리
+	private final SessionRepository      sessionRepository;		// 세션 리포지토리
+	private final PasswordHashingService passwordHashingService;	// 비밀번호 해싱 서비스 (전용 스레드 풀)
+	private final LoginThrottleService   loginThrottleService;	// 로그인 시도 제한 서비스 (Redis 슬라이딩 윈도우)
+	private final SettingService         settingService;			// 시스템 설정 서비스 (잠금 자동 해제 시간 등)
+	private final AuditLogService        auditLogService;		// 감사 로그 서비스
+	private final StringRedisTemplate    stringRedisTemplate;	// Redis 템플릿 (OTP 세션 관리용)
+	private final OtpService             otpService;				// OTP 서비스 (SMS 인증)
+	private final SmsService             smsService;				// SMS 발송 서비스 (OTP 발송용)
 
 	// [ 상수 ]
 	//----------------------------------------------------------------------------------------------------------------------
 	private static final String OTP_SESSION_PREFIX = "auth:otp-session:";	// OTP 세션 Redis 키 접두사
 	private static final long   OTP_SESSION_TTL    = 300;					// OTP 세션 TTL (5분)
+	private static final SettingKey LOCK_DURATION_MIN       = SettingKey.system("auth", "lock_duration_min");	// 계정 잠금 시간(분) 설정 키
+	private static final SettingKey MAX_CONCURRENT_SESSIONS = SettingKey.system("session", "max_concurrent");	// 최대 동시 세션 수 설정 키
 
 	//======================================================================================================================
 	// 로그인 처리: 자격증명 검증 → JWT 발급 → Redis 저장 → DB 세션 기록
 	//======================================================================================================================
 	@Transactional
 	public LoginResponseDto login(LoginRequestDto request, String ipAddress, String userAgent)
+	{
+		return login(request, ipAddress, userAgent, user -> true);
+	}
+
+	//======================================================================================================================
+	// 접근 정책을 적용한 로그인 처리 (관리자 로그인 등)
+	// 시도 제한 확인, 사용자 조회, 실패 기록은 모두 이 메서드가 담당하고,
+	// 접근 정책은 자격증명 검증이 끝난 사용자에 대해 토큰 발급 전에 확인한다 (거부 시 ACCESS_DENIED)
+	//======================================================================================================================
+	@Transactional
+	public LoginResponseDto login(LoginRequestDto request, String ipAddress, String userAgent,
+	                              Predicate<UserEntity> accessPolicy)
 	{
+		//----------------------------------------------------------------------------------------------------------------------
+		// 0. 로그인 시도 제한 확인 (Redis 1회 왕복, DB 조회/BCrypt 검증 전에 차단)
+		//----------------------------------------------------------------------------------------------------------------------
+		loginThrottleService.checkAllowed(request.getUserId(), ipAddress);
+
 		//----------------------------------------------------------------------------------------------------------------------
 		// 1. userId로 사용자 조회 (없으면 INVALID_CREDENTIALS)
 		//----------------------------------------------------------------------------------------------------------------------
 		UserEntity user = userRepository.findByUserId(request.getUserId())
 			.orElseGet(() ->
 			{
+				// 존재하지 않는 ID도 실패 윈도우에 집계 (ID 대입 공격 억제, 연속 실패 횟수 키는 만들지 않음)
+				loginThrottleService.recordUnknownFailure(request.getUserId(), ipAddress);
 				// 로그인 실패 감사 로그 — 사용자 없음 (독립 트랜잭션)
 				auditLogService.logFailure(null, AuditAction.LOGIN, AuditTarget.USER, null,
 					"존재하지 않는 사용자 ID: " + request.getUserId(), null);
@@ -94,7 +118,7 @@ public class AuthService
 		if (Boolean.TRUE.equals(user.getIsLocked()))
 		{
 			// 시스템 설정: 잠금 유지 시간(분) 조회
-			int lockDuration = (int) settingService.getSystemNumber("auth", "lock_duration_min");
+			int lockDuration = (int) settingService.getNumber(LOCK_DURATION_MIN);
 			// 잠금 시간 경과 시 자동 해제 시도
 			if (!user.tryAutoUnlock(lockDuration))
 			{
@@ -109,15 +133,20 @@ public class AuthService
 		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 3. 비밀번호 검증 (틀리면 실패 횟수 증가 + 잠금 체크)
+		// 3. 비밀번호 검증 (틀리면 Redis 실패 횟수 증가 + 잠금 발생 시에만 DB 동기화)
 		//----------------------------------------------------------------------------------------------------------------------
-		if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash()))
+		if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash()))
 		{
 			// 로그인 실패 감사 로그 — 비밀번호 불일치 (독립 트랜잭션)
 			auditLogService.logFailure(user.getId(), AuditAction.LOGIN, AuditTarget.USER, user.getId(),
 				"비밀번호 불일치", null);
-			// 독립 트랜잭션으로 실패 횟수 증가 (외부 트랜잭션 롤백과 무관하게 커밋)
-			userService.incrementLoginFailCount(user.getId());
+			// Redis에 실패 기록 (실패마다 tb_users 행 잠금 UPDATE를 하지 않음)
+			LoginThrottleService.LoginFailure failure = loginThrottleService.recordFailure(user.getUserId(), ipAddress);
+			// 잠금이 발생한 경우에만 독립 트랜잭션으로 DB 잠금 상태 동기화
+			if (failure.locked())
+			{
+				userService.lockForLoginFailures(user.getId(), (int) failure.failCount());
+			}
 			throw new BusinessException(AuthErrorCode.INVALID_CREDENTIALS);
 		}
 
@@ -133,58 +162,61 @@ public class AuthService
 		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 5. 로그인 성공 — 실패 횟수 초기화
+		// 4-1. 접근 정책 확인 (예: 관리자 그룹 소속) — 거부 시 토큰을 발급하지 않음
 		//----------------------------------------------------------------------------------------------------------------------
-		user.resetLoginFailCount();
+		if (!accessPolicy.test(user))
+		{
+			// 로그인 실패 감사 로그 — 접근 정책 거부 (독립 트랜잭션)
+			auditLogService.logFailure(user.getId(), AuditAction.LOGIN, AuditTarget.USER, user.getId(),
+				"접근 권한 없는 사용자의 로그인 시도", null);
+			log.warn("접근 정책에 의한 로그인 차단: userId={}", user.getUserId());
+			throw new BusinessException(AuthErrorCode.ACCESS_DENIED);
+		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 6. SessionEntity 생성을 위한 임시 해시값 (토큰 생성 후 업데이트)
+		// 5. 로그인 성공 — 실패 횟수 초기화 (Redis + DB)
 		//----------------------------------------------------------------------------------------------------------------------
-		SessionEntity session = SessionEntity.create(
-			user.getId(),
-			user.getProvider(),
-			"pending",
-			"pending",
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000),
-			ipAddress,
-			userAgent
-		);
-		// DB에 세션 저장 (ID 자동 생성)
-		sessionRepository.save(session);
+		loginThrottleService.recordSuccess(user.getUserId());
+		user.resetLoginFailCount();
+
+		// 이전 cost로 만든 해시면 평문이 있는 지금 현재 cost로 재해싱 (사용자당 1회)
+		if (passwordHashingService.needsRehash(user.getPasswordHash()))
+		{
+			user.rehashPassword(passwordHashingService.encode(request.getPassword()));
+			log.info("비밀번호 해시 cost 업그레이드: userId={}", user.getUserId());
+		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 7. JWT Access/Refresh Token 생성 (세션 ID를 클레임에 포함)
+		// 6. 세션 ID 선발급 + JWT Access/Refresh Token 생성 (세션 ID를 클레임에 포함)
+		// 토큰과 해시를 먼저 계산하여 세션을 INSERT 1회로 저장한다 (임시 해시 INSERT 후 UPDATE 하지 않음)
 		//----------------------------------------------------------------------------------------------------------------------
-		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), session.getId());
-		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), session.getId());
+		String sessionId    = UUID.randomUUID().toString();
+		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), sessionId);
+		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), sessionId);
+		String refreshHash  = HashUtil.sha256Hex(refreshToken);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 8. 세션의 토큰 해시값 업데이트
+		// 7. DB에 세션 저장 (최종 토큰 해시 포함, 단일 INSERT)
 		//----------------------------------------------------------------------------------------------------------------------
-		session.updateTokens(
-			sha256(accessToken),
-			sha256(refreshToken),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000)
-		);
+		SessionEntity session = newSession(sessionId, user.getId(), user.getProvider(),
+			HashUtil.sha256Hex(accessToken), refreshHash, ipAddress, userAgent);
+		sessionRepository.save(session);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 9. Redis에 토큰 세션 저장 (TTL 설정)
+		// 8. Redis에 토큰 세션 저장 (TTL 설정 + 동시 세션 제한, 1회 왕복)
 		//----------------------------------------------------------------------------------------------------------------------
-		redisTokenService.saveAccessToken(user.getId(), session.getId(), jwtTokenProvider.getAccessTokenExpiration());
-		redisTokenService.saveRefreshToken(user.getId(), session.getId(), jwtTokenProvider.getRefreshTokenExpiration());
+		issueTokenSession(user.getId(), sessionId, refreshHash);
 
 		log.info("로그인 성공: userId={}, sessionId={}", user.getUserId(), session.getId());
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 10. 로그인 성공 감사 로그
+		// 9. 로그인 성공 감사 로그
 		//----------------------------------------------------------------------------------------------------------------------
 		auditLogService.logSuccess(user.getId(), AuditAction.LOGIN, AuditTarget.USER, user.getId(),
 			"로그인 성공: " + user.getUserId(), Map.of("sessionId", session.getId()));
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 11. 로그인 응답 반환
+		// 10. 로그인 응답 반환
 		//----------------------------------------------------------------------------------------------------------------------
 		return LoginResponseDto.of(user, accessToken, refreshToken);
 	}
@@ -281,30 +313,16 @@ public class AuthService
 		//----------------------------------------------------------------------------------------------------------------------
 		// 5. JWT 발급 (일반 로그인과 동일한 절차)
 		//----------------------------------------------------------------------------------------------------------------------
-		SessionEntity session = SessionEntity.create(
-			user.getId(),
-			user.getProvider(),
-			"pending",
-			"pending",
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000),
-			ipAddress,
-			userAgent
-		);
-		sessionRepository.save(session);
-
-		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), session.getId());
-		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), session.getId());
+		String sessionId    = UUID.randomUUID().toString();
+		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), sessionId);
+		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), sessionId);
+		String refreshHash  = HashUtil.sha256Hex(refreshToken);
 
-		session.updateTokens(
-			sha256(accessToken),
-			sha256(refreshToken),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000)
-		);
+		SessionEntity session = newSession(sessionId, user.getId(), user.getProvider(),
+			HashUtil.sha256Hex(accessToken), refreshHash, ipAddress, userAgent);
+		sessionRepository.save(session);
 
-		redisTokenService.saveAccessToken(user.getId(), session.getId(), jwtTokenProvider.getAccessTokenExpiration());
-		redisTokenService.saveRefreshToken(user.getId(), session.getId(), jwtTokenProvider.getRefreshTokenExpiration());
+		issueTokenSession(user.getId(), sessionId, refreshHash);
 
 		log.info("OTP 검증 후 로그인 성공: userId={}, sessionId={}", user.getUserId(), session.getId());
 
@@ -344,7 +362,7 @@ public class AuthService
 	}
 
 	//======================================================================================================================
-	// 토큰 갱신: Refresh Token 검증 → 새 토큰 쌍 발급 (Rotation)
+	// 토큰 갱신: Refresh Token 검증 → 새 토큰 쌍 발급 (Rotation, Redis compare-and-swap으로 동시 갱신 중 1건만 성공)
 	//======================================================================================================================
 	@Transactional
 	public TokenRefreshResponseDto refresh(TokenRefreshRequestDto request)
@@ -381,11 +399,15 @@ public class AuthService
 		String sessionId = jwtTokenProvider.getSessionId(claims);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 4. Redis에서 Refresh Token 활성 상태 확인
+		// 4. 동시 갱신 합류 — 같은 Refresh Token으로 방금 완료된 갱신이 있으면 그 결과를 그대로 반환
+		// (여러 탭이 동시에 갱신할 때 DB 조회/토큰 생성/감사 로그를 반복하지 않음)
 		//----------------------------------------------------------------------------------------------------------------------
-		if (!redisTokenService.isRefreshTokenActive(userPk, sessionId))
+		String currentRefreshHash = HashUtil.sha256Hex(request.getRefreshToken());
+		Optional<RedisTokenService.TokenPair> recent = redisTokenService.findRecentRotation(currentRefreshHash);
+		if (recent.isPresent())
 		{
-			throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+			log.debug("동시 토큰 갱신 합류 (사전 확인): userPk={}, sessionId={}", userPk, sessionId);
+			return toRefreshResponse(recent.get());
 		}
 
 		//----------------------------------------------------------------------------------------------------------------------
@@ -395,29 +417,38 @@ public class AuthService
 			.orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 6. 기존 Redis 키 삭제 (Rotation)
-		//----------------------------------------------------------------------------------------------------------------------
-		redisTokenService.deleteTokens(userPk, sessionId);
-
-		//----------------------------------------------------------------------------------------------------------------------
-		// 7. 새 Access/Refresh Token 생성 (동일 세션 ID 유지)
+		// 6. 새 Access/Refresh Token 생성 (동일 세션 ID 유지)
 		//----------------------------------------------------------------------------------------------------------------------
 		String newAccessToken  = jwtTokenProvider.generateAccessToken(userPk, user.getUserId(), sessionId);
 		String newRefreshToken = jwtTokenProvider.generateRefreshToken(userPk, sessionId);
+		String newRefreshHash  = HashUtil.sha256Hex(newRefreshToken);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 8. 새 Redis 키 저장
+		// 7. Redis 토큰 교체 (Rotation, compare-and-swap + single-flight)
+		// 제시된 Refresh Token이 현재 활성 토큰일 때만 교체 — 동시 갱신에서 패배하면 승자의 결과를 공유받고,
+		// 비활성 토큰이면 거부
 		//----------------------------------------------------------------------------------------------------------------------
-		redisTokenService.saveAccessToken(userPk, sessionId, jwtTokenProvider.getAccessTokenExpiration());
-		redisTokenService.saveRefreshToken(userPk, sessionId, jwtTokenProvider.getRefreshTokenExpiration());
+		RedisTokenService.RotationResult rotation = redisTokenService.rotateIfActive(
+			userPk, sessionId, currentRefreshHash,
+			new RedisTokenService.TokenPair(newAccessToken, newRefreshToken), newRefreshHash,
+			jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
+		if (rotation.isRejected())
+		{
+			throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+		}
+		// 패배한 요청은 DB/감사 작업 없이 승자의 토큰 쌍 반환
+		if (!rotation.rotated())
+		{
+			return toRefreshResponse(rotation.pair());
+		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 9. DB SessionEntity 토큰 해시 업데이트
+		// 8. DB SessionEntity 토큰 해시 업데이트 (승자만 수행)
 		//----------------------------------------------------------------------------------------------------------------------
 		sessionRepository.findByIdAndRevokedAtIsNull(sessionId)
 			.ifPresent(session -> session.updateTokens(
-				sha256(newAccessToken),
-				sha256(newRefreshToken),
+				HashUtil.sha256Hex(newAccessToken),
+				newRefreshHash,
 				LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
 				LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000)
 			));
@@ -425,17 +456,25 @@ public class AuthService
 		log.info("토큰 갱신 완료: userPk={}, sessionId={}", userPk, sessionId);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 10. 토큰 갱신 감사 로그
+		// 9. 토큰 갱신 감사 로그
 		//----------------------------------------------------------------------------------------------------------------------
 		auditLogService.logSuccess(userPk, AuditAction.TOKEN_REFRESH, AuditTarget.USER, userPk,
 			"토큰 갱신", Map.of("sessionId", sessionId));
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 11. 새 토큰 쌍 반환
+		// 10. 새 토큰 쌍 반환
 		//----------------------------------------------------------------------------------------------------------------------
+		return toRefreshResponse(rotation.pair());
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 쌍을 갱신 응답 DTO로 변환
+	//----------------------------------------------------------------------------------------------------------------------
+	private TokenRefreshResponseDto toRefreshResponse(RedisTokenService.TokenPair pair)
+	{
 		return TokenRefreshResponseDto.builder()
-			.accessToken(newAccessToken)
-			.refreshToken(newRefreshToken)
+			.accessToken(pair.accessToken())
+			.refreshToken(pair.refreshToken())
 			.build();
 	}
 
@@ -495,22 +534,42 @@ public class AuthService
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 문자열의 SHA-256 해시 생성 (토큰 DB 저장용)
+	// 신규 세션 엔티티 생성 (선발급 세션 ID + 최종 토큰 해시, 만료 일시는 같은 기준 시각으로 1회 계산)
 	//----------------------------------------------------------------------------------------------------------------------
-	private String sha256(String input)
+	private SessionEntity newSession(String sessionId, String userPk, String loginProvider,
+	                                 String accessTokenHash, String refreshTokenHash,
+	                                 String ipAddress, String userAgent)
 	{
-		try
-		{
-			// SHA-256 다이제스트 생성
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-			// 바이트 배열을 16진수 문자열로 변환
-			return HexFormat.of().formatHex(hash);
-		}
-		catch (NoSuchAlgorithmException e)
+		LocalDateTime now = LocalDateTime.now();
+		return SessionEntity.create(
+			sessionId,
+			userPk,
+			loginProvider,
+			accessTokenHash,
+			refreshTokenHash,
+			now.plus(jwtTokenProvider.getAccessTokenExpiration(), ChronoUnit.MILLIS),
+			now.plus(jwtTokenProvider.getRefreshTokenExpiration(), ChronoUnit.MILLIS),
+			ipAddress,
+			userAgent
+		);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// Redis 토큰 세션 발급 (Access/Refresh 저장 + 세션 인덱스 + 동시 세션 제한을 1회 왕복으로 처리)
+	// 동시 세션 제한(session.max_concurrent, 0이면 제한 없음)으로 강제 종료된 세션은 DB 세션도 SESSION_LIMIT 사유로 폐기한다
+	//----------------------------------------------------------------------------------------------------------------------
+	private void issueTokenSession(String userPk, String sessionId, String refreshTokenHash)
+	{
+		// 시스템 설정: 사용자당 최대 동시 세션 수 조회
+		int maxSessions = (int) settingService.getNumber(MAX_CONCURRENT_SESSIONS);
+		// 토큰 쌍 저장 + 초과 세션 토큰 삭제 (만료가 가장 이른 세션부터)
+		List<String> evicted = redisTokenService.issueTokenPair(userPk, sessionId, refreshTokenHash,
+			jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration(), maxSessions);
+		// 강제 종료된 세션의 DB 기록 폐기
+		for (String evictedSessionId : evicted)
 		{
-			// SHA-256은 모든 JVM에서 지원하므로 도달 불가
-			throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+			sessionRepository.findByIdAndRevokedAtIsNull(evictedSessionId)
+				.ifPresent(session -> session.revoke("SESSION_LIMIT"));
 		}
 	}
 }
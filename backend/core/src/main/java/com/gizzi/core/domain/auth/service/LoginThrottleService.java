@@ -0,0 +1,212 @@
+package com.gizzi.core.domain.auth.service;
+
+import com.gizzi.core.common.exception.AuthErrorCode;
+import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.domain.setting.service.SettingKey;
+import com.gizzi.core.domain.setting.service.SettingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+//----------------------------------------------------------------------------------------------------------------------
+// 로그인 시도 제한 서비스 (Redis 슬라이딩 윈도우)
+// IP별/로그인 ID별 최근 실패 시각을 Sorted Set으로 유지하여 한도를 넘으면 DB 조회/BCrypt 검증 전에 거부한다
+// 로그인 실패 횟수와 계정 잠금 상태도 Redis에 보관하고, 잠금이 발생한 시점에만 tb_users에 동기화한다
+// 키 패턴:
+//   rate-limit:login:ip:{ip}       — IP별 실패 시각 (Sorted Set, score=epoch ms)
+//   rate-limit:login:id:{loginId}  — 로그인 ID별 실패 시각 (Sorted Set, score=epoch ms)
+//   auth:login-fail:{loginId}      — 연속 실패 횟수 (존재하는 로그인 ID만)
+//   auth:login-lock:{loginId}      — 계정 잠금 표식 (TTL = 잠금 유지 시간, 0이면 수동 해제 전까지 유지)
+// 존재하지 않는 로그인 ID는 윈도우에만 기록하여(TTL = 윈도우 길이) ID 대입 공격으로 장기 보관 키가 늘지 않게 한다
+//----------------------------------------------------------------------------------------------------------------------
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginThrottleService
+{
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final StringRedisTemplate redisTemplate;		// Redis 문자열 작업 템플릿
+	private final SettingService      settingService;		// 시스템 설정 서비스 (한도/윈도우/잠금 설정)
+
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String IP_WINDOW_PREFIX = "rate-limit:login:ip:";	// IP별 실패 윈도우 키 접두사
+	private static final String ID_WINDOW_PREFIX = "rate-limit:login:id:";	// 로그인 ID별 실패 윈도우 키 접두사
+	private static final String FAIL_PREFIX      = "auth:login-fail:";		// 연속 실패 횟수 키 접두사
+	private static final String LOCK_PREFIX      = "auth:login-lock:";		// 계정 잠금 키 접두사
+	private static final long   FAIL_COUNT_TTL_MS = 86_400_000L;		// 연속 실패 횟수 보관 시간 (24시간, 존재하는 로그인 ID만)
+	private static final String ALLOWED         = "OK";					// 확인 스크립트 반환값: 허용
+	private static final String LOCKED          = "LOCKED";				// 확인 스크립트 반환값: 계정 잠금
+	private static final SettingKey RATE_LIMIT_IP         = SettingKey.system("auth", "rate_limit_ip");	// IP별 허용 실패 횟수 설정 키
+	private static final SettingKey RATE_LIMIT_LOGIN_ID   = SettingKey.system("auth", "rate_limit_login_id");	// 로그인 ID별 허용 실패 횟수 설정 키
+	private static final SettingKey RATE_LIMIT_WINDOW_SEC = SettingKey.system("auth", "rate_limit_window_sec");	// 실패 윈도우 길이(초) 설정 키
+	private static final SettingKey MAX_LOGIN_FAIL        = SettingKey.system("auth", "max_login_fail");	// 잠금 전 최대 연속 실패 횟수 설정 키
+	private static final SettingKey LOCK_DURATION_MIN     = SettingKey.system("auth", "lock_duration_min");	// 계정 잠금 시간(분) 설정 키
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로그인 실패 기록 결과 — 누적 실패 횟수 + 이번 실패로 잠금이 발생했는지 여부
+	//----------------------------------------------------------------------------------------------------------------------
+	public record LoginFailure(long failCount, boolean locked)
+	{
+	}
+
+	// [ Lua 스크립트 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로그인 허용 여부 확인: 잠금 표식 → 윈도우 밖 항목 정리 → IP/로그인 ID 실패 수 한도 비교
+	// KEYS: ipWindow, idWindow, lock / ARGV: nowMs, windowMs, ipLimit, idLimit
+	// 반환: "OK", "LOCKED", "IP", "LOGIN_ID"
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<String> CHECK_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[3]) == 1 then
+			return 'LOCKED'
+		end
+		local floor = tonumber(ARGV[1]) - tonumber(ARGV[2])
+		redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, floor)
+		redis.call('ZREMRANGEBYSCORE', KEYS[2], 0, floor)
+		local ipLimit = tonumber(ARGV[3])
+		if ipLimit > 0 and redis.call('ZCARD', KEYS[1]) >= ipLimit then
+			return 'IP'
+		end
+		local idLimit = tonumber(ARGV[4])
+		if idLimit > 0 and redis.call('ZCARD', KEYS[2]) >= idLimit then
+			return 'LOGIN_ID'
+		end
+		return 'OK'
+		""", String.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로그인 실패 기록: 두 윈도우에 실패 시각 추가 + 연속 실패 횟수 증가 + 한도 도달 시 잠금 표식 설정
+	// KEYS: ipWindow, idWindow, fail, lock / ARGV: nowMs, windowMs, member, maxFail, lockMs, failTtlMs
+	// 반환: 누적 연속 실패 횟수 (잠금 발생 시 실패 횟수 키는 삭제됨)
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> FAILURE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		redis.call('ZADD', KEYS[2], ARGV[1], ARGV[3])
+		redis.call('PEXPIRE', KEYS[2], ARGV[2])
+		local count = redis.call('INCR', KEYS[3])
+		redis.call('PEXPIRE', KEYS[3], ARGV[6])
+		local maxFail = tonumber(ARGV[4])
+		if maxFail > 0 and count >= maxFail then
+			if tonumber(ARGV[5]) > 0 then
+				redis.call('SET', KEYS[4], count, 'PX', ARGV[5])
+			else
+				redis.call('SET', KEYS[4], count)
+			end
+			redis.call('DEL', KEYS[3])
+		end
+		return count
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 존재하지 않는 로그인 ID 실패 기록: 두 윈도우에 실패 시각만 추가 (연속 실패 횟수/잠금 없음)
+	// KEYS: ipWindow, idWindow / ARGV: nowMs, windowMs, member
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> WINDOW_ONLY_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		redis.call('ZADD', KEYS[2], ARGV[1], ARGV[3])
+		redis.call('PEXPIRE', KEYS[2], ARGV[2])
+		return 1
+		""", Long.class);
+
+	//======================================================================================================================
+	// 로그인 허용 여부 확인 (DB 조회/BCrypt 검증 전 호출)
+	// 잠금 상태면 ACCOUNT_LOCKED, 실패 한도 초과면 TOO_MANY_LOGIN_ATTEMPTS 예외
+	//======================================================================================================================
+	public void checkAllowed(String loginId, String ipAddress)
+	{
+		// 스크립트 실행 (키: ipWindow, idWindow, lock)
+		String result = redisTemplate.execute(CHECK_SCRIPT,
+			List.of(IP_WINDOW_PREFIX + ipAddress, ID_WINDOW_PREFIX + loginId, LOCK_PREFIX + loginId),
+			String.valueOf(System.currentTimeMillis()),
+			String.valueOf(windowMs()),
+			String.valueOf(settingService.getNumber(RATE_LIMIT_IP)),
+			String.valueOf(settingService.getNumber(RATE_LIMIT_LOGIN_ID)));
+
+		// 허용
+		if (result == null || ALLOWED.equals(result))
+		{
+			return;
+		}
+		// 계정 잠금 상태
+		if (LOCKED.equals(result))
+		{
+			log.debug("잠금 계정 로그인 차단 (Redis): loginId={}", loginId);
+			throw new BusinessException(AuthErrorCode.ACCOUNT_LOCKED);
+		}
+		// IP 또는 로그인 ID 실패 한도 초과
+		log.warn("로그인 시도 한도 초과: loginId={}, ip={}, scope={}", loginId, ipAddress, result);
+		throw new BusinessException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+	}
+
+	//======================================================================================================================
+	// 로그인 실패 기록 (1회 왕복) — 최대 실패 횟수(auth.max_login_fail) 도달 시 잠금 표식 설정
+	//======================================================================================================================
+	public LoginFailure recordFailure(String loginId, String ipAddress)
+	{
+		// 시스템 설정: 최대 실패 횟수 / 잠금 유지 시간(분)
+		long maxFail     = settingService.getNumber(MAX_LOGIN_FAIL);
+		long lockMinutes = settingService.getNumber(LOCK_DURATION_MIN);
+
+		// 스크립트 실행 (키: ipWindow, idWindow, fail, lock)
+		Long count = redisTemplate.execute(FAILURE_SCRIPT,
+			List.of(IP_WINDOW_PREFIX + ipAddress, ID_WINDOW_PREFIX + loginId, FAIL_PREFIX + loginId, LOCK_PREFIX + loginId),
+			String.valueOf(System.currentTimeMillis()),
+			String.valueOf(windowMs()),
+			UUID.randomUUID().toString(),
+			String.valueOf(maxFail),
+			String.valueOf(Math.max(lockMinutes, 0) * 60_000L),
+			String.valueOf(FAIL_COUNT_TTL_MS));
+
+		long    failCount = count != null ? count : 0;
+		boolean locked    = maxFail > 0 && failCount >= maxFail;
+		return new LoginFailure(failCount, locked);
+	}
+
+	//======================================================================================================================
+	// 존재하지 않는 로그인 ID 실패 기록 (1회 왕복) — 슬라이딩 윈도우에만 집계
+	// 연속 실패 횟수(24시간 보관)는 만들지 않으므로 임의 ID 대입 시에도 키는 윈도우 길이 후 만료된다
+	//======================================================================================================================
+	public void recordUnknownFailure(String loginId, String ipAddress)
+	{
+		// 스크립트 실행 (키: ipWindow, idWindow)
+		redisTemplate.execute(WINDOW_ONLY_SCRIPT,
+			List.of(IP_WINDOW_PREFIX + ipAddress, ID_WINDOW_PREFIX + loginId),
+			String.valueOf(System.currentTimeMillis()),
+			String.valueOf(windowMs()),
+			UUID.randomUUID().toString());
+	}
+
+	//======================================================================================================================
+	// 로그인 성공 — 연속 실패 횟수 초기화 (윈도우 기록은 유지하여 분산 공격 억제)
+	//======================================================================================================================
+	public void recordSuccess(String loginId)
+	{
+		redisTemplate.delete(FAIL_PREFIX + loginId);
+	}
+
+	//======================================================================================================================
+	// 잠금/실패 상태 초기화 (관리자 잠금 해제 시)
+	//======================================================================================================================
+	public void clear(String loginId)
+	{
+		redisTemplate.delete(List.of(FAIL_PREFIX + loginId, LOCK_PREFIX + loginId, ID_WINDOW_PREFIX + loginId));
+		log.debug("로그인 제한 상태 초기화: loginId={}", loginId);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 슬라이딩 윈도우 크기 (ms) — 설정 auth.rate_limit_window_sec
+	//----------------------------------------------------------------------------------------------------------------------
+	private long windowMs()
+	{
+		return settingService.getNumber(RATE_LIMIT_WINDOW_SEC) * 1000L;
+	}
+}
@@ -4,6 +4,8 @@ import com.gizzi.core.common.exception.BusinessException;
 import com.gizzi.core.common.exception.OAuth2ErrorCode;
 import com.gizzi.core.common.exception.UserErrorCode;
 import com.gizzi.core.common.security.JwtTokenProvider;
+import com.gizzi.core.common.security.PasswordHashingService;
+import com.gizzi.core.common.util.HashUtil;
 import com.gizzi.core.domain.audit.AuditAction;
 import com.gizzi.core.domain.audit.AuditTarget;
 import com.gizzi.core.domain.audit.service.AuditLogService;
@@ -15,12 +17,13 @@ import com.gizzi.core.domain.auth.dto.SetPasswordRequestDto;
 import com.gizzi.core.domain.auth.dto.UserIdentityResponseDto;
 import com.gizzi.core.domain.auth.entity.AuthProviderEntity;
 import com.gizzi.core.domain.auth.entity.UserIdentityEntity;
-import com.gizzi.core.domain.auth.repository.AuthProviderRepository;
 import com.gizzi.core.domain.auth.repository.UserIdentityRepository;
+import com.gizzi.core.domain.auth.service.oauth2.OAuth2HttpClients;
 import com.gizzi.core.domain.auth.service.oauth2.OAuth2UserInfoExtractor;
 import com.gizzi.core.domain.group.service.GroupService;
 import com.gizzi.core.domain.session.entity.SessionEntity;
 import com.gizzi.core.domain.session.repository.SessionRepository;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
@@ -32,18 +35,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.HexFormat;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -61,7 +59,7 @@ public class OAuth2Service
 {
 	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private final AuthProviderRepository                   authProviderRepository;		// 인증 제공자 리포지토리
+	private final AuthProviderCache                        authProviderCache;			// 인증 제공자 설정 캐시 (요청마다 DB 조회하지 않음)
 	private final UserIdentityRepository                   userIdentityRepository;		// 소셜 연동 리포지토리
 	private final UserRepository                           userRepository;				// 사용자 리포지토리
 	private final SessionRepository                        sessionRepository;			// 세션 리포지토리
@@ -70,8 +68,8 @@ public class OAuth2Service
 	private final JwtTokenProvider                         jwtTokenProvider;			// JWT 토큰 생성 컴포넌트
 	private final RedisTokenService                        redisTokenService;			// Redis 토큰 세션 관리
 	private final StringRedisTemplate                      redisTemplate;				// Redis (OAuth2 state 저장용)
-	private final PasswordEncoder                          passwordEncoder;				// 비밀번호 인코더 (소셜 사용자 랜덤 비밀번호 해싱)
-	private final RestTemplate                             restTemplate;				// HTTP 클라이언트 (토큰 교환 + 사용자 정보 조회)
+	private final PasswordHashingService                   passwordHashingService;		// 비밀번호 해싱 서비스 (소셜 사용자 랜덤 비밀번호 해싱)
+	private final OAuth2HttpClients                        httpClients;					// Provider별 HTTP 클라이언트 (연결 재사용 + 시간 제한, 토큰 교환 + 사용자 정보 조회)
 	private final Map<String, OAuth2UserInfoExtractor>     extractorMap;				// Provider별 사용자 정보 파서 Map (providerCode → extractor)
 	private final AuditLogService                          auditLogService;				// 감사 로그 서비스
 
@@ -81,11 +79,13 @@ public class OAuth2Service
 	private static final long   STATE_TTL_MINUTES          = 5;						// OAuth2 state TTL (5분)
 	private static final String LINK_PENDING_PREFIX        = "oauth2:link-pending:";	// OAuth2 연동 대기 Redis 키 접두사
 	private static final long   LINK_PENDING_TTL_MINUTES   = 10;						// 연동 대기 TTL (10분)
+	private static final SettingKey OAUTH2_SIGNUP_ENABLED   = SettingKey.system("signup", "oauth2_enabled");	// 소셜 가입 허용 설정 키
+	private static final SettingKey MAX_CONCURRENT_SESSIONS = SettingKey.system("session", "max_concurrent");	// 최대 동시 세션 수 설정 키
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// 생성자: Provider별 Extractor를 Map으로 변환
 	//----------------------------------------------------------------------------------------------------------------------
-	public OAuth2Service(AuthProviderRepository authProviderRepository,
+	public OAuth2Service(AuthProviderCache authProviderCache,
 	                     UserIdentityRepository userIdentityRepository,
 	                     UserRepository userRepository,
 	                     SessionRepository sessionRepository,
@@ -94,11 +94,12 @@ public class OAuth2Service
 	                     JwtTokenProvider jwtTokenProvider,
 	                     RedisTokenService redisTokenService,
 	                     StringRedisTemplate redisTemplate,
-	                     PasswordEncoder passwordEncoder,
+	                     PasswordHashingService passwordHashingService,
+	                     OAuth2HttpClients httpClients,
 	                     List<OAuth2UserInfoExtractor> extractors,
 	                     AuditLogService auditLogService)
 	{
-		this.authProviderRepository = authProviderRepository;
+		this.authProviderCache      = authProviderCache;
 		this.userIdentityRepository = userIdentityRepository;
 		this.userRepository         = userRepository;
 		this.sessionRepository      = sessionRepository;
@@ -107,9 +108,8 @@ public class OAuth2Service
 		this.jwtTokenProvider       = jwtTokenProvider;
 		this.redisTokenService      = redisTokenService;
 		this.redisTemplate          = redisTemplate;
-		this.passwordEncoder        = passwordEncoder;
-		// RestTemplate 인스턴스 생성 (빈으로 등록하지 않고 직접 생성)
-		this.restTemplate           = new RestTemplate();
+		this.passwordHashingService = passwordHashingService;
+		this.httpClients            = httpClients;
 		// Extractor 리스트 → Map(providerCode → extractor) 변환
 		this.extractorMap = extractors.stream()
 			.collect(Collectors.toMap(OAuth2UserInfoExtractor::getProviderCode, e -> e));
@@ -123,13 +123,13 @@ public class OAuth2Service
 	public List<OAuth2ProviderDto> getEnabledProviders()
 	{
 		// 시스템 설정: 소셜 로그인 전역 활성화 여부 확인
-		if (!settingService.getSystemBoolean("signup", "oauth2_enabled"))
+		if (!settingService.getBoolean(OAUTH2_SIGNUP_ENABLED))
 		{
 			return List.of();
 		}
 
 		// 활성화된 Provider 중 local 제외 (소셜만 반환)
-		return authProviderRepository.findByIsEnabledTrueOrderByDisplayOrder().stream()
+		return authProviderCache.getEnabled().stream()
 			.filter(p -> !"local".equals(p.getCode()))
 			.map(OAuth2ProviderDto::from)
 			.toList();
@@ -233,7 +233,7 @@ public class OAuth2Service
 			.orElseThrow(() -> new BusinessException(OAuth2ErrorCode.LINK_CONFIRM_FAILED));
 
 		// 비밀번호 불일치 시 실패
-		if (!passwordEncoder.matches(password, user.getPasswordHash()))
+		if (!passwordHashingService.matches(password, user.getPasswordHash()))
 		{
 			throw new BusinessException(OAuth2ErrorCode.LINK_CONFIRM_FAILED);
 		}
@@ -241,7 +241,7 @@ public class OAuth2Service
 		//----------------------------------------------------------------------------------------------------------------------
 		// 4. Provider 조회
 		//----------------------------------------------------------------------------------------------------------------------
-		AuthProviderEntity provider = authProviderRepository.findByCode(providerCode)
+		AuthProviderEntity provider = authProviderCache.findByCode(providerCode)
 			.orElseThrow(() -> new BusinessException(OAuth2ErrorCode.PROVIDER_NOT_FOUND));
 
 		//----------------------------------------------------------------------------------------------------------------------
@@ -498,7 +498,7 @@ public class OAuth2Service
 		//----------------------------------------------------------------------------------------------------------------------
 		// 4. 비밀번호 인코딩 + 로컬 자격증명 설정
 		//----------------------------------------------------------------------------------------------------------------------
-		String encodedPassword = passwordEncoder.encode(request.getPassword());
+		String encodedPassword = passwordHashingService.encode(request.getPassword());
 		user.setLocalCredentials(request.getUserId(), encodedPassword);
 
 		log.info("소셜 사용자 로컬 자격증명 설정: userPk={}, newUserId={}", userPk, request.getUserId());
@@ -510,7 +510,7 @@ public class OAuth2Service
 	private AuthProviderEntity getValidProvider(String providerCode)
 	{
 		// 코드로 Provider 조회
-		AuthProviderEntity provider = authProviderRepository.findByCode(providerCode)
+		AuthProviderEntity provider = authProviderCache.findByCode(providerCode)
 			.orElseThrow(() -> new BusinessException(OAuth2ErrorCode.PROVIDER_NOT_FOUND));
 
 		// 활성화 여부 확인
@@ -569,7 +569,7 @@ public class OAuth2Service
 
 			// 토큰 엔드포인트에 POST 요청
 			HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-			ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+			ResponseEntity<Map<String, Object>> response = httpClients.forProvider(provider.getCode()).exchange(
 				provider.getTokenUri(),
 				HttpMethod.POST,
 				request,
@@ -614,7 +614,7 @@ public class OAuth2Service
 			headers.setBearerAuth(accessToken);
 
 			HttpEntity<Void> request = new HttpEntity<>(headers);
-			ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+			ResponseEntity<Map<String, Object>> response = httpClients.forProvider(provider.getCode()).exchange(
 				provider.getUserinfoUri(),
 				HttpMethod.GET,
 				request,
@@ -711,7 +711,7 @@ public class OAuth2Service
 		//----------------------------------------------------------------------------------------------------------------------
 		// 4. 신규 사용자 생성
 		//----------------------------------------------------------------------------------------------------------------------
-		String randomPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+		String randomPassword = passwordHashingService.encode(UUID.randomUUID().toString());
 		String username = userInfo.getName() != null ? userInfo.getName() : userInfo.getEmail().split("@")[0];
 
 		UserEntity newUser = UserEntity.createSocialUser(
@@ -745,39 +745,34 @@ public class OAuth2Service
 	private LoginResponseDto createLoginSession(UserEntity user, String providerCode,
 	                                            String ipAddress, String userAgent)
 	{
-		// 1. DB 세션 생성
+		// 1. 세션 ID 선발급 + JWT Access/Refresh Token 생성 (토큰 해시를 먼저 계산하여 INSERT 1회로 저장)
+		String sessionId    = UUID.randomUUID().toString();
+		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), sessionId);
+		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), sessionId);
+		String refreshHash  = HashUtil.sha256Hex(refreshToken);
+
+		// 2. DB 세션 생성 (최종 토큰 해시 + 만료 일시 포함, 단일 INSERT)
+		LocalDateTime now = LocalDateTime.now();
 		SessionEntity session = SessionEntity.create(
+			sessionId,
 			user.getId(),
 			providerCode.toUpperCase(),
-			"pending",
-			"pending",
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000),
+			HashUtil.sha256Hex(accessToken),
+			refreshHash,
+			now.plus(jwtTokenProvider.getAccessTokenExpiration(), ChronoUnit.MILLIS),
+			now.plus(jwtTokenProvider.getRefreshTokenExpiration(), ChronoUnit.MILLIS),
 			ipAddress,
 			userAgent
 		);
 		sessionRepository.save(session);
 
-		// 2. JWT Access/Refresh Token 생성
-		String accessToken  = jwtTokenProvider.generateAccessToken(user.getId(), user.getUserId(), session.getId());
-		String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId(), session.getId());
-
-		// 3. 세션 토큰 해시값 업데이트
-		session.updateTokens(
-			sha256(accessToken),
-			sha256(refreshToken),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getAccessTokenExpiration() / 1000),
-			LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000)
-		);
-
-		// 4. Redis에 토큰 세션 저장
-		redisTokenService.saveAccessToken(user.getId(), session.getId(), jwtTokenProvider.getAccessTokenExpiration());
-		redisTokenService.saveRefreshToken(user.getId(), session.getId(), jwtTokenProvider.getRefreshTokenExpiration());
+		// 3. Redis에 토큰 세션 저장 (동시 세션 제한 포함, 1회 왕복)
+		issueTokenSession(user.getId(), sessionId, refreshHash);
 
 		log.info("소셜 로그인 JWT 발급: userId={}, provider={}, sessionId={}",
 			user.getUserId(), providerCode, session.getId());
 
-		// 5. 로그인 응답 반환
+		// 4. 로그인 응답 반환
 		return LoginResponseDto.of(user, accessToken, refreshToken);
 	}
 
@@ -786,27 +781,28 @@ public class OAuth2Service
 	//----------------------------------------------------------------------------------------------------------------------
 	private void checkOAuth2Enabled()
 	{
-		if (!settingService.getSystemBoolean("signup", "oauth2_enabled"))
+		if (!settingService.getBoolean(OAUTH2_SIGNUP_ENABLED))
 		{
 			throw new BusinessException(OAuth2ErrorCode.OAUTH2_DISABLED);
 		}
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 문자열의 SHA-256 해시 생성 (토큰 DB 저장용)
+	// Redis 토큰 세션 발급 (Access/Refresh 저장 + 세션 인덱스 + 동시 세션 제한을 1회 왕복으로 처리)
+	// 동시 세션 제한(session.max_concurrent, 0이면 제한 없음)으로 강제 종료된 세션은 DB 세션도 SESSION_LIMIT 사유로 폐기한다
 	//----------------------------------------------------------------------------------------------------------------------
-	private String sha256(String input)
+	private void issueTokenSession(String userPk, String sessionId, String refreshTokenHash)
 	{
-		try
-		{
-			// SHA-256 다이제스트 생성
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-			return HexFormat.of().formatHex(hash);
-		}
-		catch (NoSuchAlgorithmException e)
+		// 시스템 설정: 사용자당 최대 동시 세션 수 조회
+		int maxSessions = (int) settingService.getNumber(MAX_CONCURRENT_SESSIONS);
+		// 토큰 쌍 저장 + 초과 세션 토큰 삭제 (만료가 가장 이른 세션부터)
+		List<String> evicted = redisTokenService.issueTokenPair(userPk, sessionId, refreshTokenHash,
+			jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration(), maxSessions);
+		// 강제 종료된 세션의 DB 기록 폐기
+		for (String evictedSessionId : evicted)
 		{
-			throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+			sessionRepository.findByIdAndRevokedAtIsNull(evictedSessionId)
+				.ifPresent(session -> session.revoke("SESSION_LIMIT"));
 		}
 	}
 }
@@ -2,16 +2,31 @@ package com.gizzi.core.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 //----------------------------------------------------------------------------------------------------------------------
 // Redis 기반 토큰 세션 관리 서비스
 // Access/Refresh Token의 활성 상태를 Redis에 저장하고 검증한다
 // 키 패턴: auth:{type}:{userPk}:{sessionId}
+// 사용자별 세션 인덱스: auth:sessions:{userPk} (Sorted Set, member=sessionId, score=만료 시각 epoch ms)
+// 인덱스 덕분에 전체 로그아웃/동시 세션 제한/활성 세션 목록이 키스페이스 크기와 무관하게 O(사용자 세션 수)로 동작한다
+// 인덱스 TTL은 늘리기만 한다 (짧은 TTL의 세션 발급/갱신이 더 오래 사는 세션의 인덱스 항목을 먼저 만료시키지 않도록)
+// 인덱스 도입 전에 발급된 세션은 SessionIndexBackfill이 앱 시작 시 한 번 인덱스에 등록한다
+// 모든 스크립트는 접근하는 키를 KEYS로 선언한다 (동시 세션 제한 초과분은 발급 후 별도 호출로 폐기)
+// 토큰 삭제 시 폐기 채널에 발행하여 각 노드의 Access Token 니어 캐시를 즉시 무효화한다
+// 발급/폐기/갱신은 Lua 스크립트로 묶어 한 번의 왕복으로 원자적으로 처리한다
 //----------------------------------------------------------------------------------------------------------------------
 @Slf4j
 @Service
@@ -24,30 +39,233 @@ public class RedisTokenService
 
 	// [ 상수 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private static final String ACCESS_PREFIX  = "auth:access:";	// Access Token 키 접두사
-	private static final String REFRESH_PREFIX = "auth:refresh:";	// Refresh Token 키 접두사
-	private static final String ACTIVE_VALUE   = "active";			// 토큰 활성 상태 값
+	private static final String ACCESS_PREFIX         = "auth:access:";			// Access Token 키 접두사
+	private static final String REFRESH_PREFIX        = "auth:refresh:";			// Refresh Token 키 접두사
+	private static final String SESSION_INDEX_PREFIX  = "auth:sessions:";			// 사용자별 세션 인덱스 키 접두사 (Sorted Set)
+	private static final String BACKFILL_MARKER_KEY   = "auth:session-index:backfilled";	// 세션 인덱스 백필 완료 표식 (끝까지 성공한 뒤에만 기록)
+	private static final String BACKFILL_LOCK_KEY     = "lock:session-index-backfill";	// 세션 인덱스 백필 실행 잠금 키 (한 노드만 실행)
+	private static final long   BACKFILL_LOCK_TTL_MS  = 600_000L;				// 백필 잠금 유지 시간 (노드 장애 시 자동 해제, 10분)
+	private static final long   BACKFILL_DONE_TTL_MS = 30L * 24 * 60 * 60 * 1000;	// 완료 표식 보관 시간 (30일 — 만료 후 재실행되어도 등록은 ZADD NX라 무해)
+	private static final String REFRESH_RESULT_PREFIX = "auth:refresh-result:";	// 갱신 결과 키 접두사 (이전 Refresh 해시 기준)
+	private static final String ACTIVE_VALUE          = "active";				// Access Token 활성 상태 값 (Refresh 키 구버전 값 겸용)
+	private static final String PAIR_SEPARATOR        = "|";					// 갱신 결과 값의 토큰 구분자 (JWT에 없는 문자)
+	private static final long   REFRESH_RESULT_TTL_MS = 10_000L;				// 갱신 결과 보관 시간 (동시 갱신 합류 윈도우, 10초)
+	private static final String ROTATED               = "ROTATED";				// 교체 스크립트 반환값: 교체 성공
+	private static final String REJECTED              = "REJECTED";				// 교체 스크립트 반환값: 비활성 토큰
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 쌍 (갱신 결과 공유용)
+	//----------------------------------------------------------------------------------------------------------------------
+	public record TokenPair(String accessToken, String refreshToken)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 교체 결과 — rotated=true면 이번 요청이 교체함, false면 pair가 먼저 교체한 요청의 결과 (없으면 거부)
+	//----------------------------------------------------------------------------------------------------------------------
+	public record RotationResult(boolean rotated, TokenPair pair)
+	{
+		// 거부 여부 (비활성 토큰이고 합류할 갱신 결과도 없음)
+		public boolean isRejected()
+		{
+			return !rotated && pair == null;
+		}
+	}
+
+	// [ Lua 스크립트 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 쌍 발급: Access/Refresh 키 저장 + 세션 인덱스 등록 + 동시 세션 제한 초과분 조회
+	// 인덱스 TTL은 현재 남은 TTL보다 길 때만 늘린다 (PTTL 비교 — TTL이 없는 새 인덱스(-1)도 설정됨)
+	// KEYS: access, refresh, index / ARGV: sessionId, accessValue, accessTtlMs, refreshHash, refreshTtlMs, nowMs, maxSessions
+	// 반환: 동시 세션 제한을 넘은 오래된 세션 ID 목록 (키 삭제는 EVICT_SESSIONS_SCRIPT가 키를 선언하여 수행)
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<List> ISSUE_PAIR_SCRIPT = new DefaultRedisScript<>("""
+		local now = tonumber(ARGV[6])
+		local ttl = tonumber(ARGV[5])
+		redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+		redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+		redis.call('ZADD', KEYS[3], now + ttl, ARGV[1])
+		redis.call('ZREMRANGEBYSCORE', KEYS[3], 0, now)
+		if redis.call('PTTL', KEYS[3]) < ttl then
+			redis.call('PEXPIRE', KEYS[3], ttl)
+		end
+		local max = tonumber(ARGV[7])
+		if max > 0 then
+			local count = redis.call('ZCARD', KEYS[3])
+			if count > max then
+				return redis.call('ZRANGE', KEYS[3], 0, count - max - 1)
+			end
+		end
+		return {}
+		""", List.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 동시 세션 제한 초과분 폐기: 세션별 Access/Refresh 키 삭제 + 세션 인덱스 제거 + 폐기 채널 발행
+	// KEYS: index, access1, refresh1, access2, refresh2, ... / ARGV: channel, userPk, sessionId1, sessionId2, ...
+	// 반환: 삭제된 키 수
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> EVICT_SESSIONS_SCRIPT = new DefaultRedisScript<>("""
+		local deleted = 0
+		for i = 3, #ARGV do
+			local sid = ARGV[i]
+			local base = (i - 3) * 2 + 1
+			deleted = deleted + redis.call('DEL', KEYS[base + 1], KEYS[base + 2])
+			redis.call('ZREM', KEYS[1], sid)
+			redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. sid)
+		end
+		return deleted
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 세션 인덱스 백필: 인덱스 도입 전 발급된 Refresh 키를 남은 TTL 기준으로 인덱스에 등록 (이미 있으면 유지)
+	// KEYS: refresh, index / ARGV: sessionId, nowMs
+	// 반환: 등록 여부 (1 = 등록, 0 = 만료되었거나 이미 등록됨)
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>("""
+		local ttl = redis.call('PTTL', KEYS[1])
+		if ttl <= 0 then
+			return 0
+		end
+		local added = redis.call('ZADD', KEYS[2], 'NX', tonumber(ARGV[2]) + ttl, ARGV[1])
+		if redis.call('PTTL', KEYS[2]) < ttl then
+			redis.call('PEXPIRE', KEYS[2], ttl)
+		end
+		return added
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 잠금 해제: 자신이 설정한 토큰일 때만 삭제 (TTL 만료 후 다른 노드가 얻은 잠금을 지우지 않음)
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 쌍 폐기: Access/Refresh 키 삭제 + 세션 인덱스 제거 + 폐기 채널 발행
+	// KEYS: access, refresh, index / ARGV: sessionId, channel, message
+	// 반환: 삭제된 키 수
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> REVOKE_PAIR_SCRIPT = new DefaultRedisScript<>("""
+		local deleted = redis.call('DEL', KEYS[1], KEYS[2])
+		redis.call('ZREM', KEYS[3], ARGV[1])
+		redis.call('PUBLISH', ARGV[2], ARGV[3])
+		return deleted
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 활성 상태일 때만 토큰 쌍 교체 (Refresh Token Rotation, compare-and-swap + single-flight)
+	// Refresh 키 값이 제시된 토큰 해시(또는 구버전 "active")와 일치할 때만 새 값으로 교체하고,
+	// 새 토큰 쌍을 이전 해시 기준 결과 키에 짧게 보관하여 동시에 도착한 중복 갱신 요청이 같은 결과를 받게 한다
+	// KEYS: access, refresh, index, result / ARGV: expectedHash, legacyValue, accessValue, accessTtlMs, newRefreshHash,
+	//       refreshTtlMs, sessionId, nowMs, resultValue, resultTtlMs
+	// 반환: "ROTATED" = 교체 성공, "REJECTED" = 비활성 토큰, 그 외 = 먼저 교체한 요청의 결과 ("access|refresh")
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<String> ROTATE_IF_ACTIVE_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('GET', KEYS[2])
+		if (not current) or (current ~= ARGV[1] and current ~= ARGV[2]) then
+			local recent = redis.call('GET', KEYS[4])
+			if recent then
+				return recent
+			end
+			return 'REJECTED'
+		end
+		local now = tonumber(ARGV[8])
+		local ttl = tonumber(ARGV[6])
+		redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4])
+		redis.call('SET', KEYS[2], ARGV[5], 'PX', ARGV[6])
+		redis.call('ZADD', KEYS[3], now + ttl, ARGV[7])
+		if redis.call('PTTL', KEYS[3]) < ttl then
+			redis.call('PEXPIRE', KEYS[3], ttl)
+		end
+		redis.call('SET', KEYS[4], ARGV[9], 'PX', ARGV[10])
+		return 'ROTATED'
+		""", String.class);
 
 	//======================================================================================================================
-	// Access Token 세션을 Redis에 저장
+	// 토큰 쌍 발급 (로그인 시 1회 왕복, 동시 세션 제한 초과 시 폐기 1회 추가)
+	// Refresh 키에는 Refresh Token 해시를 저장하여 갱신 시 compare-and-swap 기준으로 사용한다
+	// maxSessions가 0 이하이면 동시 세션 제한 없음. 반환: 제한 초과로 폐기된 세션 ID 목록 (DB 세션 폐기용)
 	//======================================================================================================================
-	public void saveAccessToken(String userPk, String sessionId, long expirationMs)
+	@SuppressWarnings("unchecked")
+	public List<String> issueTokenPair(String userPk, String sessionId, String refreshTokenHash,
+	                                   long accessExpirationMs, long refreshExpirationMs, int maxSessions)
 	{
-		// 키: auth:access:{userPk}:{sessionId}, 값: "active", TTL: 만료시간
-		String key = ACCESS_PREFIX + userPk + ":" + sessionId;
-		redisTemplate.opsForValue().set(key, ACTIVE_VALUE, expirationMs, TimeUnit.MILLISECONDS);
-		log.debug("Access Token 저장: key={}", key);
+		// 스크립트 실행 (키: access, refresh, index)
+		List<String> evicted = redisTemplate.execute(ISSUE_PAIR_SCRIPT,
+			sessionKeys(userPk, sessionId),
+			sessionId,
+			ACTIVE_VALUE,
+			String.valueOf(accessExpirationMs),
+			refreshTokenHash,
+			String.valueOf(refreshExpirationMs),
+			String.valueOf(System.currentTimeMillis()),
+			String.valueOf(maxSessions));
+
+		// 제한 초과 세션 폐기 (삭제할 키를 모두 KEYS로 선언하여 별도 호출)
+		if (evicted != null && !evicted.isEmpty())
+		{
+			evictSessions(userPk, evicted);
+			log.info("동시 세션 제한 초과로 세션 종료: userPk={}, limit={}, evicted={}", userPk, maxSessions, evicted.size());
+			return evicted;
+		}
+		log.debug("토큰 쌍 발급: userPk={}, sessionId={}", userPk, sessionId);
+		return List.of();
 	}
 
 	//======================================================================================================================
-	// Refresh Token 세션을 Redis에 저장
+	// 최근 갱신 결과 조회 (동일 Refresh Token으로 먼저 완료된 갱신이 있으면 그 결과를 반환)
+	// 갱신 요청 초기에 호출하여 중복 요청의 DB 조회/토큰 생성 작업을 생략한다
 	//======================================================================================================================
-	public void saveRefreshToken(String userPk, String sessionId, long expirationMs)
+	public Optional<TokenPair> findRecentRotation(String refreshTokenHash)
 	{
-		// 키: auth:refresh:{userPk}:{sessionId}, 값: "active", TTL: 만료시간
-		String key = REFRESH_PREFIX + userPk + ":" + sessionId;
-		redisTemplate.opsForValue().set(key, ACTIVE_VALUE, expirationMs, TimeUnit.MILLISECONDS);
-		log.debug("Refresh Token 저장: key={}", key);
+		// 결과 키: auth:refresh-result:{이전 Refresh 해시}
+		String value = redisTemplate.opsForValue().get(REFRESH_RESULT_PREFIX + refreshTokenHash);
+		return Optional.ofNullable(value).map(this::parseTokenPair);
+	}
+
+	//======================================================================================================================
+	// 활성 상태일 때만 토큰 쌍 교체 (토큰 갱신 시 1회 왕복)
+	// 동일 Refresh Token으로 동시에 갱신하면 먼저 도착한 요청만 교체하고, 나머지는 그 결과를 공유받는다
+	//======================================================================================================================
+	public RotationResult rotateIfActive(String userPk, String sessionId, String currentRefreshHash,
+	                                     TokenPair newPair, String newRefreshHash,
+	                                     long accessExpirationMs, long refreshExpirationMs)
+	{
+		// 스크립트 키: access, refresh, index, result
+		List<String> keys = new ArrayList<>(sessionKeys(userPk, sessionId));
+		keys.add(REFRESH_RESULT_PREFIX + currentRefreshHash);
+
+		// 스크립트 실행
+		String result = redisTemplate.execute(ROTATE_IF_ACTIVE_SCRIPT,
+			keys,
+			currentRefreshHash,
+			ACTIVE_VALUE,
+			ACTIVE_VALUE,
+			String.valueOf(accessExpirationMs),
+			newRefreshHash,
+			String.valueOf(refreshExpirationMs),
+			sessionId,
+			String.valueOf(System.currentTimeMillis()),
+			newPair.accessToken() + PAIR_SEPARATOR + newPair.refreshToken(),
+			String.valueOf(REFRESH_RESULT_TTL_MS));
+
+		// 교체 성공
+		if (ROTATED.equals(result))
+		{
+			log.debug("토큰 교체: userPk={}, sessionId={}", userPk, sessionId);
+			return new RotationResult(true, newPair);
+		}
+		// 비활성 토큰 (합류할 결과 없음)
+		if (result == null || REJECTED.equals(result))
+		{
+			return new RotationResult(false, null);
+		}
+		// 동시 갱신에서 패배 — 먼저 교체한 요청의 결과 공유
+		log.debug("동시 토큰 갱신 합류: userPk={}, sessionId={}", userPk, sessionId);
+		return new RotationResult(false, parseTokenPair(result));
 	}
 
 	//======================================================================================================================
@@ -71,42 +289,172 @@ public class RedisTokenService
 	}
 
 	//======================================================================================================================
-	// 특정 세션의 Access + Refresh Token 삭제 (로그아웃)
+	// 특정 세션의 Access + Refresh Token 삭제 (로그아웃) — 삭제/인덱스 제거/폐기 발행을 1회 왕복으로 처리
 	//======================================================================================================================
 	public void deleteTokens(String userPk, String sessionId)
 	{
-		// Access Token 키 삭제
-		String accessKey  = ACCESS_PREFIX + userPk + ":" + sessionId;
-		// Refresh Token 키 삭제
-		String refreshKey = REFRESH_PREFIX + userPk + ":" + sessionId;
-		redisTemplate.delete(accessKey);
-		redisTemplate.delete(refreshKey);
+		// 스크립트 실행 (키: access, refresh, index)
+		redisTemplate.execute(REVOKE_PAIR_SCRIPT,
+			sessionKeys(userPk, sessionId),
+			sessionId,
+			AccessTokenLivenessCache.REVOCATION_CHANNEL,
+			userPk + ":" + sessionId);
 		log.debug("토큰 삭제: userPk={}, sessionId={}", userPk, sessionId);
 	}
 
 	//======================================================================================================================
 	// 사용자의 모든 토큰 삭제 (전체 로그아웃 / 보안 사고 대응)
+	// 세션 인덱스에 등록된 세션만 조회하므로 전체 키스페이스를 스캔하지 않는다
 	//======================================================================================================================
 	public void deleteAllUserTokens(String userPk)
 	{
-		// SCAN으로 해당 사용자의 모든 Access Token 키 조회 후 삭제
-		deleteKeysByPattern(ACCESS_PREFIX + userPk + ":*");
-		// SCAN으로 해당 사용자의 모든 Refresh Token 키 조회 후 삭제
-		deleteKeysByPattern(REFRESH_PREFIX + userPk + ":*");
-		log.info("사용자 전체 토큰 삭제: userPk={}", userPk);
+		// 인덱스에서 사용자의 모든 세션 ID 조회
+		String      indexKey   = SESSION_INDEX_PREFIX + userPk;
+		Set<String> sessionIds = redisTemplate.opsForZSet().range(indexKey, 0, -1);
+
+		// 세션별 Access/Refresh 키 + 인덱스 키를 한 번에 삭제
+		List<String> keys = new ArrayList<>();
+		int sessionCount  = sessionIds != null ? sessionIds.size() : 0;
+		if (sessionIds != null)
+		{
+			for (String sessionId : sessionIds)
+			{
+				keys.add(ACCESS_PREFIX + userPk + ":" + sessionId);
+				keys.add(REFRESH_PREFIX + userPk + ":" + sessionId);
+			}
+		}
+		keys.add(indexKey);
+		redisTemplate.delete(keys);
+
+		// 모든 노드의 니어 캐시에서 해당 사용자의 전체 세션 제거
+		publishRevocation(userPk + ":" + AccessTokenLivenessCache.ALL_SESSIONS);
+		log.info("사용자 전체 토큰 삭제: userPk={}, sessions={}", userPk, sessionCount);
+	}
+
+	//======================================================================================================================
+	// 사용자의 활성 세션 ID 목록 조회 (만료 시각 오름차순 — 오래된 세션 먼저)
+	//======================================================================================================================
+	public List<String> getActiveSessionIds(String userPk)
+	{
+		// 만료되지 않은 세션만 점수 범위로 조회
+		Set<String> sessionIds = redisTemplate.opsForZSet()
+			.rangeByScore(SESSION_INDEX_PREFIX + userPk, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+		return sessionIds != null ? new ArrayList<>(sessionIds) : List.of();
 	}
 
+	//======================================================================================================================
+	// 세션 인덱스 백필 (인덱스 도입 전 세션을 전체 로그아웃 대상에 포함)
+	// 클러스터에서 한 노드만 실행하도록 실행 잠금(SET NX PX + 토큰 확인 해제)을 얻고, Refresh 키를 SCAN하여 인덱스에 등록한다
+	// 완료 표식은 SCAN이 끝까지 성공한 뒤에만 TTL과 함께 기록하므로, 도중에 실패하거나 노드가 죽으면 표식 없이
+	// 잠금만 TTL로 풀려 다음 기동 때 처음부터 다시 실행된다 (등록은 ZADD NX라 반복해도 무해)
+	// 반환: 등록한 세션 수 (이미 완료되었거나 다른 노드가 실행 중이면 -1)
+	//======================================================================================================================
+	public int backfillSessionIndex()
+	{
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_MARKER_KEY)))
+		{
+			return -1;
+		}
+		String token = UUID.randomUUID().toString();
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+				.setIfAbsent(BACKFILL_LOCK_KEY, token, Duration.ofMillis(BACKFILL_LOCK_TTL_MS))))
+		{
+			return -1;
+		}
+
+		int         added   = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(REFRESH_PREFIX + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options))
+		{
+			while (cursor.hasNext())
+			{
+				// 키 형식: auth:refresh:{userPk}:{sessionId}
+				String key       = cursor.next();
+				String rest      = key.substring(REFRESH_PREFIX.length());
+				int    separator = rest.indexOf(':');
+				if (separator <= 0)
+				{
+					continue;
+				}
+				String userPk    = rest.substring(0, separator);
+				String sessionId = rest.substring(separator + 1);
+
+				Long result = redisTemplate.execute(BACKFILL_SCRIPT,
+					List.of(key, SESSION_INDEX_PREFIX + userPk),
+					sessionId,
+					String.valueOf(System.currentTimeMillis()));
+				if (result != null && result > 0)
+				{
+					added++;
+				}
+			}
+
+			// 마지막 키까지 등록한 뒤에만 완료 표식 기록
+			redisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, String.valueOf(System.currentTimeMillis()),
+				Duration.ofMillis(BACKFILL_DONE_TTL_MS));
+		}
+		finally
+		{
+			redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(BACKFILL_LOCK_KEY), token);
+		}
+		return added;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 동시 세션 제한 초과 세션 폐기 (1회 왕복) — 세션별 Access/Refresh 키를 모두 KEYS로 선언
+	//----------------------------------------------------------------------------------------------------------------------
+	private void evictSessions(String userPk, List<String> sessionIds)
+	{
+		// 키: index, (access, refresh) × 세션 수
+		List<String> keys = new ArrayList<>(sessionIds.size() * 2 + 1);
+		keys.add(SESSION_INDEX_PREFIX + userPk);
+		// 인자: channel, userPk, 세션 ID 목록
+		List<String> args = new ArrayList<>(sessionIds.size() + 2);
+		args.add(AccessTokenLivenessCache.REVOCATION_CHANNEL);
+		args.add(userPk);
+		for (String sessionId : sessionIds)
+		{
+			keys.add(ACCESS_PREFIX + userPk + ":" + sessionId);
+			keys.add(REFRESH_PREFIX + userPk + ":" + sessionId);
+			args.add(sessionId);
+		}
+		redisTemplate.execute(EVICT_SESSIONS_SCRIPT, keys, args.toArray());
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 세션 스크립트 키 목록 생성 (access, refresh, index 순서)
 	//----------------------------------------------------------------------------------------------------------------------
-	// 패턴에 매칭되는 Redis 키 일괄 삭제
+	private List<String> sessionKeys(String userPk, String sessionId)
+	{
+		return List.of(
+			ACCESS_PREFIX + userPk + ":" + sessionId,
+			REFRESH_PREFIX + userPk + ":" + sessionId,
+			SESSION_INDEX_PREFIX + userPk
+		);
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
-	private void deleteKeysByPattern(String pattern)
+	// 갱신 결과 값("access|refresh")을 토큰 쌍으로 변환
+	//----------------------------------------------------------------------------------------------------------------------
+	private TokenPair parseTokenPair(String value)
 	{
-		// SCAN 명령으로 패턴 매칭 키 조회 (KEYS 대비 프로덕션 안전)
-		Set<String> keys = redisTemplate.keys(pattern);
-		// 매칭되는 키가 있으면 일괄 삭제
-		if (keys != null && !keys.isEmpty())
+		int separator = value.indexOf(PAIR_SEPARATOR);
+		return new TokenPair(value.substring(0, separator), value.substring(separator + 1));
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 토큰 폐기 메시지 발행 (Redis Pub/Sub)
+	//----------------------------------------------------------------------------------------------------------------------
+	private void publishRevocation(String message)
+	{
+		// 발행 실패는 니어 캐시 TTL 만료로 자연 복구되므로 예외를 전파하지 않는다
+		try
+		{
+			redisTemplate.convertAndSend(AccessTokenLivenessCache.REVOCATION_CHANNEL, message);
+		}
+		catch (Exception e)
 		{
-			redisTemplate.delete(keys);
+			log.warn("토큰 폐기 메시지 발행 실패: message={}, error={}", message, e.getMessage());
 		}
 	}
 }
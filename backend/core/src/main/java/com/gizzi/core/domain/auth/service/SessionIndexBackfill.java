@@ -0,0 +1,41 @@
+package com.gizzi.core.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 세션 인덱스 백필 러너 — 앱 시작 시 인덱스(auth:sessions:{userPk}) 도입 전에 발급된 세션을 인덱스에 등록
+// 등록하지 않으면 해당 세션은 전체 로그아웃(deleteAllUserTokens)에서 빠지고 Refresh Token 만료 때까지 살아있다
+// 실행 잠금을 얻은 한 노드만 실행하고 끝까지 성공해야 완료 표식이 남으며, Redis 장애로 실패해도 기동은 계속한다 (다음 기동 때 재시도)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionIndexBackfill implements ApplicationRunner
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final RedisTokenService redisTokenService;	// Redis 토큰 세션 관리 서비스
+
+	//======================================================================================================================
+	// 앱 시작 시 실행 — 세션 인덱스 백필
+	//======================================================================================================================
+	@Override
+	public void run(ApplicationArguments args)
+	{
+		try
+		{
+			int added = redisTokenService.backfillSessionIndex();
+			if (added >= 0)
+			{
+				log.info("세션 인덱스 백필 완료: {}개 세션 등록", added);
+			}
+		}
+		catch (Exception e)
+		{
+			log.warn("세션 인덱스 백필 실패 — 다음 기동 때 재시도: error={}", e.getMessage());
+		}
+	}
+}
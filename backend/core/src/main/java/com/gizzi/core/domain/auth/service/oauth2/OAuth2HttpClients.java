@@ -0,0 +1,131 @@
+package com.gizzi.core.domain.auth.service.oauth2;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 Provider별 HTTP 클라이언트
+// Provider마다 java.net.http.HttpClient 1개를 공유하여 keep-alive 연결을 재사용하고,
+// 연결/응답 대기 시간을 제한하여 느린 외부 엔드포인트가 요청 스레드를 무기한 점유하지 않도록 한다
+// 시간 제한 설정 (Provider별 값이 없으면 기본값 사용):
+//   app.oauth2.http.connect-timeout-ms / app.oauth2.http.read-timeout-ms
+//   app.oauth2.http.providers.{code}.connect-timeout-ms / app.oauth2.http.providers.{code}.read-timeout-ms
+@Slf4j
+@Component
+public class OAuth2HttpClients
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String PREFIX             = "app.oauth2.http.";	// 설정 키 접두사
+	private static final long   DEFAULT_CONNECT_MS = 3_000L;				// 기본 연결 대기 시간
+	private static final long   DEFAULT_READ_MS    = 5_000L;				// 기본 응답 대기 시간
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final Environment   environment;		// Provider별 시간 제한 설정 조회
+	private final MeterRegistry meterRegistry;		// 외부 호출 소요 시간 계측
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 클라이언트 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final ConcurrentHashMap<String, RestTemplate> clients = new ConcurrentHashMap<>();	// providerCode → RestTemplate
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자
+	//----------------------------------------------------------------------------------------------------------------------
+	public OAuth2HttpClients(Environment environment, MeterRegistry meterRegistry)
+	{
+		this.environment   = environment;
+		this.meterRegistry = meterRegistry;
+	}
+
+	//======================================================================================================================
+	// Provider 전용 RestTemplate 반환 (최초 호출 시 생성 후 재사용)
+	//======================================================================================================================
+	public RestTemplate forProvider(String providerCode)
+	{
+		return clients.computeIfAbsent(providerCode, this::create);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// Provider 전용 RestTemplate 생성 — 공유 HttpClient(연결 풀) + 응답 대기 제한 + 계측 인터셉터
+	//----------------------------------------------------------------------------------------------------------------------
+	private RestTemplate create(String providerCode)
+	{
+		Duration connectTimeout = timeout(providerCode, "connect-timeout-ms", DEFAULT_CONNECT_MS);
+		Duration readTimeout    = timeout(providerCode, "read-timeout-ms", DEFAULT_READ_MS);
+
+		// HTTP/1.1 keep-alive 연결을 클라이언트 내부 풀에서 재사용
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(connectTimeout)
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.build();
+
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(readTimeout);
+
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
+		restTemplate.getInterceptors().add(timingInterceptor(providerCode));
+
+		log.info("OAuth2 HTTP 클라이언트 생성: provider={}, connectTimeout={}ms, readTimeout={}ms",
+			providerCode, connectTimeout.toMillis(), readTimeout.toMillis());
+		return restTemplate;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 외부 호출 계측 인터셉터 — auth.oauth2.http{provider, method, outcome}
+	//----------------------------------------------------------------------------------------------------------------------
+	private ClientHttpRequestInterceptor timingInterceptor(String providerCode)
+	{
+		return (request, body, execution) ->
+		{
+			long   start   = System.nanoTime();
+			String outcome = "IO_ERROR";
+			try
+			{
+				ClientHttpResponse response = execution.execute(request, body);
+				outcome = String.valueOf(response.getStatusCode().value());
+				return response;
+			}
+			catch (IOException e)
+			{
+				log.warn("OAuth2 외부 호출 실패: provider={}, uri={}, error={}", providerCode, request.getURI(), e.getMessage());
+				throw e;
+			}
+			finally
+			{
+				Timer.builder("auth.oauth2.http")
+					.tag("provider", providerCode)
+					.tag("method", request.getMethod().name())
+					.tag("outcome", outcome)
+					.register(meterRegistry)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		};
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 시간 제한 설정 조회 (Provider별 값 → 공통 값 → 기본값)
+	//----------------------------------------------------------------------------------------------------------------------
+	private Duration timeout(String providerCode, String name, long defaultMs)
+	{
+		long common = environment.getProperty(PREFIX + name, Long.class, defaultMs);
+		long value  = environment.getProperty(PREFIX + "providers." + providerCode + "." + name, Long.class, common);
+		return Duration.ofMillis(Math.max(value, 1));
+	}
+}
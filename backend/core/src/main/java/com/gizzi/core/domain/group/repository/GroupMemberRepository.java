@@ -27,6 +27,14 @@ public interface GroupMemberRepository extends JpaRepository<GroupMemberEntity,
 	// 특정 그룹의 멤버 수 조회
 	long countByGroupId(String groupId);
 
+	// 특정 그룹의 멤버 사용자 ID 목록 조회 (엔티티 적재 없이 ID만)
+	@Query("SELECT gm.userId FROM GroupMemberEntity gm WHERE gm.groupId = :groupId")
+	List<String> findUserIdsByGroupId(@Param("groupId") String groupId);
+
+	// 특정 사용자의 소속 그룹 ID 목록 조회 (엔티티 적재 없이 ID만)
+	@Query("SELECT gm.groupId FROM GroupMemberEntity gm WHERE gm.userId = :userId")
+	List<String> findGroupIdsByUserId(@Param("userId") String userId);
+
 	// 여러 그룹의 멤버 사용자 ID 목록 조회 (중복 제거)
 	@Query("SELECT DISTINCT gm.userId FROM GroupMemberEntity gm WHERE gm.groupId IN :groupIds")
 	List<String> findDistinctUserIdsByGroupIds(@Param("groupIds") List<String> groupIds);
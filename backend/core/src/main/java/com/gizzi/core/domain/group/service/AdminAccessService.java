@@ -1,19 +1,28 @@
 package com.gizzi.core.domain.group.service;
 
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
 import com.gizzi.core.domain.group.entity.GroupEntity;
 import com.gizzi.core.domain.group.repository.GroupMemberRepository;
 import com.gizzi.core.domain.group.repository.GroupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 // 관리자 그룹 소속 여부 확인 전용 서비스
 // admin-api 접근 제어에서 사용: administrator 그룹 소속자만 허용
+// 관리자 그룹 PK와 멤버 PK 집합을 인메모리에 보관하여 요청마다 tb_groups/tb_group_members를 조회하지 않는다
+// 관리자 그룹 멤버 추가/제거, 관리자 사용자 삭제/탈퇴 시 커밋 후 캐시 무효화 버스(ADMIN_MEMBERS 토픽)로 모든 노드의 캐시를 무효화하고
+// 다음 조회 때 그룹 PK와 멤버 집합을 함께 다시 적재한다 (시드 재적재로 그룹 PK가 바뀌어도 반영됨)
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class AdminAccessService
 {
@@ -29,37 +38,53 @@ public class AdminAccessService
 	//----------------------------------------------------------------------------------------------------------------------
 
 	// 그룹 리포지토리 (관리자 그룹 PK 조회용)
-	private final GroupRepository       groupRepository;
+	private final GroupRepository               groupRepository;
+
+	// 그룹 멤버 리포지토리 (관리자 멤버 목록 적재용)
+	private final GroupMemberRepository         groupMemberRepository;
+
+	// 노드 간 캐시 무효화 버스 (무효화 발행/수신)
+	private final CacheInvalidationBus          invalidationBus;
 
-	// 그룹 멤버 리포지토리 (소속 여부 확인용)
-	private final GroupMemberRepository groupMemberRepository;
+	// 메트릭 레지스트리 (적재/무효화 횟수 계측)
+	private final MeterRegistry                 meterRegistry;
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 캐시 필드 ]
 	//----------------------------------------------------------------------------------------------------------------------
 
-	// 관리자 그룹 PK 캐시 (애플리케이션 시작 시 1회 조회)
-	private String adminGroupId;
+	// 관리자 그룹 PK 캐시 (null이면 다음 조회 시 적재)
+	private volatile String adminGroupId;
+
+	// 관리자 멤버 PK 집합 (null이면 다음 조회 시 적재)
+	private final AtomicReference<Set<String>> adminMembers = new AtomicReference<>();
+
+	// 무효화 시마다 증가하는 세대 번호 (적재 도중 무효화된 결과를 저장하지 않기 위함)
+	private final AtomicLong version = new AtomicLong();
+
+	// 멤버 집합 적재(DB 조회) 횟수
+	private Counter loadCounter;
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 초기화 ]
 	//----------------------------------------------------------------------------------------------------------------------
 
-	// 애플리케이션 시작 시 administrator 그룹 PK를 캐시
+	// 애플리케이션 시작 시 administrator 그룹 PK와 멤버 집합을 캐시하고 무효화 토픽 구독
 	@PostConstruct
 	public void init()
 	{
-		// DB에서 관리자 그룹 코드로 조회
-		groupRepository.findByGroupCode(ADMIN_GROUP_CODE)
-			.ifPresentOrElse(
-				group ->
-				{
-					// 관리자 그룹 PK 캐시 저장
-					adminGroupId = group.getId();
-					log.info("관리자 그룹 PK 캐시 완료: groupId={}", adminGroupId);
-				},
-				() -> log.warn("관리자 그룹이 존재하지 않습니다: groupCode={} — 시드 데이터를 확인하세요", ADMIN_GROUP_CODE)
-			);
+		// 무효화 토픽 구독 + 메트릭 등록
+		invalidationBus.subscribe(CacheTopic.ADMIN_MEMBERS, key -> invalidateLocal());
+		loadCounter = meterRegistry.counter("auth.admin.members.loads");
+
+		// 관리자 그룹 PK + 멤버 집합 선적재
+		if (resolveAdminGroupId() == null)
+		{
+			log.warn("관리자 그룹이 존재하지 않습니다: groupCode={} — 시드 데이터를 확인하세요", ADMIN_GROUP_CODE);
+			return;
+		}
+		log.info("관리자 그룹 PK 캐시 완료: groupId={}", adminGroupId);
+		log.info("관리자 멤버 캐시 완료: members={}", currentMembers().size());
 	}
 
 	//======================================================================================================================
@@ -75,16 +100,85 @@ public class AdminAccessService
 		//----------------------------------------------------------------------------------------------------------------------
 
 		// 관리자 그룹이 DB에 없는 경우 (시드 데이터 누락) → 모든 접근 차단
-		if (adminGroupId == null)
+		if (resolveAdminGroupId() == null)
 		{
 			log.error("관리자 그룹 PK가 캐시되지 않음 — 접근 차단");
 			return false;
 		}
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// DB 조회: 관리자 그룹 멤버십 존재 여부 (요청당 1회 쿼리)
+		// 인메모리 관리자 멤버 집합 확인 (무효화 직후에만 DB 조회)
 		//----------------------------------------------------------------------------------------------------------------------
 
-		return groupMemberRepository.existsByGroupIdAndUserId(adminGroupId, userPk);
+		return currentMembers().contains(userPk);
+	}
+
+	// 관리자 그룹 여부 확인 (멤버 변경 시 무효화 필요 여부 판단용)
+	public boolean isAdminGroup(String groupId)
+	{
+		return groupId != null && groupId.equals(resolveAdminGroupId());
+	}
+
+	//======================================================================================================================
+	// [ 캐시 무효화 ]
+	//======================================================================================================================
+
+	// 트랜잭션 커밋 후 모든 노드의 관리자 그룹 PK/멤버 집합 무효화 (트랜잭션 밖이면 즉시)
+	public void invalidateAfterCommit()
+	{
+		invalidationBus.publishAfterCommit(CacheTopic.ADMIN_MEMBERS, ADMIN_GROUP_CODE);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 내부 헬퍼 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 관리자 그룹 PK 반환 (없으면 DB에서 조회, 그룹이 없으면 null)
+	// 조회 도중 무효화가 있었다면 결과를 반환만 하고 저장하지 않는다
+	private String resolveAdminGroupId()
+	{
+		String cached = adminGroupId;
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		long   loadVersion = version.get();
+		String loaded      = groupRepository.findByGroupCode(ADMIN_GROUP_CODE)
+			.map(GroupEntity::getId)
+			.orElse(null);
+		if (loaded != null && version.get() == loadVersion)
+		{
+			adminGroupId = loaded;
+		}
+		return loaded;
+	}
+
+	// 현재 관리자 멤버 집합 반환 (없으면 DB에서 적재)
+	private Set<String> currentMembers()
+	{
+		Set<String> cached = adminMembers.get();
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		// 적재 도중 무효화가 있었다면 결과를 반환만 하고 저장하지 않는다
+		long        loadVersion = version.get();
+		Set<String> loaded      = Set.copyOf(groupMemberRepository.findUserIdsByGroupId(resolveAdminGroupId()));
+		loadCounter.increment();
+		if (version.get() == loadVersion)
+		{
+			adminMembers.compareAndSet(null, loaded);
+		}
+		return loaded;
+	}
+
+	// 로컬 관리자 그룹 PK/멤버 집합 폐기
+	private void invalidateLocal()
+	{
+		version.incrementAndGet();
+		adminGroupId = null;
+		adminMembers.set(null);
 	}
 }
@@ -16,6 +16,7 @@ import com.gizzi.core.domain.group.repository.GroupMemberRepository;
 import com.gizzi.core.domain.group.repository.GroupRepository;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
+import com.gizzi.core.module.PermissionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -54,6 +55,12 @@ public class GroupService
 	// 감사 로그 서비스
 	private final AuditLogService       auditLogService;
 
+	// 관리자 그룹 소속 확인 서비스 (관리자 멤버 변경 시 캐시 무효화)
+	private final AdminAccessService    adminAccessService;
+
+	// 컴파일된 권한 캐시 (멤버십 변경 시 무효화 — 그룹 멤버십 캐시도 같은 메시지로 함께 무효화됨)
+	private final PermissionCache       permissionCache;
+
 	//======================================================================================================================
 	// [ 그룹 CRUD ]
 	//======================================================================================================================
@@ -109,6 +116,9 @@ public class GroupService
 		GroupMemberEntity ownerMember = GroupMemberEntity.create(savedGroup.getId(), ownerUserId);
 		groupMemberRepository.save(ownerMember);
 
+		// 커밋 후 소유자의 컴파일된 권한/그룹 멤버십 캐시 무효화
+		permissionCache.invalidateUser(ownerUserId);
+
 		log.info("그룹 생성 완료: groupCode={}, name={}, owner={}",
 			savedGroup.getGroupCode(), savedGroup.getName(), ownerUserId);
 
@@ -199,6 +209,9 @@ public class GroupService
 		// 그룹 삭제 (CASCADE로 멤버 자동 삭제)
 		groupRepository.delete(group);
 
+		// 커밋 후 전체 컴파일된 권한 캐시 무효화 (그룹 권한과 멤버십이 함께 삭제됨)
+		permissionCache.invalidateAll();
+
 		log.info("그룹 삭제 완료: groupId={}, groupCode={}", groupId, group.getGroupCode());
 
 		//----------------------------------------------------------------------------------------------------------------------
@@ -283,6 +296,15 @@ public class GroupService
 		GroupMemberEntity member = GroupMemberEntity.create(groupId, userPk);
 		groupMemberRepository.save(member);
 
+		// 관리자 그룹이면 커밋 후 관리자 멤버 캐시 무효화
+		if (adminAccessService.isAdminGroup(groupId))
+		{
+			adminAccessService.invalidateAfterCommit();
+		}
+
+		// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화 (그룹 권한 합산 결과가 바뀜)
+		permissionCache.invalidateUser(userPk);
+
 		log.info("그룹 멤버 추가: groupId={}, loginId={}, userPk={}", groupId, loginId, userPk);
 
 		//----------------------------------------------------------------------------------------------------------------------
@@ -338,6 +360,15 @@ public class GroupService
 		// 멤버 제거 (PK 기반)
 		groupMemberRepository.deleteByGroupIdAndUserId(groupId, userPk);
 
+		// 관리자 그룹이면 커밋 후 관리자 멤버 캐시 무효화
+		if (adminAccessService.isAdminGroup(groupId))
+		{
+			adminAccessService.invalidateAfterCommit();
+		}
+
+		// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화 (그룹 권한 합산 결과가 바뀜)
+		permissionCache.invalidateUser(userPk);
+
 		log.info("그룹 멤버 제거: groupId={}, loginId={}, userPk={}", groupId, loginId, userPk);
 
 		//----------------------------------------------------------------------------------------------------------------------
@@ -411,6 +442,8 @@ public class GroupService
 					// 기본 그룹에 멤버 추가
 					GroupMemberEntity member = GroupMemberEntity.create(group.getId(), userId);
 					groupMemberRepository.save(member);
+					// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화
+					permissionCache.invalidateUser(userId);
 					log.info("기본 그룹 배정 완료: userId={}, groupCode={}", userId, DEFAULT_GROUP_CODE);
 				}
 			},
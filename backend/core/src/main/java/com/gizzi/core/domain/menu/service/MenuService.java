@@ -2,29 +2,40 @@ package com.gizzi.core.domain.menu.service;
 
 import com.gizzi.core.common.exception.BusinessException;
 import com.gizzi.core.common.exception.MenuErrorCode;
+import com.gizzi.core.common.util.HashUtil;
 import com.gizzi.core.domain.menu.dto.CreateMenuRequestDto;
 import com.gizzi.core.domain.menu.dto.MenuResponseDto;
 import com.gizzi.core.domain.menu.dto.UpdateMenuRequestDto;
 import com.gizzi.core.domain.menu.entity.MenuEntity;
 import com.gizzi.core.domain.menu.entity.MenuType;
 import com.gizzi.core.domain.menu.repository.MenuRepository;
+import com.gizzi.core.module.ModuleAccessRegistry;
+import com.gizzi.core.module.entity.ModuleEntity;
+import com.gizzi.core.module.entity.ModuleInstanceEntity;
 import com.gizzi.core.module.repository.ModuleInstanceRepository;
 import com.gizzi.core.module.repository.ModuleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 // 메뉴 관리 서비스
 // 메뉴 CRUD, 트리 조회, 정렬을 담당한다
-// 메뉴는 URL 단축(Alias) 시스템으로서 권한 필터링 없이 모든 보이는 메뉴를 노출한다
+// 사용자 메뉴 트리는 MODULE 항목을 연결된 인스턴스의 모듈 접근 규칙(ModuleAccessRegistry)으로 필터링하며,
+// 보이는 인스턴스 집합(권한 프로필)별로 MenuTreeCache에 캐시되어 보이는 인스턴스가 같은 사용자들이 트리를 공유한다
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -49,6 +60,8 @@ public class MenuService
 	private final MenuRepository           menuRepository;		// 메뉴 리포지토리
 	private final ModuleInstanceRepository instanceRepository;	// 모듈 인스턴스 리포지토리 (MODULE 타입 URL 생성용)
 	private final ModuleRepository         moduleRepository;	// 모듈 리포지토리 (slug 조회 + alias 충돌 검사용)
+	private final ModuleAccessRegistry     accessRegistry;		// 모듈 접근 레지스트리 (MODULE 메뉴 가시성 판단용)
+	private final MenuTreeCache            menuTreeCache;		// 사용자 메뉴 트리 캐시
 
 	//======================================================================================================================
 	// 메뉴 항목 생성
@@ -115,6 +128,7 @@ public class MenuService
 
 		// DB에 저장
 		menuRepository.save(entity);
+		menuTreeCache.invalidateAfterCommit();
 		log.info("메뉴 생성: {} ({})", entity.getName(), entity.getMenuType());
 
 		// 응답 DTO 변환 후 반환
@@ -171,6 +185,7 @@ public class MenuService
 
 		// DB에 저장
 		menuRepository.save(entity);
+		menuTreeCache.invalidateAfterCommit();
 		log.info("메뉴 수정: {} ({})", entity.getName(), entity.getId());
 
 		// 응답 DTO 변환 후 반환
@@ -191,6 +206,7 @@ public class MenuService
 
 		// DB에서 삭제
 		menuRepository.delete(entity);
+		menuTreeCache.invalidateAfterCommit();
 		log.info("메뉴 삭제: {} ({})", entity.getName(), entity.getId());
 	}
 
@@ -233,6 +249,7 @@ public class MenuService
 		// 정렬 순서와 부모 갱신 후 저장
 		entity.updateOrder(sortOrder, parentId != null && !parentId.isBlank() ? parentId : null);
 		menuRepository.save(entity);
+		menuTreeCache.invalidateAfterCommit();
 	}
 
 	//======================================================================================================================
@@ -250,6 +267,7 @@ public class MenuService
 		// 가시성 반전 후 저장
 		entity.toggleVisibility();
 		menuRepository.save(entity);
+		menuTreeCache.invalidateAfterCommit();
 	}
 
 	//======================================================================================================================
@@ -260,25 +278,100 @@ public class MenuService
 		// 전체 메뉴 로드
 		List<MenuEntity> allMenus = menuRepository.findAllByOrderBySortOrderAsc();
 		// 트리 구조로 변환하여 반환
-		return buildTree(allMenus, null);
+		return buildTree(allMenus, null, menu -> true, this::buildUrl);
 	}
 
 	//======================================================================================================================
-	// 보이는 메뉴 트리 조회 (모든 사용자 공개 — 권한 필터링 없음)
-	// is_visible = true인 메뉴만 반환한다
+	// 사용자별 보이는 메뉴 트리 조회 (userId가 null이면 비로그인)
+	// is_visible = true인 메뉴 중 MODULE 항목은 연결된 인스턴스에 접근할 수 있을 때만 포함한다
+	//   - 모듈이 접근 정책을 등록했다면 그 모듈 화면을 막는 것과 같은 규칙 (예: 게시판은 관리자/부관리자 우회 + BOARD_BOARD_ACCESS)
+	//   - 정책이 없는 모듈은 기본 규칙 (권한 미설정 → 전체 공개, 권한 설정 → read 액션 보유 시 표시)
+	// 보이는 인스턴스 집합이 같은 사용자는 캐시된 같은 트리를 공유한다
+	// 캐시 히트 경로에서 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (스냅샷 적재는 읽기 전용 조회만 수행)
 	//======================================================================================================================
-	public List<MenuResponseDto> getVisibleMenuTree()
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<MenuResponseDto> getVisibleMenuTree(String userId)
 	{
-		// is_visible = true인 메뉴만 로드
-		List<MenuEntity> visibleMenus = menuRepository.findByIsVisibleTrueOrderBySortOrderAsc();
-		// 트리 구조로 변환하여 반환
-		return buildTree(visibleMenus, null);
+		// 보이는 메뉴 스냅샷 (메뉴 변경 전까지 재사용)
+		MenuTreeCache.Snapshot snapshot = menuTreeCache.getSnapshot(this::loadVisibleSnapshot);
+
+		// 사용자가 볼 수 있는 인스턴스 집합 = 권한 프로필
+		// 키는 정렬한 인스턴스 ID 목록의 SHA-256 (인스턴스 수와 무관하게 64자 고정, 그룹/직접 권한/소유 여부 자체는 키에 들어가지 않음)
+		Set<String> visibleInstances = resolveVisibleInstances(userId, snapshot.instanceModules());
+		String      profileKey       = HashUtil.sha256Hex(String.join(",", new TreeSet<>(visibleInstances)));
+
+		return menuTreeCache.getTree(snapshot, profileKey, () -> buildTree(
+				snapshot.menus(),
+				null,
+				menu -> menu.getMenuType() != MenuType.MODULE || visibleInstances.contains(menu.getModuleInstanceId()),
+				menu -> snapshot.urls().get(menu.getId())));
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 보이는 메뉴 스냅샷 적재 — is_visible 메뉴 + MODULE URL 일괄 계산 (인스턴스/모듈 일괄 조회)
+	//----------------------------------------------------------------------------------------------------------------------
+	private MenuTreeCache.Snapshot loadVisibleSnapshot()
+	{
+		List<MenuEntity> menus = menuRepository.findByIsVisibleTrueOrderBySortOrderAsc();
+
+		// 메뉴가 참조하는 인스턴스 ID 수집
+		Set<String> instanceIds = new HashSet<>();
+		for (MenuEntity menu : menus)
+		{
+			if (menu.getMenuType() == MenuType.MODULE && menu.getModuleInstanceId() != null)
+			{
+				instanceIds.add(menu.getModuleInstanceId());
+			}
+		}
+
+		// 인스턴스/모듈 일괄 조회
+		Map<String, ModuleInstanceEntity> instances = new HashMap<>();
+		instanceRepository.findAllById(instanceIds).forEach(instance -> instances.put(instance.getInstanceId(), instance));
+		Map<String, ModuleEntity> modules = new HashMap<>();
+		moduleRepository.findAll().forEach(module -> modules.put(module.getCode(), module));
+
+		// 존재하는 인스턴스의 모듈 코드 (모듈별 접근 판정용)
+		Map<String, String> instanceModules = new HashMap<>();
+		instances.forEach((instanceId, instance) -> instanceModules.put(instanceId, instance.getModuleCode()));
+
+		// 메뉴 ID별 URL 계산 (값이 null인 항목은 저장하지 않음)
+		Map<String, String> urls = new HashMap<>();
+		for (MenuEntity menu : menus)
+		{
+			String url = menu.getMenuType() == MenuType.MODULE
+					? composeModuleUrl(instances.get(menu.getModuleInstanceId()), modules, menu.getContentPath())
+					: buildUrl(menu);
+			if (url != null)
+			{
+				urls.put(menu.getId(), url);
+			}
+		}
+
+		return new MenuTreeCache.Snapshot(List.copyOf(menus), Map.copyOf(urls), Map.copyOf(instanceModules));
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 사용자가 볼 수 있는 인스턴스 집합 계산
+	// 인스턴스를 모듈별로 묶어 모듈 접근 규칙으로 일괄 판정 (존재하지 않는 인스턴스는 제외)
+	//----------------------------------------------------------------------------------------------------------------------
+	private Set<String> resolveVisibleInstances(String userId, Map<String, String> instanceModules)
+	{
+		Map<String, Set<String>> byModule = new HashMap<>();
+		instanceModules.forEach((instanceId, moduleCode) ->
+				byModule.computeIfAbsent(moduleCode, k -> new HashSet<>()).add(instanceId));
+
+		Set<String> visible = new HashSet<>();
+		byModule.forEach((moduleCode, instanceIds) ->
+				visible.addAll(accessRegistry.filterAccessible(moduleCode, userId, instanceIds)));
+		return visible;
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// 메뉴 트리를 재귀적으로 구성
+	// visible: 포함할 메뉴 판정 (제외된 메뉴의 하위 메뉴도 함께 제외), urlOf: 메뉴 URL 계산
 	//----------------------------------------------------------------------------------------------------------------------
-	private List<MenuResponseDto> buildTree(List<MenuEntity> allMenus, String parentId)
+	private List<MenuResponseDto> buildTree(List<MenuEntity> allMenus, String parentId,
+	                                        Predicate<MenuEntity> visible, Function<MenuEntity, String> urlOf)
 	{
 		List<MenuResponseDto> result = new ArrayList<>();
 
@@ -289,12 +382,13 @@ public class MenuService
 				.filter(m -> parentId == null
 						? m.getParentId() == null
 						: parentId.equals(m.getParentId()))
+				.filter(visible)
 				.collect(Collectors.toList());
 
 		for (MenuEntity menu : children)
 		{
 			// 하위 메뉴 재귀 구성
-			List<MenuResponseDto> childDtos = buildTree(allMenus, menu.getId());
+			List<MenuResponseDto> childDtos = buildTree(allMenus, menu.getId(), visible, urlOf);
 
 			// SEPARATOR는 자식이 없으면 제외 (사용자 트리에서)
 			if (menu.getMenuType() == MenuType.SEPARATOR && childDtos.isEmpty())
@@ -303,7 +397,7 @@ public class MenuService
 			}
 
 			// 응답 DTO로 변환하여 결과에 추가
-			result.add(toResponseDto(menu, childDtos));
+			result.add(toResponseDto(menu, urlOf.apply(menu), childDtos));
 		}
 
 		return result;
@@ -313,13 +407,21 @@ public class MenuService
 	// MenuEntity → 응답 DTO 변환
 	//----------------------------------------------------------------------------------------------------------------------
 	private MenuResponseDto toResponseDto(MenuEntity entity, List<MenuResponseDto> children)
+	{
+		return toResponseDto(entity, buildUrl(entity), children);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// MenuEntity → 응답 DTO 변환 (URL 지정)
+	//----------------------------------------------------------------------------------------------------------------------
+	private MenuResponseDto toResponseDto(MenuEntity entity, String url, List<MenuResponseDto> children)
 	{
 		return MenuResponseDto.builder()
 				.id(entity.getId())
 				.name(entity.getName())
 				.icon(entity.getIcon())
 				.menuType(entity.getMenuType().name())
-				.url(buildUrl(entity))
+				.url(url)
 				.moduleInstanceId(entity.getModuleInstanceId())
 				.customUrl(entity.getCustomUrl())
 				.aliasPath(entity.getAliasPath())
@@ -387,6 +489,31 @@ public class MenuService
 				.orElse(null);
 	}
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// 미리 조회한 인스턴스/모듈로 URL 생성 (스냅샷 적재용, buildModuleUrl과 같은 규칙)
+	//----------------------------------------------------------------------------------------------------------------------
+	private String composeModuleUrl(ModuleInstanceEntity instance, Map<String, ModuleEntity> modules, String contentPath)
+	{
+		// 인스턴스 또는 모듈이 없으면 URL 생성 불가
+		ModuleEntity module = instance != null ? modules.get(instance.getModuleCode()) : null;
+		if (module == null)
+		{
+			return null;
+		}
+
+		// SINGLE 모듈: contentPath가 있으면 /{module-slug}/{content-path}
+		if ("SINGLE".equals(module.getType().name()))
+		{
+			if (contentPath != null && !contentPath.isBlank())
+			{
+				return "/" + module.getSlug() + "/" + contentPath;
+			}
+			return "/" + module.getSlug();
+		}
+		// MULTI 모듈: /{module-slug}/{instance-slug}
+		return "/" + module.getSlug() + "/" + instance.getSlug();
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 단축 경로(alias) 유효성 검증
 	// alias가 null이면 검증하지 않음, null이 아니면 형식/중복/충돌 체크
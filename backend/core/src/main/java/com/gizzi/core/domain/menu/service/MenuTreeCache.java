@@ -0,0 +1,165 @@
+package com.gizzi.core.domain.menu.service;
+
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
+import com.gizzi.core.domain.menu.dto.MenuResponseDto;
+import com.gizzi.core.domain.menu.entity.MenuEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 사용자 메뉴 트리 인메모리 캐시
+// 보이는 메뉴 스냅샷(메뉴 목록 + 미리 계산한 URL)과, 권한 프로필별로 완성된 메뉴 트리를 보관한다
+// 권한 프로필 키는 사용자가 볼 수 있는 MODULE 인스턴스 ID를 정렬해 이은 문자열의 SHA-256이므로
+// 그룹/직접 권한/소유 경로와 무관하게 보이는 인스턴스 집합이 같은 사용자들은 같은 트리를 공유한다
+// 권한 부여/회수, 그룹 멤버십 변경은 PermissionCache 무효화로 프로필 키 자체가 달라지므로 별도 무효화가 필요 없고,
+// 메뉴/인스턴스 변경 시에만 커밋 후 캐시 무효화 버스(MENUS 토픽)로 모든 노드의 스냅샷과 트리를 폐기한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuTreeCache
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final int MAX_TREES = 256;	// 스냅샷당 최대 보관 트리 수 (프로필 수 상한)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final CacheInvalidationBus invalidationBus;	// 노드 간 캐시 무효화 버스
+	private final MeterRegistry        meterRegistry;	// 메트릭 레지스트리
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 캐시 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final AtomicReference<State> state   = new AtomicReference<>();	// 현재 상태 (null이면 다음 조회 시 적재)
+	private final AtomicLong             version = new AtomicLong();		// 무효화 시마다 증가하는 세대 번호
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private Counter loadCounter;	// 스냅샷 적재(DB 조회) 횟수
+	private Counter hitCounter;		// 트리 캐시 히트 횟수
+	private Counter missCounter;	// 트리 캐시 미스 횟수 (트리 구성 발생)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 보이는 메뉴 스냅샷 — is_visible 메뉴 목록(정렬 순) + 메뉴 ID별 URL + 메뉴가 참조하는 인스턴스 ID → 모듈 코드
+	// 엔티티는 영속성 컨텍스트와 분리된 상태이므로 읽기 전용으로만 사용한다
+	//----------------------------------------------------------------------------------------------------------------------
+	public record Snapshot(List<MenuEntity> menus, Map<String, String> urls, Map<String, String> instanceModules)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 캐시 상태 — 스냅샷 + 권한 프로필 키별 완성 트리 (스냅샷과 함께 폐기됨)
+	//----------------------------------------------------------------------------------------------------------------------
+	private record State(Snapshot snapshot, ConcurrentHashMap<String, List<MenuResponseDto>> trees)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 무효화 토픽 구독 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostConstruct
+	void init()
+	{
+		invalidationBus.subscribe(CacheTopic.MENUS, key -> invalidateLocal());
+		loadCounter = meterRegistry.counter("menu.tree.cache.loads");
+		hitCounter  = meterRegistry.counter("menu.tree.cache", "result", "hit");
+		missCounter = meterRegistry.counter("menu.tree.cache", "result", "miss");
+	}
+
+	//======================================================================================================================
+	// 보이는 메뉴 스냅샷 조회 (없으면 loader로 적재)
+	//======================================================================================================================
+	public Snapshot getSnapshot(Supplier<Snapshot> loader)
+	{
+		return current(loader).snapshot();
+	}
+
+	//======================================================================================================================
+	// 권한 프로필별 메뉴 트리 조회 (없으면 builder로 구성 후 저장)
+	// snapshot이 이미 폐기된 세대라면 구성 결과를 반환만 하고 저장하지 않는다
+	//======================================================================================================================
+	public List<MenuResponseDto> getTree(Snapshot snapshot, String profileKey, Supplier<List<MenuResponseDto>> builder)
+	{
+		State current = state.get();
+		if (current == null || current.snapshot() != snapshot)
+		{
+			missCounter.increment();
+			return builder.get();
+		}
+
+		List<MenuResponseDto> cached = current.trees().get(profileKey);
+		if (cached != null)
+		{
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		List<MenuResponseDto> built = List.copyOf(builder.get());
+
+		// 상한 도달 시 트리만 비움 (스냅샷은 유지)
+		if (current.trees().size() >= MAX_TREES)
+		{
+			log.info("메뉴 트리 캐시 상한 도달 — 트리 비움: size={}", current.trees().size());
+			current.trees().clear();
+		}
+		current.trees().put(profileKey, built);
+		return built;
+	}
+
+	//======================================================================================================================
+	// 트랜잭션 커밋 후 모든 노드의 스냅샷/트리 무효화 (트랜잭션 밖이면 즉시)
+	//======================================================================================================================
+	public void invalidateAfterCommit()
+	{
+		invalidationBus.publishAfterCommit(CacheTopic.MENUS, CacheInvalidationBus.ALL);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 현재 상태 반환 (없으면 loader로 적재)
+	// 적재 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	//----------------------------------------------------------------------------------------------------------------------
+	private State current(Supplier<Snapshot> loader)
+	{
+		State cached = state.get();
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		long     loadVersion = version.get();
+		Snapshot loaded      = loader.get();
+		loadCounter.increment();
+
+		State fresh = new State(loaded, new ConcurrentHashMap<>());
+		if (version.get() == loadVersion && state.compareAndSet(null, fresh))
+		{
+			return fresh;
+		}
+		State winner = state.get();
+		return winner != null ? winner : fresh;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 로컬 스냅샷/트리 폐기
+	//----------------------------------------------------------------------------------------------------------------------
+	private void invalidateLocal()
+	{
+		version.incrementAndGet();
+		state.set(null);
+	}
+}
@@ -0,0 +1,26 @@
+package com.gizzi.core.domain.role.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+// 역할 생성 요청 DTO
+@Getter
+public class CreateRoleRequestDto
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 코드 (영소문자+숫자+하이픈, 2~50자)
+	@NotBlank(message = "역할 코드는 필수입니다")
+	@Size(min = 2, max = 50, message = "역할 코드는 2~50자여야 합니다")
+	@Pattern(regexp = "^[a-z0-9]+(-[a-z0-9]+)*$", message = "역할 코드는 영소문자, 숫자, 하이픈만 사용할 수 있습니다")
+	private String code;
+
+	// 역할 표시명 (2~100자)
+	@NotBlank(message = "역할 이름은 필수입니다")
+	@Size(min = 2, max = 100, message = "역할 이름은 2~100자여야 합니다")
+	private String name;
+}
@@ -0,0 +1,42 @@
+package com.gizzi.core.domain.role.dto;
+
+import com.gizzi.core.domain.role.entity.RoleEntity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 역할 응답 DTO
+@Getter
+@Builder
+public class RoleResponseDto
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final String        id;				// 역할 PK
+	private final String        code;			// 역할 코드
+	private final String        name;			// 역할 표시명
+	private final String        scope;			// 역할 범위 (GLOBAL)
+	private final List<String>  permissionIds;	// 역할이 묶는 모듈 권한 ID 목록
+	private final LocalDateTime createdAt;		// 생성 일시
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 엔티티 + 권한 ID 목록으로 응답 DTO 생성
+	public static RoleResponseDto from(RoleEntity entity, List<String> permissionIds)
+	{
+		return RoleResponseDto.builder()
+			.id(entity.getId())
+			.code(entity.getCode())
+			.name(entity.getName())
+			.scope(entity.getScope())
+			.permissionIds(permissionIds)
+			.createdAt(entity.getCreatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,20 @@
+package com.gizzi.core.domain.role.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.util.List;
+
+// 역할 권한 설정 요청 DTO
+// 요청한 모듈 권한 ID 목록이 역할이 묶는 권한 전체가 된다 (빈 목록이면 모두 해제)
+@Getter
+public class SetRolePermissionsRequestDto
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 모듈 권한 ID 목록 (tb_module_permissions.id, 여러 모듈의 권한을 섞어도 된다)
+	@NotNull(message = "권한 ID 목록은 필수입니다")
+	private List<String> permissionIds;
+}
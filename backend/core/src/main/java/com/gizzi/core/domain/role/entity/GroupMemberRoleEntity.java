@@ -0,0 +1,54 @@
+package com.gizzi.core.domain.role.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 그룹 멤버 역할 엔티티 (tb_group_member_roles 테이블 매핑)
+// 특정 그룹 소속 멤버에게 부여된 역할 — 멤버십이 삭제되면 CASCADE로 함께 삭제된다
+@Entity
+@Table(name = "tb_group_member_roles")
+@IdClass(GroupMemberRoleId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupMemberRoleEntity
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 PK ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 그룹 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "group_id", length = 36)
+	private String groupId;
+
+	// 사용자 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "user_id", length = 36)
+	private String userId;
+
+	// 역할 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "role_id", length = 36)
+	private String roleId;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 그룹 멤버 역할 생성 팩토리 메서드
+	public static GroupMemberRoleEntity create(String groupId, String userId, String roleId)
+	{
+		// 새 엔티티 생성
+		GroupMemberRoleEntity entity = new GroupMemberRoleEntity();
+		entity.groupId               = groupId;
+		entity.userId                = userId;
+		entity.roleId                = roleId;
+		return entity;
+	}
+}
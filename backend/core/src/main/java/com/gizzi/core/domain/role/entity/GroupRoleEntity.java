@@ -0,0 +1,48 @@
+package com.gizzi.core.domain.role.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 그룹 역할 엔티티 (tb_group_roles 테이블 매핑)
+// 그룹에 부여된 역할 — 그룹의 모든 멤버에게 적용된다
+@Entity
+@Table(name = "tb_group_roles")
+@IdClass(GroupRoleId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupRoleEntity
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 PK ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 그룹 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "group_id", length = 36)
+	private String groupId;
+
+	// 역할 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "role_id", length = 36)
+	private String roleId;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 그룹 역할 생성 팩토리 메서드
+	public static GroupRoleEntity create(String groupId, String roleId)
+	{
+		// 새 엔티티 생성
+		GroupRoleEntity entity = new GroupRoleEntity();
+		entity.groupId         = groupId;
+		entity.roleId          = roleId;
+		return entity;
+	}
+}
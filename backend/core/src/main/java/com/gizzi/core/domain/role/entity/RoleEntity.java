@@ -0,0 +1,104 @@
+package com.gizzi.core.domain.role.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 역할 엔티티 (tb_roles 테이블 매핑)
+// 역할은 모듈 권한 묶음이며 사용자, 그룹, 그룹 멤버에게 부여된다
+// 범위(scope)가 GLOBAL이면 묶인 권한이 해당 모듈의 모든 인스턴스에 적용된다
+@Entity
+@Table(name = "tb_roles")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoleEntity
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 전역 범위 (모듈의 모든 인스턴스에 적용)
+	public static final String SCOPE_GLOBAL = "GLOBAL";
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ PK ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 PK (UUID)
+	@Id
+	@Column(name = "id", length = 36)
+	private String id;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 기본 정보 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 코드 (프로그래밍 식별자)
+	@Column(name = "code", nullable = false, length = 50)
+	private String code;
+
+	// 역할 표시명
+	@Column(name = "name", nullable = false, length = 100)
+	private String name;
+
+	// 역할 범위 (GLOBAL)
+	@Column(name = "scope", nullable = false, length = 20)
+	private String scope;
+
+	// 생성 일시
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 생명주기 콜백 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 저장 전 UUID PK + 생성 일시 자동 설정
+	@PrePersist
+	private void prePersist()
+	{
+		// ID가 없을 때만 새로 생성 (수동 설정된 경우 유지)
+		if (this.id == null)
+		{
+			this.id = UUID.randomUUID().toString();
+		}
+		// 생성 일시가 없을 때만 현재 시각으로 설정
+		if (this.createdAt == null)
+		{
+			this.createdAt = LocalDateTime.now();
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 전역 역할 생성 팩토리 메서드
+	public static RoleEntity createGlobal(String code, String name)
+	{
+		// 새 역할 엔티티 생성
+		RoleEntity role = new RoleEntity();
+		role.code       = code;
+		role.name       = name;
+		role.scope      = SCOPE_GLOBAL;
+		return role;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 비즈니스 메서드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 표시명 변경
+	public void rename(String name)
+	{
+		this.name = name;
+	}
+}
@@ -0,0 +1,48 @@
+package com.gizzi.core.domain.role.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 역할 권한 엔티티 (tb_role_permissions 테이블 매핑)
+// 역할이 묶는 모듈 권한 (tb_module_permissions) 목록을 복합키로 관리한다
+@Entity
+@Table(name = "tb_role_permissions")
+@IdClass(RolePermissionId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RolePermissionEntity
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 PK ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "role_id", length = 36)
+	private String roleId;
+
+	// 모듈 권한 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "module_permission_id", length = 36)
+	private String modulePermissionId;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 권한 생성 팩토리 메서드
+	public static RolePermissionEntity create(String roleId, String modulePermissionId)
+	{
+		// 새 엔티티 생성
+		RolePermissionEntity entity = new RolePermissionEntity();
+		entity.roleId               = roleId;
+		entity.modulePermissionId   = modulePermissionId;
+		return entity;
+	}
+}
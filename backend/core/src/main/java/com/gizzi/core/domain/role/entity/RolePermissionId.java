@@ -0,0 +1,24 @@
+package com.gizzi.core.domain.role.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 역할 권한 복합 키 클래스 (role_id + module_permission_id)
+// @IdClass 방식으로 복합 PK를 정의한다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RolePermissionId implements Serializable
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 키 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private String roleId;				// 역할 PK
+	private String modulePermissionId;	// 모듈 권한 PK
+}
@@ -0,0 +1,48 @@
+package com.gizzi.core.domain.role.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자 역할 엔티티 (tb_user_roles 테이블 매핑)
+// 사용자에게 직접 부여된 역할
+@Entity
+@Table(name = "tb_user_roles")
+@IdClass(UserRoleId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRoleEntity
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 PK ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 사용자 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "user_id", length = 36)
+	private String userId;
+
+	// 역할 PK (복합키 구성 요소)
+	@Id
+	@Column(name = "role_id", length = 36)
+	private String roleId;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 정적 팩토리 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 사용자 역할 생성 팩토리 메서드
+	public static UserRoleEntity create(String userId, String roleId)
+	{
+		// 새 엔티티 생성
+		UserRoleEntity entity = new UserRoleEntity();
+		entity.userId         = userId;
+		entity.roleId         = roleId;
+		return entity;
+	}
+}
@@ -0,0 +1,24 @@
+package com.gizzi.core.domain.role.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 사용자 역할 복합 키 클래스 (user_id + role_id)
+// @IdClass 방식으로 복합 PK를 정의한다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserRoleId implements Serializable
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 복합 키 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private String userId;		// 사용자 PK
+	private String roleId;		// 역할 PK
+}
@@ -0,0 +1,11 @@
+package com.gizzi.core.domain.role.repository;
+
+import com.gizzi.core.domain.role.entity.GroupMemberRoleEntity;
+import com.gizzi.core.domain.role.entity.GroupMemberRoleId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 그룹 멤버 역할 리포지토리 (tb_group_member_roles 테이블 접근)
+// 사용자별 역할 ID 조회는 UserRoleRepository.findAssignedRoleIdsByUserId가 직접 부여분과 함께 처리한다
+public interface GroupMemberRoleRepository extends JpaRepository<GroupMemberRoleEntity, GroupMemberRoleId>
+{
+}
@@ -0,0 +1,11 @@
+package com.gizzi.core.domain.role.repository;
+
+import com.gizzi.core.domain.role.entity.GroupRoleEntity;
+import com.gizzi.core.domain.role.entity.GroupRoleId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 그룹 역할 리포지토리 (tb_group_roles 테이블 접근)
+// 전체 행은 RoleCatalog 적재 시 findAll()로 한 번에 읽는다
+public interface GroupRoleRepository extends JpaRepository<GroupRoleEntity, GroupRoleId>
+{
+}
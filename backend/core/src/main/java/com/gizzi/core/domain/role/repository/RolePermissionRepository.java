@@ -0,0 +1,18 @@
+package com.gizzi.core.domain.role.repository;
+
+import com.gizzi.core.domain.role.entity.RolePermissionEntity;
+import com.gizzi.core.domain.role.entity.RolePermissionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+// 역할 권한 리포지토리 (tb_role_permissions 테이블 접근)
+public interface RolePermissionRepository extends JpaRepository<RolePermissionEntity, RolePermissionId>
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 조회 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 특정 역할이 묶는 모듈 권한 목록 조회
+	List<RolePermissionEntity> findByRoleId(String roleId);
+}
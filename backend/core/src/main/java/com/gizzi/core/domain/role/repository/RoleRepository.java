@@ -0,0 +1,20 @@
+package com.gizzi.core.domain.role.repository;
+
+import com.gizzi.core.domain.role.entity.RoleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+// 역할 리포지토리 (tb_roles 테이블 접근)
+public interface RoleRepository extends JpaRepository<RoleEntity, String>
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 조회 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 코드 중복 확인
+	boolean existsByCode(String code);
+
+	// 전체 역할 목록 조회 (코드 순)
+	List<RoleEntity> findAllByOrderByCodeAsc();
+}
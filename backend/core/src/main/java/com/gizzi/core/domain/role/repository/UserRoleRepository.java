@@ -0,0 +1,25 @@
+package com.gizzi.core.domain.role.repository;
+
+import com.gizzi.core.domain.role.entity.UserRoleEntity;
+import com.gizzi.core.domain.role.entity.UserRoleId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+// 사용자 역할 리포지토리 (tb_user_roles 테이블 접근)
+public interface UserRoleRepository extends JpaRepository<UserRoleEntity, UserRoleId>
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 조회 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 사용자에게 개인 단위로 부여된 역할 ID 목록 조회 (직접 부여 + 그룹 멤버 단위 부여, 단일 쿼리)
+	// 그룹 단위 역할은 RoleCatalog 스냅샷에 그룹별로 보관되므로 여기서 조회하지 않는다
+	@Query(value = "SELECT role_id FROM tb_user_roles WHERE user_id = :userId " +
+	               "UNION " +
+	               "SELECT role_id FROM tb_group_member_roles WHERE user_id = :userId",
+	       nativeQuery = true)
+	List<String> findAssignedRoleIdsByUserId(@Param("userId") String userId);
+}
@@ -0,0 +1,324 @@
+package com.gizzi.core.domain.role.service;
+
+import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.common.exception.GroupErrorCode;
+import com.gizzi.core.common.exception.ModuleErrorCode;
+import com.gizzi.core.common.exception.RoleErrorCode;
+import com.gizzi.core.common.exception.UserErrorCode;
+import com.gizzi.core.domain.audit.AuditAction;
+import com.gizzi.core.domain.audit.AuditTarget;
+import com.gizzi.core.domain.audit.service.AuditLogService;
+import com.gizzi.core.domain.group.repository.GroupMemberRepository;
+import com.gizzi.core.domain.group.repository.GroupRepository;
+import com.gizzi.core.domain.role.dto.CreateRoleRequestDto;
+import com.gizzi.core.domain.role.dto.RoleResponseDto;
+import com.gizzi.core.domain.role.dto.SetRolePermissionsRequestDto;
+import com.gizzi.core.domain.role.entity.GroupMemberRoleEntity;
+import com.gizzi.core.domain.role.entity.GroupMemberRoleId;
+import com.gizzi.core.domain.role.entity.GroupRoleEntity;
+import com.gizzi.core.domain.role.entity.GroupRoleId;
+import com.gizzi.core.domain.role.entity.RoleEntity;
+import com.gizzi.core.domain.role.entity.RolePermissionEntity;
+import com.gizzi.core.domain.role.entity.UserRoleEntity;
+import com.gizzi.core.domain.role.entity.UserRoleId;
+import com.gizzi.core.domain.role.repository.GroupMemberRoleRepository;
+import com.gizzi.core.domain.role.repository.GroupRoleRepository;
+import com.gizzi.core.domain.role.repository.RolePermissionRepository;
+import com.gizzi.core.domain.role.repository.RoleRepository;
+import com.gizzi.core.domain.role.repository.UserRoleRepository;
+import com.gizzi.core.domain.user.repository.UserRepository;
+import com.gizzi.core.module.PermissionCache;
+import com.gizzi.core.module.PermissionCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 역할 관련 비즈니스 로직을 처리하는 서비스
+// 역할은 모듈 권한 묶음이며 사용자, 그룹, 그룹 멤버에게 부여된다 (scope=GLOBAL: 모듈의 모든 인스턴스에 적용)
+// 역할 권한은 RoleCatalog가 적재 시 비트셋으로 컴파일하므로, 변경 시 영향 범위에 맞춰 PermissionCache를 무효화한다
+//   - 역할 정의(권한 묶음) 변경, 역할 삭제, 그룹 역할 변경 → 전체 무효화 (RoleCatalog 스냅샷도 함께 폐기)
+//   - 사용자/그룹 멤버 역할 변경 → 해당 사용자만 무효화 (멤버십 캐시의 사용자 단위 역할도 함께 폐기)
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RoleService
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 리포지토리
+	private final RoleRepository            roleRepository;
+
+	// 역할 권한 리포지토리
+	private final RolePermissionRepository  rolePermissionRepository;
+
+	// 사용자 역할 리포지토리
+	private final UserRoleRepository        userRoleRepository;
+
+	// 그룹 역할 리포지토리
+	private final GroupRoleRepository       groupRoleRepository;
+
+	// 그룹 멤버 역할 리포지토리
+	private final GroupMemberRoleRepository groupMemberRoleRepository;
+
+	// 사용자 리포지토리 (부여 대상 존재 검증)
+	private final UserRepository            userRepository;
+
+	// 그룹 리포지토리 (부여 대상 존재 검증)
+	private final GroupRepository           groupRepository;
+
+	// 그룹 멤버 리포지토리 (그룹 멤버 역할 부여 시 소속 검증)
+	private final GroupMemberRepository     groupMemberRepository;
+
+	// 모듈 권한 카탈로그 (권한 ID 검증)
+	private final PermissionCatalog         permissionCatalog;
+
+	// 컴파일된 권한 캐시 (역할 변경 시 무효화)
+	private final PermissionCache           permissionCache;
+
+	// 감사 로그 서비스 (역할 정의/부여 변경 기록)
+	private final AuditLogService           auditLogService;
+
+	//======================================================================================================================
+	// [ 역할 CRUD ]
+	//======================================================================================================================
+
+	// 역할 생성 (권한 없이 생성 후 setRolePermissions로 설정)
+	@Transactional
+	public RoleResponseDto createRole(CreateRoleRequestDto request)
+	{
+		// 역할 코드 중복 검증
+		if (roleRepository.existsByCode(request.getCode()))
+		{
+			throw new BusinessException(RoleErrorCode.DUPLICATE_ROLE_CODE);
+		}
+
+		// 전역 역할 생성 및 저장
+		RoleEntity saved = roleRepository.save(RoleEntity.createGlobal(request.getCode(), request.getName()));
+
+		log.info("역할 생성 완료: roleId={}, code={}", saved.getId(), saved.getCode());
+
+		// 역할 생성 감사 로그
+		auditLogService.logSuccess(null, AuditAction.ROLE_CREATE, AuditTarget.ROLE, saved.getId(),
+			"역할 생성: " + saved.getCode(), Map.of("code", saved.getCode(), "name", saved.getName()));
+
+		return RoleResponseDto.from(saved, List.of());
+	}
+
+	// 전체 역할 목록 조회 (역할 권한은 한 번에 조회하여 역할별로 묶음)
+	public List<RoleResponseDto> getRoles()
+	{
+		Map<String, List<String>> permissionIds = new HashMap<>();
+		for (RolePermissionEntity grant : rolePermissionRepository.findAll())
+		{
+			permissionIds.computeIfAbsent(grant.getRoleId(), k -> new ArrayList<>()).add(grant.getModulePermissionId());
+		}
+
+		return roleRepository.findAllByOrderByCodeAsc().stream()
+			.map(role -> RoleResponseDto.from(role, permissionIds.getOrDefault(role.getId(), List.of())))
+			.toList();
+	}
+
+	// 역할 삭제 (권한/부여 행은 CASCADE로 함께 삭제)
+	@Transactional
+	public void deleteRole(String roleId)
+	{
+		RoleEntity role = findRole(roleId);
+		roleRepository.delete(role);
+
+		// 커밋 후 전체 컴파일된 권한 캐시 + 역할 카탈로그 무효화 (역할 보유자를 특정하지 않음)
+		permissionCache.invalidateAll();
+
+		log.info("역할 삭제 완료: roleId={}, code={}", roleId, role.getCode());
+
+		// 역할 삭제 감사 로그
+		auditLogService.logSuccess(null, AuditAction.ROLE_DELETE, AuditTarget.ROLE, roleId,
+			"역할 삭제: " + role.getCode(), Map.of("code", role.getCode()));
+	}
+
+	//======================================================================================================================
+	// [ 역할 권한 설정 ]
+	//======================================================================================================================
+
+	// 역할이 묶는 모듈 권한 전체 교체 (기존과 비교하여 바뀐 행만 반영)
+	@Transactional
+	public RoleResponseDto setRolePermissions(String roleId, SetRolePermissionsRequestDto request)
+	{
+		RoleEntity role = findRole(roleId);
+
+		// 권한 ID 검증 (카탈로그에 없는 ID면 예외)
+		Set<String> requested = new LinkedHashSet<>(request.getPermissionIds());
+		for (String permissionId : requested)
+		{
+			if (permissionCatalog.findById(permissionId).isEmpty())
+			{
+				throw new BusinessException(ModuleErrorCode.MODULE_PERMISSION_INVALID);
+			}
+		}
+
+		// 기존 행과 비교 — 요청에 없는 행 삭제, 새 행 추가
+		List<RolePermissionEntity> current = rolePermissionRepository.findByRoleId(roleId);
+		List<RolePermissionEntity> revoked = current.stream()
+			.filter(grant -> !requested.contains(grant.getModulePermissionId()))
+			.toList();
+		Set<String> kept = new LinkedHashSet<>();
+		current.forEach(grant -> kept.add(grant.getModulePermissionId()));
+		List<RolePermissionEntity> granted = requested.stream()
+			.filter(permissionId -> !kept.contains(permissionId))
+			.map(permissionId -> RolePermissionEntity.create(roleId, permissionId))
+			.toList();
+
+		rolePermissionRepository.deleteAllInBatch(revoked);
+		rolePermissionRepository.saveAll(granted);
+
+		// 바뀐 경우에만 커밋 후 전체 무효화 (역할 카탈로그 재컴파일) + 감사 로그
+		if (!revoked.isEmpty() || !granted.isEmpty())
+		{
+			permissionCache.invalidateAll();
+			auditLogService.logSuccess(null, AuditAction.ROLE_PERMISSION, AuditTarget.ROLE, roleId,
+				"역할 권한 변경: " + role.getCode(),
+				Map.of("granted", granted.stream().map(RolePermissionEntity::getModulePermissionId).toList(),
+					"revoked", revoked.stream().map(RolePermissionEntity::getModulePermissionId).toList()));
+		}
+
+		log.info("역할 권한 설정: roleId={}, granted={}, revoked={}", roleId, granted.size(), revoked.size());
+
+		return RoleResponseDto.from(role, List.copyOf(requested));
+	}
+
+	//======================================================================================================================
+	// [ 역할 부여/회수 ]
+	//======================================================================================================================
+
+	// 사용자에게 역할 부여 (이미 보유 시 무시)
+	@Transactional
+	public void assignToUser(String roleId, String userId)
+	{
+		findRole(roleId);
+		if (!userRepository.existsById(userId))
+		{
+			throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+		}
+
+		if (!userRoleRepository.existsById(new UserRoleId(userId, roleId)))
+		{
+			userRoleRepository.save(UserRoleEntity.create(userId, roleId));
+			// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화
+			permissionCache.invalidateUser(userId);
+			log.info("사용자 역할 부여: roleId={}, userId={}", roleId, userId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_ASSIGN, AuditTarget.ROLE, roleId,
+				"사용자 역할 부여", Map.of("userId", userId));
+		}
+	}
+
+	// 사용자 역할 회수 (미보유 시 무시)
+	@Transactional
+	public void revokeFromUser(String roleId, String userId)
+	{
+		UserRoleId id = new UserRoleId(userId, roleId);
+		if (userRoleRepository.existsById(id))
+		{
+			userRoleRepository.deleteById(id);
+			// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화
+			permissionCache.invalidateUser(userId);
+			log.info("사용자 역할 회수: roleId={}, userId={}", roleId, userId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_REVOKE, AuditTarget.ROLE, roleId,
+				"사용자 역할 회수", Map.of("userId", userId));
+		}
+	}
+
+	// 그룹에 역할 부여 — 그룹의 모든 멤버에게 적용 (이미 보유 시 무시)
+	@Transactional
+	public void assignToGroup(String roleId, String groupId)
+	{
+		findRole(roleId);
+		if (!groupRepository.existsById(groupId))
+		{
+			throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+		}
+
+		if (!groupRoleRepository.existsById(new GroupRoleId(groupId, roleId)))
+		{
+			groupRoleRepository.save(GroupRoleEntity.create(groupId, roleId));
+			// 커밋 후 전체 무효화 (그룹별 역할은 역할 카탈로그 스냅샷에 있으므로 재적재)
+			permissionCache.invalidateAll();
+			log.info("그룹 역할 부여: roleId={}, groupId={}", roleId, groupId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_ASSIGN, AuditTarget.ROLE, roleId,
+				"그룹 역할 부여", Map.of("groupId", groupId));
+		}
+	}
+
+	// 그룹 역할 회수 (미보유 시 무시)
+	@Transactional
+	public void revokeFromGroup(String roleId, String groupId)
+	{
+		GroupRoleId id = new GroupRoleId(groupId, roleId);
+		if (groupRoleRepository.existsById(id))
+		{
+			groupRoleRepository.deleteById(id);
+			// 커밋 후 전체 무효화 (역할 카탈로그 재적재)
+			permissionCache.invalidateAll();
+			log.info("그룹 역할 회수: roleId={}, groupId={}", roleId, groupId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_REVOKE, AuditTarget.ROLE, roleId,
+				"그룹 역할 회수", Map.of("groupId", groupId));
+		}
+	}
+
+	// 그룹 멤버에게 역할 부여 — 해당 그룹 소속인 동안만 유효 (이미 보유 시 무시)
+	@Transactional
+	public void assignToGroupMember(String roleId, String groupId, String userId)
+	{
+		findRole(roleId);
+		if (!groupMemberRepository.existsByGroupIdAndUserId(groupId, userId))
+		{
+			throw new BusinessException(GroupErrorCode.MEMBER_NOT_FOUND);
+		}
+
+		if (!groupMemberRoleRepository.existsById(new GroupMemberRoleId(groupId, userId, roleId)))
+		{
+			groupMemberRoleRepository.save(GroupMemberRoleEntity.create(groupId, userId, roleId));
+			// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화
+			permissionCache.invalidateUser(userId);
+			log.info("그룹 멤버 역할 부여: roleId={}, groupId={}, userId={}", roleId, groupId, userId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_ASSIGN, AuditTarget.ROLE, roleId,
+				"그룹 멤버 역할 부여", Map.of("groupId", groupId, "userId", userId));
+		}
+	}
+
+	// 그룹 멤버 역할 회수 (미보유 시 무시)
+	@Transactional
+	public void revokeFromGroupMember(String roleId, String groupId, String userId)
+	{
+		GroupMemberRoleId id = new GroupMemberRoleId(groupId, userId, roleId);
+		if (groupMemberRoleRepository.existsById(id))
+		{
+			groupMemberRoleRepository.deleteById(id);
+			// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화
+			permissionCache.invalidateUser(userId);
+			log.info("그룹 멤버 역할 회수: roleId={}, groupId={}, userId={}", roleId, groupId, userId);
+			auditLogService.logSuccess(null, AuditAction.ROLE_REVOKE, AuditTarget.ROLE, roleId,
+				"그룹 멤버 역할 회수", Map.of("groupId", groupId, "userId", userId));
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 내부 헬퍼 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 역할 조회 (없으면 예외)
+	private RoleEntity findRole(String roleId)
+	{
+		return roleRepository.findById(roleId)
+			.orElseThrow(() -> new BusinessException(RoleErrorCode.ROLE_NOT_FOUND));
+	}
+}
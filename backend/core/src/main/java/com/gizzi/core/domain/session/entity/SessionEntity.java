@@ -3,22 +3,27 @@ package com.gizzi.core.domain.session.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 // 세션 엔티티 (tb_sessions 테이블 매핑)
 // 사용자 로그인 시 발급된 토큰 정보와 접속 메타데이터를 감사 기록으로 저장한다
+// 세션 ID를 토큰 발급 전에 선발급하므로 Persistable로 신규 여부를 직접 알려 save() 시 merge(SELECT) 없이 INSERT한다
 @Entity
 @Table(name = "tb_sessions")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class SessionEntity
+public class SessionEntity implements Persistable<String>
 {
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ PK ]
@@ -84,6 +89,13 @@ public class SessionEntity
 	@Column(name = "revoked_reason", length = 100)
 	private String revokedReason;					// 토큰 폐기 사유
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 영속 상태 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean newEntity = true;				// 신규 엔티티 여부 (저장/조회 후 false)
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 엔티티 저장 전 UUID PK 자동 생성
 	//----------------------------------------------------------------------------------------------------------------------
@@ -98,15 +110,35 @@ public class SessionEntity
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 새 세션 생성 팩토리 메서드
+	// 저장 또는 조회 후 신규 상태 해제 (이후 save()는 merge로 동작)
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostPersist
+	@PostLoad
+	private void markNotNew()
+	{
+		this.newEntity = false;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 신규 엔티티 여부 (Spring Data save() 분기 기준)
+	//----------------------------------------------------------------------------------------------------------------------
+	@Override
+	public boolean isNew()
+	{
+		return newEntity;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 새 세션 생성 팩토리 메서드 (세션 ID는 토큰 클레임에 포함되도록 호출자가 선발급)
 	//----------------------------------------------------------------------------------------------------------------------
-	public static SessionEntity create(String userId, String loginProvider,
+	public static SessionEntity create(String id, String userId, String loginProvider,
 	                                    String accessTokenHash, String refreshTokenHash,
 	                                    LocalDateTime accessExpiresAt, LocalDateTime refreshExpiresAt,
 	                                    String ipAddress, String userAgent)
 	{
 		// 세션 엔티티 초기화
 		SessionEntity session		= new SessionEntity();
+		session.id					= id;
 		session.userId				= userId;
 		session.loginProvider		= loginProvider;
 		session.accessTokenHash		= accessTokenHash;
@@ -0,0 +1,149 @@
+package com.gizzi.core.domain.session.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 세션 활동(lastSeenAt) write-behind 기록기
+// JWT 필터가 인증 성공 시 touch()로 세션별 최근 접속 시각을 메모리에 기록하고,
+// 주기적으로 한 번에 모아 세션 묶음당 UPDATE ... CASE 문 1개로 tb_sessions.last_seen_at을 반영한다
+// 요청 수와 무관하게 플러시 주기마다 (활성 세션 수 / 묶음 크기)개의 문장만 실행된다
+@Slf4j
+@Component
+public class SessionActivityTracker
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final int BATCH_SIZE = 500;		// UPDATE 문 1개에 포함할 최대 세션 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final JdbcTemplate jdbcTemplate;		// 일괄 UPDATE 실행용 JDBC 템플릿
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 활동 버퍼 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final ConcurrentHashMap<String, Long> pending = new ConcurrentHashMap<>();	// 세션 ID → 최근 접속 시각 (epoch ms), 플러시 시 항목 단위로 꺼냄
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final Counter flushedCounter;			// 반영된 세션 수
+	private final Timer   flushTimer;				// 플러시 소요 시간
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자: 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	public SessionActivityTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry)
+	{
+		this.jdbcTemplate   = jdbcTemplate;
+		this.flushedCounter = meterRegistry.counter("auth.session.last_seen.flushed");
+		this.flushTimer     = meterRegistry.timer("auth.session.last_seen.flush");
+	}
+
+	//======================================================================================================================
+	// 세션 활동 기록 (요청 스레드에서 호출, DB 접근 없음)
+	//======================================================================================================================
+	public void touch(String sessionId)
+	{
+		// 같은 세션의 여러 요청은 가장 늦은 시각 하나로 합쳐진다
+		pending.merge(sessionId, System.currentTimeMillis(), Math::max);
+	}
+
+	//======================================================================================================================
+	// 버퍼 플러시 (주기 실행) — 버퍼의 항목을 하나씩 원자적으로 꺼내 일괄 반영
+	// 맵을 교체하지 않고 항목 단위 remove로 비우므로, 플러시 도중의 touch는 꺼낸 뒤면 새 항목으로 남아 다음 주기에 반영되고
+	// 꺼내기 전이면 꺼낸 값에 합쳐진다 (교체된 맵에 늦게 기록되어 사라지는 경우가 없음)
+	//======================================================================================================================
+	@Scheduled(fixedDelayString = "${app.session.last-seen-flush-ms:30000}")
+	public void flush()
+	{
+		// 버퍼 비우기 (세션 ID별 remove — 꺼낸 값과 이후 touch가 겹치지 않음)
+		Map<String, Long> snapshot = new HashMap<>();
+		for (String sessionId : pending.keySet())
+		{
+			Long lastSeenAt = pending.remove(sessionId);
+			if (lastSeenAt != null)
+			{
+				snapshot.put(sessionId, lastSeenAt);
+			}
+		}
+		if (snapshot.isEmpty())
+		{
+			return;
+		}
+
+		flushTimer.record(() -> {
+			// 묶음 단위로 UPDATE ... CASE 실행
+			List<Map.Entry<String, Long>> entries = new ArrayList<>(snapshot.entrySet());
+			for (int from = 0; from < entries.size(); from += BATCH_SIZE)
+			{
+				List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+				try
+				{
+					updateChunk(chunk);
+				}
+				catch (Exception e)
+				{
+					// 최근 접속 시각은 보조 정보이므로 실패 묶음은 버리고 다음 주기에 새 값으로 반영
+					log.warn("세션 최근 접속 시각 반영 실패: sessions={}, error={}", chunk.size(), e.getMessage());
+				}
+			}
+		});
+		flushedCounter.increment(snapshot.size());
+		log.debug("세션 최근 접속 시각 반영: sessions={}", snapshot.size());
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 종료 시 남은 활동 기록 반영
+	//----------------------------------------------------------------------------------------------------------------------
+	@PreDestroy
+	void flushOnShutdown()
+	{
+		flush();
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 세션 묶음의 last_seen_at 일괄 갱신
+	// UPDATE tb_sessions SET last_seen_at = CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...) AND revoked_at IS NULL
+	//----------------------------------------------------------------------------------------------------------------------
+	private void updateChunk(List<Map.Entry<String, Long>> chunk)
+	{
+		StringBuilder sql    = new StringBuilder("UPDATE tb_sessions SET last_seen_at = CASE id");
+		StringBuilder inList = new StringBuilder();
+		List<Object>  params = new ArrayList<>(chunk.size() * 3);
+
+		// CASE 분기: 세션 ID별 접속 시각
+		for (Map.Entry<String, Long> entry : chunk)
+		{
+			sql.append(" WHEN ? THEN ?");
+			params.add(entry.getKey());
+			params.add(new Timestamp(entry.getValue()));
+		}
+		sql.append(" END WHERE id IN (");
+
+		// IN 절: 대상 세션 ID
+		for (Map.Entry<String, Long> entry : chunk)
+		{
+			inList.append(inList.isEmpty() ? "?" : ", ?");
+			params.add(entry.getKey());
+		}
+		sql.append(inList).append(") AND revoked_at IS NULL");
+
+		jdbcTemplate.update(sql.toString(), params.toArray());
+	}
+}
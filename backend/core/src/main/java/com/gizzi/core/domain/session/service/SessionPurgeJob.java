@@ -0,0 +1,207 @@
+package com.gizzi.core.domain.session.service;
+
+import com.gizzi.core.domain.setting.service.SettingKey;
+import com.gizzi.core.domain.setting.service.SettingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 만료/폐기 세션 정리 작업
+// refresh_expires_at 또는 revoked_at이 보존 기간(session.purge_retention_days)보다 오래된 tb_sessions 행을
+// PK 순서의 작은 묶음으로 나누어 삭제한다 (묶음마다 자동 커밋되어 긴 잠금이 생기지 않음)
+// 여러 노드에서 동시에 스케줄되어도 Redis 잠금(SET NX PX)을 얻은 노드 하나만 실행한다
+// 1회 실행은 purge-max-run-ms(기본 60초)에서 끊고 남은 행은 다음 주기에 이어서 정리한다
+// (스케줄러 스레드를 오래 점유하지 않도록 — 캐시 무효화 따라잡기/설정 갱신/활동 플러시와 같은 풀을 공유)
+@Slf4j
+@Component
+public class SessionPurgeJob
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String     LOCK_KEY       = "lock:session-purge";		// 노드 간 실행 잠금 키
+	private static final long       LOCK_TTL_MS    = 600_000L;					// 잠금 유지 시간 (노드 장애 시 자동 해제)
+	private static final long       MAX_RUN_CAP_MS = LOCK_TTL_MS / 4;			// 1회 실행 시간 상한 (설정값과 무관하게 잠금 유지 시간보다 충분히 짧게)
+	private static final SettingKey RETENTION_DAYS = SettingKey.system("session", "purge_retention_days");	// 보존 기간(일) 설정 키
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 잠금 해제: 자신이 설정한 토큰일 때만 삭제 (TTL 만료 후 다른 노드가 얻은 잠금을 지우지 않음)
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final JdbcTemplate        jdbcTemplate;		// 묶음 조회/삭제용 JDBC 템플릿
+	private final StringRedisTemplate redisTemplate;	// 노드 간 실행 잠금
+	private final SettingService      settingService;	// 시스템 설정 서비스 (보존 기간)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 설정 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final int  chunkSize;		// 묶음당 삭제 행 수
+	private final long chunkPauseMs;	// 묶음 사이 대기 시간 (복제 지연/잠금 경합 완화)
+	private final long maxRunMs;		// 1회 실행 최대 시간 (초과 시 다음 주기에 이어서 정리)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final Counter deletedCounter;	// 삭제된 세션 행 수
+	private final Counter skippedCounter;	// 다른 노드가 실행 중이라 건너뛴 횟수
+	private final Timer   runTimer;			// 1회 실행 소요 시간
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자: 설정 주입 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+	public SessionPurgeJob(JdbcTemplate jdbcTemplate,
+						   StringRedisTemplate redisTemplate,
+						   SettingService settingService,
+						   MeterRegistry meterRegistry,
+						   @Value("${app.session.purge-chunk-size:500}") int chunkSize,
+						   @Value("${app.session.purge-chunk-pause-ms:50}") long chunkPauseMs,
+						   @Value("${app.session.purge-max-run-ms:60000}") long maxRunMs)
+	{
+		this.jdbcTemplate   = jdbcTemplate;
+		this.redisTemplate  = redisTemplate;
+		this.settingService = settingService;
+		this.chunkSize      = Math.max(chunkSize, 1);
+		this.chunkPauseMs   = Math.max(chunkPauseMs, 0);
+		this.maxRunMs       = Math.clamp(maxRunMs, 1_000L, MAX_RUN_CAP_MS);
+		this.deletedCounter = meterRegistry.counter("auth.session.purge.deleted");
+		this.skippedCounter = meterRegistry.counter("auth.session.purge.skipped");
+		this.runTimer       = meterRegistry.timer("auth.session.purge");
+	}
+
+	//======================================================================================================================
+	// 정리 실행 (주기 실행) — 보존 기간이 0 이하이면 비활성화
+	//======================================================================================================================
+	@Scheduled(initialDelayString = "${app.session.purge-initial-delay-ms:300000}",
+			   fixedDelayString = "${app.session.purge-interval-ms:3600000}")
+	public void purge()
+	{
+		// 시스템 설정: 보존 기간(일)
+		long retentionDays = settingService.getNumber(RETENTION_DAYS);
+		if (retentionDays <= 0)
+		{
+			return;
+		}
+
+		// 노드 간 실행 잠금 획득 (실패 시 다른 노드가 실행 중)
+		String  token    = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMillis(LOCK_TTL_MS));
+		if (!Boolean.TRUE.equals(acquired))
+		{
+			skippedCounter.increment();
+			log.debug("세션 정리 건너뜀: 다른 노드에서 실행 중");
+			return;
+		}
+
+		long start = System.nanoTime();
+		try
+		{
+			Timestamp cutoff  = new Timestamp(System.currentTimeMillis() - Duration.ofDays(retentionDays).toMillis());
+			long      deleted = purgeBefore(cutoff, start);
+			if (deleted > 0)
+			{
+				long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+				log.info("만료/폐기 세션 정리: deleted={}, retentionDays={}, elapsedMs={}", deleted, retentionDays, elapsedMs);
+			}
+		}
+		catch (Exception e)
+		{
+			// 다음 주기에 남은 행부터 다시 정리
+			log.warn("세션 정리 실패: error={}", e.getMessage());
+		}
+		finally
+		{
+			runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 기준 시각 이전에 만료/폐기된 세션을 PK 순서 묶음으로 삭제
+	// 1) SELECT id ... WHERE id > {마지막 id} AND (만료/폐기 조건) ORDER BY id LIMIT n — PK 키셋 탐색
+	// 2) DELETE ... WHERE id IN (...) AND (만료/폐기 조건) — 묶음마다 자동 커밋
+	// 1회 실행 최대 시간을 넘기면 중단하고 다음 주기에 이어서 정리한다
+	//----------------------------------------------------------------------------------------------------------------------
+	private long purgeBefore(Timestamp cutoff, long startNanos)
+	{
+		long   deleted  = 0;
+		String lastId   = "";
+		long   deadline = startNanos + Duration.ofMillis(maxRunMs).toNanos();
+
+		while (System.nanoTime() < deadline)
+		{
+			// 다음 묶음의 대상 ID 조회
+			List<String> ids = jdbcTemplate.queryForList(
+				"SELECT id FROM tb_sessions WHERE id > ? AND (refresh_expires_at < ? OR revoked_at < ?) ORDER BY id LIMIT ?",
+				String.class, lastId, cutoff, cutoff, chunkSize);
+			if (ids.isEmpty())
+			{
+				break;
+			}
+
+			// 묶음 삭제 (조건 재확인)
+			String       placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+			List<Object> params       = new ArrayList<>(ids);
+			params.add(cutoff);
+			params.add(cutoff);
+			int removed = jdbcTemplate.update(
+				"DELETE FROM tb_sessions WHERE id IN (" + placeholders + ") AND (refresh_expires_at < ? OR revoked_at < ?)",
+				params.toArray());
+
+			deleted += removed;
+			deletedCounter.increment(removed);
+			lastId = ids.get(ids.size() - 1);
+
+			// 마지막 묶음이면 종료
+			if (ids.size() < chunkSize)
+			{
+				break;
+			}
+			pause();
+		}
+		return deleted;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 묶음 사이 대기
+	//----------------------------------------------------------------------------------------------------------------------
+	private void pause()
+	{
+		if (chunkPauseMs <= 0)
+		{
+			return;
+		}
+		try
+		{
+			Thread.sleep(chunkPauseMs);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
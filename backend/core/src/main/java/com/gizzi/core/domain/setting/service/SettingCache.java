@@ -1,119 +1,191 @@
 package com.gizzi.core.domain.setting.service;
 
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
 import com.gizzi.core.domain.setting.entity.SettingEntity;
+import com.gizzi.core.domain.setting.repository.SettingRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-
-// 설정 인메모리 캐시 — ConcurrentHashMap 기반 + TTL 만료
-// 앱 시작 시 전체 설정을 로딩하고, 설정 변경 시 write-through로 동기화
-// admin-api와 user-api가 별도 JVM이므로 TTL(30초) 후 DB에서 최신 값을 다시 읽는다
-// 캐시 키 형식: "{module_code}::{setting_group}::{setting_key}"
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 설정 인메모리 캐시 — 파싱이 끝난 불변 스냅샷을 AtomicReference로 원자적 교체
+// 앱 시작 시 전체 설정을 적재하고, 설정 변경 시 write-through로 새 스냅샷을 만들어 교체한다
+// 변경 노드는 커밋 후 캐시 무효화 버스(SETTINGS 토픽)로 알리고, 수신 노드는 스냅샷을 갱신 필요로 표시만 한 뒤
+// 스케줄러 스레드에서(기본 1초 이내) 전체를 다시 읽어 교체한다 (버스 리스너 스레드에서 DB를 조회하지 않음)
+// 버스와 무관한 안전망으로 백그라운드에서 주기적으로(기본 30초) 전체를 다시 읽어 교체한다
+// (stale-while-revalidate: 조회는 갱신을 기다리지 않고 현재 스냅샷을 읽으므로 만료 시점에 DB로 몰리지 않는다)
+// 값은 적재 시 숫자/불리언으로 미리 파싱되며, 조회는 SettingKey 해시 조회 1회로 끝난다
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SettingCache
 {
 	//----------------------------------------------------------------------------------------------------------------------
-	// [ 상수 ]
+	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private static final String SEPARATOR	= "::";			// 캐시 키 구분자
-	private static final long   TTL_MILLIS	= 30_000L;		// 캐시 항목 TTL (밀리초, 기본 30초)
+	private final SettingRepository    settingRepository;	// 백그라운드 갱신 시 전체 설정 조회
+	private final CacheInvalidationBus invalidationBus;		// 노드 간 캐시 무효화 버스
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 캐시 저장소 ]
 	//----------------------------------------------------------------------------------------------------------------------
-	private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();	// 키 → 캐시 항목
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(Map.of()));	// 현재 스냅샷
+	private final AtomicLong                version  = new AtomicLong();							// write-through 시마다 증가하는 세대 번호
+	private final AtomicBoolean             dirty    = new AtomicBoolean();						// 변경 메시지 수신 후 재적재 대기 여부
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 캐시 항목 — 값 + 만료 시각
+	// 파싱된 설정 값 — 원문 + 숫자(파싱 불가 시 null) + 불리언("true" 여부)
 	//----------------------------------------------------------------------------------------------------------------------
-	private record CacheEntry(String value, long expiresAt)
+	public record Value(String raw, Long number, boolean bool)
 	{
-		// 만료 여부 확인
-		boolean isExpired()
+		// DB에 없는 키 표식 (부정 캐시 — 없는 키 조회가 매번 DB로 가지 않도록 보관, 다음 전체 갱신 때 사라짐)
+		static final Value MISSING = new Value(null, null, false);
+
+		// 부정 캐시 표식 여부
+		public boolean isMissing()
 		{
-			return System.currentTimeMillis() > expiresAt;
+			return this == MISSING;
 		}
+
+		// 원문 문자열을 한 번만 파싱하여 생성
+		static Value parse(String raw)
+		{
+			Long number = null;
+			if (raw != null)
+			{
+				try
+				{
+					number = Long.parseLong(raw.trim());
+				}
+				catch (NumberFormatException e)
+				{
+					// 숫자가 아닌 설정 — getNumber 조회 시 SETTING_INVALID_VALUE
+				}
+			}
+			return new Value(raw, number, "true".equalsIgnoreCase(raw));
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 불변 스냅샷 — 설정 키 → 파싱된 값
+	//----------------------------------------------------------------------------------------------------------------------
+	private record Snapshot(Map<SettingKey, Value> values)
+	{
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 캐시 키 생성
+	// 초기화 — 설정 변경 토픽 구독 (수신 시 갱신 필요 표시만 하고 재적재는 스케줄러 스레드에 맡김)
 	//----------------------------------------------------------------------------------------------------------------------
-	private String buildKey(String moduleCode, String settingGroup, String settingKey)
+	@PostConstruct
+	void init()
+	{
+		invalidationBus.subscribe(CacheTopic.SETTINGS, scope -> dirty.set(true));
+	}
+
+	//======================================================================================================================
+	// 캐시에서 설정 값 조회 (없으면 null → DB 폴백 유도)
+	//======================================================================================================================
+	public Value get(SettingKey key)
 	{
-		// 모듈코드::그룹::키 형식으로 조합
-		return moduleCode + SEPARATOR + settingGroup + SEPARATOR + settingKey;
+		return snapshot.get().values().get(key);
 	}
 
 	//======================================================================================================================
-	// 캐시에서 설정 값 조회 (TTL 만료 시 Optional.empty 반환 → DB 폴백 유도)
+	// 트랜잭션 커밋 후 그룹 설정 값 write-through (트랜잭션 밖이면 즉시)
+	// 롤백된 값이 스냅샷에 남지 않도록 커밋이 확정된 뒤에만 반영한다
 	//======================================================================================================================
-	public Optional<String> get(String moduleCode, String settingGroup, String settingKey)
+	public void putAllAfterCommit(String moduleCode, String settingGroup, Map<String, String> keyValues)
 	{
-		// 캐시에서 항목 조회
-		CacheEntry entry = cache.get(buildKey(moduleCode, settingGroup, settingKey));
-		// 항목이 없거나 TTL 만료 시 캐시 미스 처리
-		if (entry == null || entry.isExpired())
+		if (keyValues.isEmpty())
+		{
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive())
 		{
-			return Optional.empty();
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+			{
+				@Override
+				public void afterCommit()
+				{
+					putAll(moduleCode, settingGroup, keyValues);
+				}
+			});
+			return;
 		}
-		// 캐시 히트 — 값 반환
-		return Optional.of(entry.value());
+		putAll(moduleCode, settingGroup, keyValues);
 	}
 
 	//======================================================================================================================
-	// 캐시에 설정 값 저장 (또는 갱신, TTL 리셋)
+	// 캐시 미스 적재 — DB에서 읽은 값(없으면 Value.MISSING)을 스냅샷에 합침
+	// 이미 있는 키는 덮어쓰지 않으며(동시 write-through 우선), 세대 번호를 올리지 않아 진행 중인 전체 갱신을 막지 않는다
 	//======================================================================================================================
-	public void put(String moduleCode, String settingGroup, String settingKey, String value)
+	public void fill(SettingKey key, Value value)
 	{
-		// 새 TTL을 계산하여 캐시에 저장
-		cache.put(buildKey(moduleCode, settingGroup, settingKey),
-				new CacheEntry(value, System.currentTimeMillis() + TTL_MILLIS));
+		snapshot.updateAndGet(current ->
+		{
+			if (current.values().containsKey(key))
+			{
+				return current;
+			}
+			Map<SettingKey, Value> values = new HashMap<>(current.values());
+			values.put(key, value);
+			return new Snapshot(Map.copyOf(values));
+		});
 	}
 
 	//======================================================================================================================
-	// 캐시에서 설정 값 제거
+	// 전체 설정 목록으로 스냅샷 교체 (앱 시작 시 호출)
 	//======================================================================================================================
-	public void remove(String moduleCode, String settingGroup, String settingKey)
+	public void loadAll(List<SettingEntity> settings)
 	{
-		// 해당 키의 캐시 항목 삭제
-		cache.remove(buildKey(moduleCode, settingGroup, settingKey));
+		version.incrementAndGet();
+		snapshot.set(build(settings));
+		log.info("설정 캐시 로딩 완료: {}개 항목", settings.size());
 	}
 
 	//======================================================================================================================
-	// 전체 설정 목록으로 캐시 일괄 로딩 (앱 시작 시 호출)
+	// 트랜잭션 커밋 후 모든 노드에 설정 변경 전파 (scope: 로그용 "{module}/{group}")
 	//======================================================================================================================
-	public void loadAll(List<SettingEntity> settings)
+	public void invalidateAfterCommit(String scope)
 	{
-		// 기존 캐시 초기화
-		cache.clear();
-		// 동일한 만료 시각으로 일괄 적재
-		long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
-		for (SettingEntity setting : settings)
+		invalidationBus.publishAfterCommit(CacheTopic.SETTINGS, scope);
+	}
+
+	//======================================================================================================================
+	// 백그라운드 갱신 (주기 실행, 안전망) — DB 전체 조회 후 스냅샷 교체
+	//======================================================================================================================
+	@Scheduled(initialDelayString = "${app.setting.refresh-ms:30000}", fixedDelayString = "${app.setting.refresh-ms:30000}")
+	public void refresh()
+	{
+		dirty.set(false);
+		if (!reload())
 		{
-			cache.put(
-					buildKey(setting.getModuleCode(), setting.getSettingGroup(), setting.getSettingKey()),
-					new CacheEntry(setting.getSettingValue(), expiresAt)
-			);
+			dirty.set(true);
 		}
-		log.info("설정 캐시 로딩 완료: {}개 항목", cache.size());
 	}
 
-	//----------------------------------------------------------------------------------------------------------------------
-	// 특정 모듈의 모든 설정 조회 (키 접두사 매칭, 만료된 항목 포함)
-	//----------------------------------------------------------------------------------------------------------------------
-	public Map<String, String> getAllByModule(String moduleCode)
+	//======================================================================================================================
+	// 변경 메시지 반영 (주기 실행) — 갱신 필요로 표시된 경우에만 전체 재적재
+	//======================================================================================================================
+	@Scheduled(fixedDelayString = "${app.setting.dirty-check-ms:1000}")
+	public void refreshIfDirty()
 	{
-		// 모듈 코드로 시작하는 키를 필터링하여 맵으로 반환
-		String prefix = moduleCode + SEPARATOR;
-		return cache.entrySet().stream()
-				.filter(entry -> entry.getKey().startsWith(prefix))
-				.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().value()));
+		if (dirty.compareAndSet(true, false) && !reload())
+		{
+			// 교체하지 못했으면 다음 확인 때 다시 시도
+			dirty.set(true);
+		}
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
@@ -121,6 +193,62 @@ public class SettingCache
 	//----------------------------------------------------------------------------------------------------------------------
 	public int size()
 	{
-		return cache.size();
+		return snapshot.get().values().size();
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// DB 전체 조회 후 스냅샷 교체 (교체했으면 true)
+	// 조회 도중 write-through가 있었다면 조회 결과가 더 오래된 값일 수 있으므로 교체하지 않는다
+	//----------------------------------------------------------------------------------------------------------------------
+	private boolean reload()
+	{
+		long loadVersion = version.get();
+		try
+		{
+			Snapshot loaded = build(settingRepository.findAll());
+			if (version.compareAndSet(loadVersion, loadVersion + 1))
+			{
+				snapshot.set(loaded);
+				return true;
+			}
+			return false;
+		}
+		catch (Exception e)
+		{
+			// DB 장애 시 현재 스냅샷을 계속 사용
+			log.warn("설정 캐시 갱신 실패 — 기존 스냅샷 유지: error={}", e.getMessage());
+			return false;
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 그룹 설정 값 일괄 반영 — 바뀐 항목만 교체한 새 스냅샷으로 교체
+	// 세대 번호를 올려, 이 쓰기 이전에 시작된 전체 갱신 결과가 새 값을 덮어쓰지 않게 한다
+	//----------------------------------------------------------------------------------------------------------------------
+	private void putAll(String moduleCode, String settingGroup, Map<String, String> keyValues)
+	{
+		version.incrementAndGet();
+		Map<SettingKey, Value> changed = new HashMap<>(keyValues.size() * 2);
+		keyValues.forEach((settingKey, value) -> changed.put(SettingKey.of(moduleCode, settingGroup, settingKey), Value.parse(value)));
+		snapshot.updateAndGet(current ->
+		{
+			Map<SettingKey, Value> values = new HashMap<>(current.values());
+			values.putAll(changed);
+			return new Snapshot(Map.copyOf(values));
+		});
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 설정 목록 → 파싱된 불변 스냅샷
+	//----------------------------------------------------------------------------------------------------------------------
+	private static Snapshot build(List<SettingEntity> settings)
+	{
+		Map<SettingKey, Value> values = new HashMap<>(settings.size() * 2);
+		for (SettingEntity setting : settings)
+		{
+			values.put(SettingKey.of(setting.getModuleCode(), setting.getSettingGroup(), setting.getSettingKey()),
+					Value.parse(setting.getSettingValue()));
+		}
+		return new Snapshot(Map.copyOf(values));
 	}
 }
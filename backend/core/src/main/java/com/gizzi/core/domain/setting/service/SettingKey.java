@@ -0,0 +1,102 @@
+package com.gizzi.core.domain.setting.service;
+
+import java.util.Objects;
+
+// 설정 조회 키 — (module_code, setting_group, setting_key) 불변 조합
+// 해시를 생성 시 한 번만 계산하므로, 호출부가 static final 상수로 보관하면 조회마다 문자열 조합/해시 계산이 없다
+//
+// 사용 예:
+//   private static final SettingKey ACCESS_TOKEN_EXP = SettingKey.system("session", "access_token_exp");
+//   long exp = settingService.getNumber(ACCESS_TOKEN_EXP);
+public final class SettingKey
+{
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final String SYSTEM_MODULE = "system";	// 전역 설정 모듈 코드
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private final String moduleCode;	// 모듈 코드 ('system' = 전역 설정)
+	private final String settingGroup;	// 설정 그룹
+	private final String settingKey;	// 설정 키
+	private final int    hash;			// 미리 계산한 해시
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자 (정적 팩토리 전용)
+	//----------------------------------------------------------------------------------------------------------------------
+	private SettingKey(String moduleCode, String settingGroup, String settingKey)
+	{
+		this.moduleCode   = moduleCode;
+		this.settingGroup = settingGroup;
+		this.settingKey   = settingKey;
+		this.hash         = Objects.hash(moduleCode, settingGroup, settingKey);
+	}
+
+	//======================================================================================================================
+	// 정적 팩토리
+	//======================================================================================================================
+
+	// 모듈 설정 키
+	public static SettingKey of(String moduleCode, String settingGroup, String settingKey)
+	{
+		return new SettingKey(moduleCode, settingGroup, settingKey);
+	}
+
+	// 시스템 설정 키 ("system" 모듈)
+	public static SettingKey system(String settingGroup, String settingKey)
+	{
+		return new SettingKey(SYSTEM_MODULE, settingGroup, settingKey);
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	public String getModuleCode()
+	{
+		return moduleCode;
+	}
+
+	public String getSettingGroup()
+	{
+		return settingGroup;
+	}
+
+	public String getSettingKey()
+	{
+		return settingKey;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 동등성 — 세 구성 요소가 모두 같으면 같은 키
+	//----------------------------------------------------------------------------------------------------------------------
+	@Override
+	public boolean equals(Object o)
+	{
+		if (this == o)
+		{
+			return true;
+		}
+		if (!(o instanceof SettingKey other) || hash != other.hash)
+		{
+			return false;
+		}
+		return settingKey.equals(other.settingKey)
+				&& settingGroup.equals(other.settingGroup)
+				&& moduleCode.equals(other.moduleCode);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	public String toString()
+	{
+		return moduleCode + "/" + settingGroup + "/" + settingKey;
+	}
+}
@@ -16,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 // 설정 서비스 — 읽기(캐시 우선) + 쓰기(write-through) + 관리 API용 CRUD
 @Slf4j
@@ -36,25 +35,7 @@ public class SettingService
 	//======================================================================================================================
 	public String getString(String moduleCode, String settingGroup, String settingKey)
 	{
-		//----------------------------------------------------------------------------------------------------------------------
-		// 캐시에서 먼저 조회
-		//----------------------------------------------------------------------------------------------------------------------
-		Optional<String> cached = settingCache.get(moduleCode, settingGroup, settingKey);
-		if (cached.isPresent())
-		{
-			return cached.get();
-		}
-
-		//----------------------------------------------------------------------------------------------------------------------
-		// 캐시 미스: DB에서 조회 후 캐시 적재
-		//----------------------------------------------------------------------------------------------------------------------
-		SettingEntity entity = settingRepository
-				.findByModuleCodeAndSettingGroupAndSettingKey(moduleCode, settingGroup, settingKey)
-				.orElseThrow(() -> new BusinessException(SettingErrorCode.SETTING_NOT_FOUND));
-
-		// 캐시에 적재
-		settingCache.put(moduleCode, settingGroup, settingKey, entity.getSettingValue());
-		return entity.getSettingValue();
+		return getString(SettingKey.of(moduleCode, settingGroup, settingKey));
 	}
 
 	//======================================================================================================================
@@ -62,9 +43,7 @@ public class SettingService
 	//======================================================================================================================
 	public boolean getBoolean(String moduleCode, String settingGroup, String settingKey)
 	{
-		// 문자열 값을 불리언으로 변환
-		String value = getString(moduleCode, settingGroup, settingKey);
-		return "true".equalsIgnoreCase(value);
+		return getBoolean(SettingKey.of(moduleCode, settingGroup, settingKey));
 	}
 
 	//======================================================================================================================
@@ -72,16 +51,36 @@ public class SettingService
 	//======================================================================================================================
 	public long getNumber(String moduleCode, String settingGroup, String settingKey)
 	{
-		// 문자열 값을 long으로 변환
-		String value = getString(moduleCode, settingGroup, settingKey);
-		try
-		{
-			return Long.parseLong(value);
-		}
-		catch (NumberFormatException e)
+		return getNumber(SettingKey.of(moduleCode, settingGroup, settingKey));
+	}
+
+	//======================================================================================================================
+	// 미리 만든 키로 문자열 설정 값 조회 — 호출부는 SettingKey를 static final 상수로 보관한다
+	//======================================================================================================================
+	public String getString(SettingKey key)
+	{
+		return resolve(key).raw();
+	}
+
+	//======================================================================================================================
+	// 미리 만든 키로 불리언 설정 값 조회 (스냅샷 적재 시 파싱된 값)
+	//======================================================================================================================
+	public boolean getBoolean(SettingKey key)
+	{
+		return resolve(key).bool();
+	}
+
+	//======================================================================================================================
+	// 미리 만든 키로 숫자(long) 설정 값 조회 (스냅샷 적재 시 파싱된 값, 숫자가 아니면 SETTING_INVALID_VALUE)
+	//======================================================================================================================
+	public long getNumber(SettingKey key)
+	{
+		Long number = resolve(key).number();
+		if (number == null)
 		{
 			throw new BusinessException(SettingErrorCode.SETTING_INVALID_VALUE);
 		}
+		return number;
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
@@ -172,6 +171,9 @@ public class SettingService
 		List<SettingEntity> settings = settingRepository
 				.findByModuleCodeAndSettingGroupOrderBySortOrderAscSettingKeyAsc(moduleCode, settingGroup);
 
+		// 실제로 반영된 키 → 새 값 (커밋 후 캐시에 write-through)
+		Map<String, String> changed = new LinkedHashMap<>();
+
 		for (SettingEntity setting : settings)
 		{
 			// 요청에 포함된 키만 업데이트
@@ -195,13 +197,17 @@ public class SettingService
 			validateValue(setting.getValueType(), newValue);
 
 			//----------------------------------------------------------------------------------------------------------------------
-			// DB 업데이트 + 캐시 갱신 (write-through)
+			// DB 업데이트 (캐시는 커밋 후 반영)
 			//----------------------------------------------------------------------------------------------------------------------
 			setting.updateValue(newValue, updatedBy);
 			settingRepository.save(setting);
-			settingCache.put(moduleCode, settingGroup, setting.getSettingKey(), newValue);
+			changed.put(setting.getSettingKey(), newValue);
 		}
 
+		// 커밋 후 이 노드의 스냅샷에 write-through + 다른 노드의 설정 스냅샷 갱신 (롤백 시 둘 다 실행되지 않음)
+		settingCache.putAllAfterCommit(moduleCode, settingGroup, changed);
+		settingCache.invalidateAfterCommit(moduleCode + "/" + settingGroup);
+
 		log.info("설정 그룹 수정 완료: {}/{} — {}개 항목 (수정자: {})",
 				moduleCode, settingGroup, keyValueMap.size(), updatedBy);
 
@@ -213,6 +219,28 @@ public class SettingService
 			Map.of("moduleCode", moduleCode, "settingGroup", settingGroup, "changedKeys", String.join(",", keyValueMap.keySet())));
 	}
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// 스냅샷에서 파싱된 값 조회 (스냅샷에 없으면 DB 조회 후 스냅샷에 합침, DB에도 없으면 부정 캐시 후 SETTING_NOT_FOUND)
+	//----------------------------------------------------------------------------------------------------------------------
+	private SettingCache.Value resolve(SettingKey key)
+	{
+		SettingCache.Value value = settingCache.get(key);
+		if (value == null)
+		{
+			value = settingRepository
+					.findByModuleCodeAndSettingGroupAndSettingKey(key.getModuleCode(), key.getSettingGroup(), key.getSettingKey())
+					.map(entity -> SettingCache.Value.parse(entity.getSettingValue()))
+					.orElse(SettingCache.Value.MISSING);
+			settingCache.fill(key, value);
+		}
+
+		if (value.isMissing())
+		{
+			throw new BusinessException(SettingErrorCode.SETTING_NOT_FOUND);
+		}
+		return value;
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 값 타입 검증
 	//----------------------------------------------------------------------------------------------------------------------
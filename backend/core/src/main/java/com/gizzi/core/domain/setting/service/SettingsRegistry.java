@@ -113,6 +113,15 @@ public class SettingsRegistry implements ApplicationRunner
 		count += registerIfAbsent("system", "auth", "otp_required",
 				"false", SettingValueType.BOOLEAN,
 				"2FA 필수 여부", "활성화 시 모든 사용자에게 2FA를 요구합니다", false, 2);
+		count += registerIfAbsent("system", "auth", "rate_limit_ip",
+				"20", SettingValueType.NUMBER,
+				"IP별 로그인 실패 한도", "윈도우 내 같은 IP의 로그인 실패가 이 횟수에 도달하면 차단합니다 (0이면 제한 없음)", false, 3);
+		count += registerIfAbsent("system", "auth", "rate_limit_login_id",
+				"10", SettingValueType.NUMBER,
+				"아이디별 로그인 실패 한도", "윈도우 내 같은 아이디의 로그인 실패가 이 횟수에 도달하면 차단합니다 (0이면 제한 없음)", false, 4);
+		count += registerIfAbsent("system", "auth", "rate_limit_window_sec",
+				"60", SettingValueType.NUMBER,
+				"로그인 실패 집계 윈도우 (초)", "IP/아이디별 로그인 실패 횟수를 집계하는 슬라이딩 윈도우 크기 (초 단위)", false, 5);
 
 		//----------------------------------------------------------------------------------------------------------------------
 		// sms 그룹: SMS 인증 설정
@@ -131,7 +140,7 @@ public class SettingsRegistry implements ApplicationRunner
 				"번호당 일일 발송 한도", "하나의 전화번호로 하루에 보낼 수 있는 최대 SMS 건수", false, 3);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// session 그룹: 토큰 만료 설정
+		// session 그룹: 토큰 만료 + 동시 세션 설정
 		//----------------------------------------------------------------------------------------------------------------------
 		count += registerIfAbsent("system", "session", "access_token_exp",
 				"1800000", SettingValueType.NUMBER,
@@ -139,6 +148,12 @@ public class SettingsRegistry implements ApplicationRunner
 		count += registerIfAbsent("system", "session", "refresh_token_exp",
 				"604800000", SettingValueType.NUMBER,
 				"Refresh Token 만료 (ms)", "Refresh Token 만료 시간 (밀리초, 기본 7일)", false, 1);
+		count += registerIfAbsent("system", "session", "max_concurrent",
+				"0", SettingValueType.NUMBER,
+				"사용자당 최대 동시 세션 수", "초과 시 가장 오래된 세션부터 종료됩니다 (0이면 제한 없음)", false, 2);
+		count += registerIfAbsent("system", "session", "purge_retention_days",
+				"30", SettingValueType.NUMBER,
+				"만료/폐기 세션 보존 기간 (일)", "만료 또는 폐기 후 이 기간이 지난 세션 기록을 주기적으로 삭제합니다 (0이면 삭제하지 않음)", false, 3);
 
 		return count;
 	}
@@ -1,5 +1,7 @@
 package com.gizzi.core.domain.setup.service;
 
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
 import com.gizzi.core.common.exception.BusinessException;
 import com.gizzi.core.common.exception.SetupErrorCode;
 import com.gizzi.core.domain.sms.service.OtpService;
@@ -13,6 +15,7 @@ import com.gizzi.core.domain.user.dto.SignupResponseDto;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
 import com.gizzi.core.domain.user.service.UserService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 // 시스템 초기 설정 서비스
 // 최초 배포 시 관리자 계정 생성을 담당한다
 // administrator 그룹 멤버 유무로 초기화 상태를 판단한다
+// 초기화 완료 여부는 노드별로 캐시되며, 캐시 무효화는 캐시 무효화 버스(SYSTEM_INIT 토픽)로 모든 노드에 전파된다
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -43,20 +47,33 @@ public class SystemInitService
 	private final GroupRepository       groupRepository;		// 그룹 리포지토리 (administrator 그룹 조회)
 	private final GroupMemberRepository groupMemberRepository;	// 그룹 멤버 리포지토리 (멤버 수 확인)
 	private final OtpService            otpService;				// OTP 서비스 (SMS 전화번호 인증)
+	private final CacheInvalidationBus  invalidationBus;		// 노드 간 캐시 무효화 버스
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 초기화 상태 캐시 ]
 	//----------------------------------------------------------------------------------------------------------------------
 	private final AtomicBoolean initializedCache = new AtomicBoolean(false);	// true면 매 요청마다 DB 조회 생략
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 초기화 상태 토픽 구독 (다른 노드의 무효화 수신 시 로컬 캐시 리셋)
+	//----------------------------------------------------------------------------------------------------------------------
+	@PostConstruct
+	void init()
+	{
+		invalidationBus.subscribe(CacheTopic.SYSTEM_INIT, key ->
+		{
+			initializedCache.set(false);
+			log.info("시스템 초기화 캐시 무효화됨 — 다음 조회 시 DB 재확인");
+		});
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 초기화 캐시 무효화 (DB 초기화 후 재확인이 필요할 때 호출)
-	// 캐시를 false로 리셋하여 다음 isInitialized() 호출 시 DB를 다시 확인하게 한다
+	// 모든 노드의 캐시를 false로 리셋하여 다음 isInitialized() 호출 시 DB를 다시 확인하게 한다
 	//----------------------------------------------------------------------------------------------------------------------
 	public void invalidateCache()
 	{
-		initializedCache.set(false);
-		log.info("시스템 초기화 캐시 무효화됨 — 다음 조회 시 DB 재확인");
+		invalidationBus.publishAfterCommit(CacheTopic.SYSTEM_INIT, CacheInvalidationBus.ALL);
 	}
 
 	//======================================================================================================================
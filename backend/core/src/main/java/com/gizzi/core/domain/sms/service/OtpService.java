@@ -5,6 +5,7 @@ import com.gizzi.core.common.exception.SmsErrorCode;
 import com.gizzi.core.domain.audit.AuditAction;
 import com.gizzi.core.domain.audit.AuditTarget;
 import com.gizzi.core.domain.audit.service.AuditLogService;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
 import com.gizzi.core.domain.sms.dto.VerifyOtpResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +52,11 @@ public class OtpService
 	private static final long   DAILY_LIMIT_TTL = 86400;			// 일일 한도 TTL (24시간)
 	private static final long   VERIFIED_TTL    = 600;				// 인증 완료 토큰 TTL (10분)
 
+	private static final SettingKey SMS_ENABLED     = SettingKey.system("sms", "enabled");	// SMS 사용 여부 설정 키
+	private static final SettingKey OTP_LENGTH      = SettingKey.system("sms", "otp_length");	// OTP 자릿수 설정 키
+	private static final SettingKey OTP_TTL_SECONDS = SettingKey.system("sms", "otp_ttl_seconds");	// OTP 유효 시간(초) 설정 키
+	private static final SettingKey DAILY_LIMIT     = SettingKey.system("sms", "daily_limit");	// 일일 발송 한도 설정 키
+
 	// 보안 난수 생성기
 	private final SecureRandom secureRandom = new SecureRandom();
 
@@ -64,7 +70,7 @@ public class OtpService
 		//----------------------------------------------------------------------------------------------------------------------
 		// 시스템 설정: SMS 인증 활성화 여부 확인
 		//----------------------------------------------------------------------------------------------------------------------
-		boolean smsEnabled = settingService.getSystemBoolean("sms", "enabled");
+		boolean smsEnabled = settingService.getBoolean(SMS_ENABLED);
 		if (!smsEnabled)
 		{
 			throw new BusinessException(SmsErrorCode.SMS_DISABLED);
@@ -89,11 +95,11 @@ public class OtpService
 		//----------------------------------------------------------------------------------------------------------------------
 		// OTP 코드 생성 (시스템 설정에서 길이 조회)
 		//----------------------------------------------------------------------------------------------------------------------
-		int otpLength    = (int) settingService.getSystemNumber("sms", "otp_length");
+		int otpLength    = (int) settingService.getNumber(OTP_LENGTH);
 		String otpCode   = generateOtpCode(otpLength);
 
 		// OTP TTL 조회 (초)
-		long otpTtl = (long) settingService.getSystemNumber("sms", "otp_ttl_seconds");
+		long otpTtl = (long) settingService.getNumber(OTP_TTL_SECONDS);
 
 		//----------------------------------------------------------------------------------------------------------------------
 		// SMS 발송
@@ -196,7 +202,7 @@ public class OtpService
 	private boolean isDailyLimitExceeded(String phone)
 	{
 		// 시스템 설정: 일일 발송 한도
-		int dailyLimit = (int) settingService.getSystemNumber("sms", "daily_limit");
+		int dailyLimit = (int) settingService.getNumber(DAILY_LIMIT);
 		// Redis에서 현재 일일 발송 카운터 조회
 		String countStr = redisTemplate.opsForValue().get(DAILY_PREFIX + phone);
 		if (countStr == null)
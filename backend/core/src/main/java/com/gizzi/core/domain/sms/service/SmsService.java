@@ -5,6 +5,7 @@ import com.gizzi.core.common.exception.SmsErrorCode;
 import com.gizzi.core.domain.audit.AuditAction;
 import com.gizzi.core.domain.audit.AuditTarget;
 import com.gizzi.core.domain.audit.service.AuditLogService;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
 import com.gizzi.core.domain.sms.entity.SmsProviderEntity;
 import com.gizzi.core.domain.sms.repository.SmsProviderRepository;
@@ -35,6 +36,11 @@ public class SmsService
 	private final SettingService                 settingService;			// 시스템 설정 서비스
 	private final AuditLogService                auditLogService;		// 감사 로그 서비스
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+	private static final SettingKey SMS_ENABLED = SettingKey.system("sms", "enabled");	// SMS 사용 여부 설정 키
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 생성자 ]
 	//----------------------------------------------------------------------------------------------------------------------
@@ -66,7 +72,7 @@ public class SmsService
 		//----------------------------------------------------------------------------------------------------------------------
 		// 시스템 설정: SMS 인증 활성화 여부 확인
 		//----------------------------------------------------------------------------------------------------------------------
-		boolean smsEnabled = settingService.getSystemBoolean("sms", "enabled");
+		boolean smsEnabled = settingService.getBoolean(SMS_ENABLED);
 		if (!smsEnabled)
 		{
 			throw new BusinessException(SmsErrorCode.SMS_DISABLED);
@@ -111,7 +117,7 @@ public class SmsService
 		//----------------------------------------------------------------------------------------------------------------------
 		// 시스템 설정: SMS 인증 활성화 여부 확인
 		//----------------------------------------------------------------------------------------------------------------------
-		boolean smsEnabled = settingService.getSystemBoolean("sms", "enabled");
+		boolean smsEnabled = settingService.getBoolean(SMS_ENABLED);
 		if (!smsEnabled)
 		{
 			throw new BusinessException(SmsErrorCode.SMS_DISABLED);
@@ -233,18 +233,13 @@ public class UserEntity extends BaseEntity
 	// 비즈니스 메서드 — 로그인 실패 / 잠금
 	//======================================================================================================================
 
-	// 로그인 실패 횟수 증가 + 최대 횟수 초과 시 자동 잠금
-	// maxFailCount: 시스템 설정(auth.max_login_fail)에서 전달받은 최대 실패 허용 횟수
-	public void incrementLoginFailCount(int maxFailCount)
+	// 로그인 실패 누적으로 계정 잠금 (실패 횟수는 Redis에서 집계, 잠금 시점에만 동기화)
+	// failCount: 잠금을 유발한 누적 실패 횟수
+	public void lockForLoginFailures(int failCount)
 	{
-		// 실패 횟수 1 증가
-		this.loginFailCount++;
-		// 최대 실패 횟수 이상이면 계정 잠금
-		if (this.loginFailCount >= maxFailCount)
-		{
-			this.isLocked = true;
-			this.lockedAt = LocalDateTime.now();
-		}
+		this.loginFailCount = failCount;
+		this.isLocked       = true;
+		this.lockedAt       = LocalDateTime.now();
 	}
 
 	// 잠금 시간 경과 시 자동 해제 시도
@@ -332,6 +327,12 @@ public class UserEntity extends BaseEntity
 		this.passwordChangeDate = LocalDateTime.now();
 	}
 
+	// 비밀번호 재해싱 (로그인 성공 시 더 높은 cost로 투명하게 교체 — 변경 일시는 유지)
+	public void rehashPassword(String encodedPassword)
+	{
+		this.passwordHash = encodedPassword;
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 비즈니스 메서드 — SMS / 전화번호
 	//----------------------------------------------------------------------------------------------------------------------
@@ -4,15 +4,18 @@ import com.gizzi.core.common.exception.AuthErrorCode;
 import com.gizzi.core.common.exception.BusinessException;
 import com.gizzi.core.common.exception.SmsErrorCode;
 import com.gizzi.core.common.exception.UserErrorCode;
+import com.gizzi.core.common.security.PasswordHashingService;
 import com.gizzi.core.domain.audit.AuditAction;
 import com.gizzi.core.domain.audit.AuditTarget;
 import com.gizzi.core.domain.audit.service.AuditLogService;
 import com.gizzi.core.domain.auth.repository.UserIdentityRepository;
+import com.gizzi.core.domain.auth.service.LoginThrottleService;
 import com.gizzi.core.domain.auth.service.RedisTokenService;
 import com.gizzi.core.domain.sms.service.OtpService;
 import com.gizzi.core.domain.group.entity.GroupEntity;
 import com.gizzi.core.domain.group.repository.GroupMemberRepository;
 import com.gizzi.core.domain.group.repository.GroupRepository;
+import com.gizzi.core.domain.group.service.AdminAccessService;
 import com.gizzi.core.domain.group.service.GroupService;
 import com.gizzi.core.domain.sms.dto.ResetPasswordResponseDto;
 import com.gizzi.core.domain.sms.service.SmsNotificationService;
@@ -25,12 +28,13 @@ import com.gizzi.core.domain.user.dto.UserListResponseDto;
 import com.gizzi.core.domain.user.dto.UserResponseDto;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
+import com.gizzi.core.domain.setting.service.SettingKey;
 import com.gizzi.core.domain.setting.service.SettingService;
+import com.gizzi.core.module.PermissionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,7 +57,7 @@ public class UserService
 	//----------------------------------------------------------------------------------------------------------------------
 
 	private final UserRepository          userRepository;           // 사용자 리포지토리
-	private final PasswordEncoder         passwordEncoder;          // 비밀번호 인코더 (BCrypt)
+	private final PasswordHashingService  passwordHashingService;   // 비밀번호 해싱 서비스 (BCrypt, 전용 스레드 풀)
 	private final GroupService            groupService;             // 그룹 서비스 (기본 그룹 배정용)
 	private final GroupRepository         groupRepository;          // 그룹 리포지토리 (사용자 삭제 시 소유 그룹 owner 해제용)
 	private final GroupMemberRepository   groupMemberRepository;    // 그룹 멤버 리포지토리 (administrator 그룹 소속 확인용)
@@ -63,6 +67,9 @@ public class UserService
 	private final AuditLogService         auditLogService;          // 감사 로그 서비스
 	private final OtpService              otpService;               // OTP 서비스 (SMS 전화번호 인증)
 	private final SmsNotificationService  smsNotificationService;   // SMS 알림 서비스 (비밀번호 초기화 SMS 발송용)
+	private final LoginThrottleService    loginThrottleService;     // 로그인 시도 제한 서비스 (잠금 해제 시 Redis 상태 초기화)
+	private final PermissionCache         permissionCache;          // 컴파일된 권한 캐시 (사용자 삭제 시 무효화)
+	private final AdminAccessService      adminAccessService;       // 관리자 멤버 캐시 (관리자 삭제 시 무효화)
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 상수 ]
@@ -72,6 +79,11 @@ public class UserService
 	private static final String TEMP_PASSWORD_CHARS =
 		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%&*";
 
+	// 회원가입 관련 설정 키
+	private static final SettingKey SIGNUP_ENABLED        = SettingKey.system("signup", "enabled");	// 회원가입 허용 설정 키
+	private static final SettingKey SIGNUP_DEFAULT_STATUS = SettingKey.system("signup", "default_status");	// 가입 시 기본 상태 설정 키
+	private static final SettingKey SMS_ENABLED           = SettingKey.system("sms", "enabled");	// SMS 사용 여부 설정 키
+
 	//======================================================================================================================
 	// 회원가입
 	//======================================================================================================================
@@ -85,7 +97,7 @@ public class UserService
 		//----------------------------------------------------------------------------------------------------------------------
 
 		// 시스템 설정: 회원가입 활성화 여부 확인
-		boolean signupEnabled = settingService.getSystemBoolean("signup", "enabled");
+		boolean signupEnabled = settingService.getBoolean(SIGNUP_ENABLED);
 		if (!signupEnabled)
 		{
 			throw new BusinessException(UserErrorCode.SIGNUP_DISABLED);
@@ -112,17 +124,17 @@ public class UserService
 		//----------------------------------------------------------------------------------------------------------------------
 
 		// 비밀번호 BCrypt 해싱
-		String encodedPassword = passwordEncoder.encode(request.getPassword());
+		String encodedPassword = passwordHashingService.encode(request.getPassword());
 
 		// 시스템 설정: 신규 사용자 초기 상태 (ACTIVE, PENDING 등)
-		String defaultStatus = settingService.getSystemSetting("signup", "default_status");
+		String defaultStatus = settingService.getString(SIGNUP_DEFAULT_STATUS);
 
 		//----------------------------------------------------------------------------------------------------------------------
 		// SMS 전화번호 인증 검증
 		//----------------------------------------------------------------------------------------------------------------------
 
 		// SMS 인증 활성화 시 전화번호 인증 검증
-		boolean smsEnabled = settingService.getSystemBoolean("sms", "enabled");
+		boolean smsEnabled = settingService.getBoolean(SMS_ENABLED);
 		if (smsEnabled && request.getPhone() != null && !request.getPhone().isBlank())
 		{
 			// 전화번호가 제공된 경우 인증 토큰 검증
@@ -183,19 +195,15 @@ public class UserService
 	// 로그인 관련
 	//======================================================================================================================
 
-	// 로그인 실패 횟수 증가 (독립 트랜잭션)
-	// 로그인 실패 시 BusinessException으로 외부 트랜잭션이 롤백되므로
-	// REQUIRES_NEW로 별도 트랜잭션에서 실행하여 실패 횟수가 반드시 커밋되도록 한다
+	// 로그인 실패 누적 잠금을 DB에 동기화 (독립 트랜잭션)
+	// 실패 횟수는 LoginThrottleService가 Redis에서 집계하고, 잠금이 발생한 시점에만 tb_users를 갱신한다
+	// 로그인 실패 시 BusinessException으로 외부 트랜잭션이 롤백되므로 REQUIRES_NEW로 별도 커밋한다
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void incrementLoginFailCount(String userPk)
+	public void lockForLoginFailures(String userPk, int failCount)
 	{
 		userRepository.findById(userPk).ifPresent(user -> {
-			// 시스템 설정: 최대 로그인 실패 허용 횟수
-			int maxFailCount = (int) settingService.getSystemNumber("auth", "max_login_fail");
-			// 실패 횟수 증가 (설정된 최대 횟수 초과 시 자동 잠금)
-			user.incrementLoginFailCount(maxFailCount);
-			log.warn("로그인 실패 카운트 증가: userId={}, failCount={}, maxFail={}, locked={}",
-				user.getUserId(), user.getLoginFailCount(), maxFailCount, user.getIsLocked());
+			user.lockForLoginFailures(failCount);
+			log.warn("로그인 실패 누적으로 계정 잠금: userId={}, failCount={}", user.getUserId(), failCount);
 		});
 	}
 
@@ -219,7 +227,7 @@ public class UserService
 		return exists ? AvailabilityCheckResponseDto.unavailable() : AvailabilityCheckResponseDto.available();
 	}
 
-	// 로그인 ID로 사용자 엔티티 조회 (admin 로그인 전 관리자 그룹 확인용)
+	// 로그인 ID로 사용자 엔티티 조회 (admin 로그인 후 OTP 세션 생성용)
 	// 없으면 AUTH_INVALID_CREDENTIALS 예외 발생
 	public UserEntity findByLoginId(String loginId)
 	{
@@ -309,6 +317,8 @@ public class UserService
 
 		// 잠금 해제 (실패 횟수 초기화 포함)
 		user.unlock();
+		// Redis 잠금 표식/실패 횟수 초기화
+		loginThrottleService.clear(user.getUserId());
 
 		log.info("사용자 잠금 해제: id={}, userId={}", id, user.getUserId());
 
@@ -369,9 +379,19 @@ public class UserService
 		// 소셜 연동 정보 명시적 삭제 (CASCADE에 의존하지 않음)
 		userIdentityRepository.deleteByUserId(id);
 
+		// 관리자 그룹 소속 여부는 멤버십이 CASCADE로 지워지기 전에 확인
+		boolean adminMember = adminAccessService.isAdminMember(id);
+
 		// 사용자 삭제 (CASCADE로 그룹 멤버십 등 자동 정리)
 		userRepository.delete(user);
 
+		// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화 (관리자였다면 관리자 멤버 집합도 무효화)
+		permissionCache.invalidateUser(id);
+		if (adminMember)
+		{
+			adminAccessService.invalidateAfterCommit();
+		}
+
 		log.info("사용자 삭제: id={}, userId={}", id, user.getUserId());
 
 		// 사용자 삭제 감사 로그 (관리자에 의한 삭제)
@@ -420,9 +440,19 @@ public class UserService
 		// 소셜 연동 정보 명시적 삭제 (CASCADE에 의존하지 않음)
 		userIdentityRepository.deleteByUserId(userPk);
 
+		// 관리자 그룹 소속 여부는 멤버십이 CASCADE로 지워지기 전에 확인
+		boolean adminMember = adminAccessService.isAdminMember(userPk);
+
 		// 사용자 삭제 (CASCADE로 그룹 멤버십 등 자동 정리)
 		userRepository.delete(user);
 
+		// 커밋 후 해당 사용자의 컴파일된 권한 캐시 무효화 (관리자였다면 관리자 멤버 집합도 무효화)
+		permissionCache.invalidateUser(userPk);
+		if (adminMember)
+		{
+			adminAccessService.invalidateAfterCommit();
+		}
+
 		log.info("사용자 본인 탈퇴: id={}, userId={}", userPk, user.getUserId());
 
 		// 본인 탈퇴 감사 로그
@@ -443,7 +473,7 @@ public class UserService
 			.orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
 		// 새 비밀번호 BCrypt 해싱 후 변경
-		String encodedPassword = passwordEncoder.encode(request.getNewPassword());
+		String encodedPassword = passwordHashingService.encode(request.getNewPassword());
 		user.changePassword(encodedPassword);
 
 		log.info("비밀번호 변경: id={}, userId={}", id, user.getUserId());
@@ -476,7 +506,7 @@ public class UserService
 		String tempPassword = tempPwBuilder.toString();
 
 		// BCrypt 해싱 후 비밀번호 변경
-		String encodedPassword = passwordEncoder.encode(tempPassword);
+		String encodedPassword = passwordHashingService.encode(tempPassword);
 		user.changePassword(encodedPassword);
 
 		log.info("비밀번호 초기화: id={}, userId={}", id, user.getUserId());
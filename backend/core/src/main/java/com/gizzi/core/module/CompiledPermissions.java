@@ -0,0 +1,141 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// (사용자, 인스턴스) 한 쌍의 컴파일된 권한 — 불변
+// PermissionCatalog의 모듈 비트 위치에 맞춘 long[] 비트셋과, 조회 응답용 리소스별 액션 맵을 함께 보관한다
+// 캐시 히트 시 hasPermission은 비트 검사, getPermissionMap은 미리 만든 불변 맵 반환으로 객체 생성 없이 끝난다
+public final class CompiledPermissions
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final String                    moduleCode;     // 인스턴스의 모듈 코드
+	private final boolean                   owner;          // 인스턴스 소유자 여부 (소유자는 모든 권한 보유)
+	private final long[]                    bits;           // 부여된 권한 비트셋 (비트 위치 = PermissionCatalog 모듈 비트)
+	private final Map<String, List<String>> permissionMap;  // 리소스 → 허용 액션 목록 (불변)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 생성자 (compile 팩토리 전용)
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private CompiledPermissions(String moduleCode, boolean owner, long[] bits, Map<String, List<String>> permissionMap)
+	{
+		this.moduleCode    = moduleCode;
+		this.owner         = owner;
+		this.bits          = bits;
+		this.permissionMap = permissionMap;
+	}
+
+	//======================================================================================================================
+	// 컴파일
+	//======================================================================================================================
+
+	// 부여된 권한 ID 목록을 모듈 비트셋으로 컴파일 (카탈로그에 없는 ID는 무시)
+	// owner=true이면 모듈의 모든 비트를 설정한다
+	public static CompiledPermissions compile(PermissionCatalog.ModuleBits module, String moduleCode,
+	                                          boolean owner, Iterable<String> permissionIds)
+	{
+		return compile(module, moduleCode, owner, permissionIds, null);
+	}
+
+	// 부여된 권한 ID 목록 + 역할로 미리 컴파일된 비트셋(RoleCatalog, 없으면 null)을 합산하여 컴파일
+	public static CompiledPermissions compile(PermissionCatalog.ModuleBits module, String moduleCode,
+	                                          boolean owner, Iterable<String> permissionIds, long[] roleBits)
+	{
+		if (module == null)
+		{
+			return new CompiledPermissions(moduleCode, owner, new long[0], Map.of());
+		}
+
+		long[] bits = new long[module.wordCount()];
+		if (owner)
+		{
+			for (int bit = 0; bit < module.permissions().size(); bit++)
+			{
+				bits[bit >>> 6] |= 1L << bit;
+			}
+		}
+		else
+		{
+			for (String permissionId : permissionIds)
+			{
+				Integer bit = module.bitById().get(permissionId);
+				if (bit != null)
+				{
+					bits[bit >>> 6] |= 1L << bit;
+				}
+			}
+			if (roleBits != null)
+			{
+				for (int word = 0; word < Math.min(bits.length, roleBits.length); word++)
+				{
+					bits[word] |= roleBits[word];
+				}
+			}
+		}
+
+		return new CompiledPermissions(moduleCode, owner, bits, buildPermissionMap(module, bits));
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	// 비트 위치의 권한 보유 여부 (소유자는 항상 true, 모르는 권한(-1)은 false)
+	public boolean has(int bit)
+	{
+		if (owner)
+		{
+			return true;
+		}
+		if (bit < 0 || (bit >>> 6) >= bits.length)
+		{
+			return false;
+		}
+		return (bits[bit >>> 6] & (1L << bit)) != 0;
+	}
+
+	// 인스턴스의 모듈 코드
+	public String getModuleCode()
+	{
+		return moduleCode;
+	}
+
+	// 리소스별 허용 액션 맵 (불변, 예: {"post": ["read", "write"]})
+	public Map<String, List<String>> getPermissionMap()
+	{
+		return permissionMap;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 비트셋 → 리소스별 액션 맵 (비트 순서 = resource, action 정렬 순서)
+	private static Map<String, List<String>> buildPermissionMap(PermissionCatalog.ModuleBits module, long[] bits)
+	{
+		Map<String, List<String>> map = new LinkedHashMap<>();
+		for (int bit = 0; bit < module.permissions().size(); bit++)
+		{
+			if ((bits[bit >>> 6] & (1L << bit)) != 0)
+			{
+				ModulePermissionEntity perm = module.permissions().get(bit);
+				map.computeIfAbsent(perm.getResource(), k -> new ArrayList<>()).add(perm.getAction());
+			}
+		}
+
+		// 값 목록까지 불변으로 고정
+		Map<String, List<String>> frozen = new LinkedHashMap<>();
+		map.forEach((resource, actions) -> frozen.put(resource, List.copyOf(actions)));
+		return Collections.unmodifiableMap(frozen);
+	}
+}
@@ -0,0 +1,129 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.domain.group.repository.GroupMemberRepository;
+import com.gizzi.core.domain.role.repository.UserRoleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 그룹 멤버십 캐시 — userId → 소속 그룹 ID 집합 + 사용자 단위 역할 ID 집합 (직접 부여 + 그룹 멤버 단위 부여)
+// 권한 컴파일 시 tb_group_members 서브쿼리 대신 이 집합과 인스턴스별 그룹 권한(PermissionHolderIndex)을 교차하여
+// 그룹 권한을 사용자마다 다시 조회하지 않고, 역할 권한은 RoleCatalog의 미리 컴파일된 비트셋으로 합산한다
+// 멤버 추가/제거, 기본 그룹 배정, 그룹 생성/삭제, 사용자 삭제, 사용자/그룹 멤버 역할 변경 시 발행되는 PermissionCache 무효화 메시지
+// ("user:{userId}", "*")를 PermissionCache가 적용하면서 함께 제거한다 (같은 메시지로 컴파일 결과보다 먼저 제거)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipCache
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private static final int MAX_USERS = 100_000;   // 최대 보관 사용자 수 (초과 시 전체 비움)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final GroupMemberRepository groupMemberRepository;   // 그룹 멤버 리포지토리 (소속 그룹 ID 조회)
+	private final UserRoleRepository    userRoleRepository;      // 사용자 역할 리포지토리 (사용자 단위 역할 ID 조회)
+	private final MeterRegistry         meterRegistry;           // 히트/미스 계측
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 캐시 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final ConcurrentHashMap<String, Membership> memberships = new ConcurrentHashMap<>();   // userId → 멤버십
+	private final AtomicLong                            epoch       = new AtomicLong();            // 무효화 시마다 증가하는 세대 번호
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private Counter hitCounter;    // 캐시 히트 횟수
+	private Counter missCounter;   // 캐시 미스 횟수 (DB 조회 발생)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 사용자 멤버십 — 소속 그룹 ID 집합 + 사용자 단위 역할 ID 집합 (둘 다 불변)
+	//----------------------------------------------------------------------------------------------------------------------
+	record Membership(Set<String> groupIds, Set<String> roleIds)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+
+	@PostConstruct
+	void init()
+	{
+		hitCounter  = meterRegistry.counter("permission.membership.cache", "result", "hit");
+		missCounter = meterRegistry.counter("permission.membership.cache", "result", "miss");
+		Gauge.builder("permission.membership.cache.size", memberships, ConcurrentHashMap::size).register(meterRegistry);
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	// 사용자의 멤버십 반환 (없으면 소속 그룹 + 사용자 단위 역할 조회 2회로 적재)
+	// 적재 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	Membership getMembership(String userId)
+	{
+		Membership cached = memberships.get(userId);
+		if (cached != null)
+		{
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		long       loadEpoch = epoch.get();
+		Membership loaded    = new Membership(Set.copyOf(groupMemberRepository.findGroupIdsByUserId(userId)),
+				Set.copyOf(userRoleRepository.findAssignedRoleIdsByUserId(userId)));
+
+		// 상한 도달 시 전체 비움
+		if (memberships.size() >= MAX_USERS)
+		{
+			log.info("그룹 멤버십 캐시 상한 도달 — 전체 비움: size={}", memberships.size());
+			memberships.clear();
+		}
+		if (epoch.get() == loadEpoch)
+		{
+			memberships.put(userId, loaded);
+			if (epoch.get() != loadEpoch)
+			{
+				memberships.remove(userId);
+			}
+		}
+		return loaded;
+	}
+
+	//======================================================================================================================
+	// 무효화 (PermissionCache 무효화 메시지 적용 시 호출)
+	//======================================================================================================================
+
+	// 사용자 항목 제거 (멤버십/사용자 역할 변경)
+	void invalidateUser(String userId)
+	{
+		epoch.incrementAndGet();
+		memberships.remove(userId);
+	}
+
+	// 전체 제거 (그룹 삭제 등)
+	void clear()
+	{
+		epoch.incrementAndGet();
+		memberships.clear();
+	}
+}
@@ -0,0 +1,30 @@
+package com.gizzi.core.module;
+
+import java.util.Set;
+
+// 모듈 인스턴스 접근 판정 SPI 인터페이스
+// 기능 모듈이 이 인터페이스를 구현하면 core(메뉴 가시성 등)가 모듈 고유 규칙(관리자 우회, 익명 접근 설정 등)을
+// 직접 의존 없이 ModuleAccessRegistry를 통해 그대로 적용할 수 있다
+//
+// 사용 예:
+//   module-board의 BoardAccessPolicy → BoardPermissionHelper.canAccessBoard와 같은 규칙으로 판정
+public interface ModuleAccessPolicy
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 모듈 식별
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 이 정책이 담당하는 모듈 코드
+	// 예: "board", "page"
+	String getModuleCode();
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 접근 판정
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 사용자가 접근할 수 있는 인스턴스만 골라 반환 (userId가 null이면 비로그인)
+	// 메뉴 요청마다 호출되므로 인스턴스 수와 무관하게 일괄 조회로 판정해야 한다
+	// 예: filterAccessible("user-uuid", {"board-a", "board-b"}) → {"board-a"}
+	Set<String> filterAccessible(String userId, Set<String> instanceIds);
+}
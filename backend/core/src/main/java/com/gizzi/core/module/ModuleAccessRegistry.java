@@ -0,0 +1,112 @@
+package com.gizzi.core.module;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 모듈 인스턴스 접근 판정 중앙 레지스트리
+// ModuleAccessPolicy 구현체를 수집하여 모듈 코드 기반으로 접근 가능한 인스턴스를 판정한다
+//
+// 정책을 등록하지 않은 모듈은 기본 규칙으로 판정한다:
+//   - 권한이 설정되지 않은 인스턴스 → 전체 공개
+//   - 권한이 설정된 인스턴스 → 로그인 사용자가 리소스 중 하나라도 read 액션을 보유해야 접근 (소유자는 전체 권한)
+@Slf4j
+@Component
+public class ModuleAccessRegistry
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private static final String READ_ACTION = "read";	// 기본 규칙의 접근 기준 액션
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 모듈 코드 → AccessPolicy 매핑
+	private final Map<String, ModuleAccessPolicy> policies = new HashMap<>();
+
+	// 기본 규칙 판정용 권한 체커
+	private final PermissionChecker               permissionChecker;
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 생성자 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 생성자에서 모든 AccessPolicy Bean을 자동 수집
+	// AccessPolicy가 없으면 빈 리스트가 주입된다
+	public ModuleAccessRegistry(List<ModuleAccessPolicy> accessPolicies, PermissionChecker permissionChecker)
+	{
+		this.permissionChecker = permissionChecker;
+		for (ModuleAccessPolicy policy : accessPolicies)
+		{
+			policies.put(policy.getModuleCode(), policy);
+			log.debug("접근 정책 등록: 모듈 [{}]", policy.getModuleCode());
+		}
+		log.info("모듈 접근 레지스트리 초기화 완료: {}개 정책 등록", policies.size());
+	}
+
+	//======================================================================================================================
+	// 접근 판정
+	//======================================================================================================================
+
+	// 사용자가 접근할 수 있는 인스턴스만 골라 반환 (userId가 null이면 비로그인)
+	// moduleCode: 인스턴스들이 속한 모듈 코드 (예: "board")
+	// instanceIds: 판정 대상 인스턴스 ID 집합
+	public Set<String> filterAccessible(String moduleCode, String userId, Set<String> instanceIds)
+	{
+		if (instanceIds.isEmpty())
+		{
+			return Set.of();
+		}
+
+		ModuleAccessPolicy policy = policies.get(moduleCode);
+		return policy != null
+				? policy.filterAccessible(userId, instanceIds)
+				: filterByDefault(userId, instanceIds);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 기본 규칙 — 권한 미설정 인스턴스는 그대로 포함, 권한 설정 인스턴스는 일괄 권한 평가로 read 보유 여부 확인
+	//----------------------------------------------------------------------------------------------------------------------
+	private Set<String> filterByDefault(String userId, Set<String> instanceIds)
+	{
+		Set<String>  accessible = new HashSet<>();
+		List<String> restricted = new ArrayList<>();
+		for (String instanceId : instanceIds)
+		{
+			if (permissionChecker.hasAnyPermissionGranted(instanceId))
+			{
+				restricted.add(instanceId);
+			}
+			else
+			{
+				accessible.add(instanceId);
+			}
+		}
+
+		// 비로그인 사용자는 권한 설정 인스턴스에 접근할 수 없음
+		if (userId == null || restricted.isEmpty())
+		{
+			return accessible;
+		}
+
+		// 권한 설정 인스턴스는 일괄 평가 (캐시 미스만 모아 쿼리 3회)
+		permissionChecker.getPermissionMaps(userId, restricted).forEach((instanceId, permissionMap) ->
+		{
+			if (permissionMap.values().stream().anyMatch(actions -> actions.contains(READ_ACTION)))
+			{
+				accessible.add(instanceId);
+			}
+		});
+		return accessible;
+	}
+}
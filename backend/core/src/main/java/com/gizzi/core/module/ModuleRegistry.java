@@ -1,5 +1,7 @@
 package com.gizzi.core.module;
 
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
 import com.gizzi.core.module.dto.ResourcePermissionDefinition;
 import com.gizzi.core.module.entity.ModuleEntity;
 import com.gizzi.core.module.entity.ModuleInstanceEntity;
@@ -7,6 +9,7 @@ import com.gizzi.core.module.entity.ModulePermissionEntity;
 import com.gizzi.core.module.repository.ModuleInstanceRepository;
 import com.gizzi.core.module.repository.ModulePermissionRepository;
 import com.gizzi.core.module.repository.ModuleRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -28,6 +31,10 @@ import java.util.concurrent.ConcurrentHashMap;
 //   2. tb_module_permissions에 없는 (module_code, resource, action) INSERT
 //   3. DB에만 있고 코드에 없는 권한은 삭제하지 않음 (경고 로그)
 //   4. ConcurrentHashMap에 code → definition 캐시
+//   5. 전체 권한 정의를 PermissionCatalog에 게시 (모듈별 비트 위치 부여)
+//   6. 새 권한이 추가되었다면 커밋 후 캐시 무효화 버스(MODULE_PERMISSIONS 토픽)로 알려
+//      롤링 배포 중 이미 떠 있는 노드들도 카탈로그를 DB에서 다시 게시하고 컴파일된 권한을 폐기하게 한다
+//      (code → definition 캐시는 각 노드의 클래스패스 Bean에서 만들어지므로 전파 대상이 아니다)
 //
 // 실행 순서: @Order(2) — ModuleSchemaInitializer(@Order(1)) 이후 실행
 @Slf4j
@@ -45,6 +52,9 @@ public class ModuleRegistry implements ApplicationRunner
 	private final ModulePermissionRepository  permissionRepository;   // 모듈 권한 정의 리포지토리
 	private final ModuleInstanceRepository    instanceRepository;     // 모듈 인스턴스 리포지토리 (SINGLE 모듈 시스템 인스턴스 자동 생성용)
 	private final List<ModuleDefinition>      moduleDefinitions;      // 등록된 모든 모듈 정의 (Spring이 자동 주입, 없으면 빈 리스트)
+	private final PermissionCatalog           permissionCatalog;      // 모듈 권한 카탈로그 (동기화 완료 후 게시)
+	private final PermissionCache             permissionCache;        // 컴파일된 권한 캐시 (카탈로그 재게시 시 폐기)
+	private final CacheInvalidationBus        invalidationBus;        // 노드 간 캐시 무효화 버스
 
 	//----------------------------------------------------------------------------------------------------------------------
 	// [ 런타임 캐시 ]
@@ -53,6 +63,19 @@ public class ModuleRegistry implements ApplicationRunner
 	// 코드 → ModuleDefinition 런타임 캐시 (모듈 정보 빠른 조회용)
 	private final Map<String, ModuleDefinition> definitionCache = new ConcurrentHashMap<>();
 
+	// 이번 동기화에서 새 권한이 추가되었는지 여부 (다른 노드 전파 판단용)
+	private boolean permissionsAdded;
+
+	//======================================================================================================================
+	// 권한 정의 변경 토픽 구독
+	//======================================================================================================================
+
+	@PostConstruct
+	void subscribe()
+	{
+		invalidationBus.subscribe(CacheTopic.MODULE_PERMISSIONS, key -> reloadCatalog());
+	}
+
 	//======================================================================================================================
 	// 초기화 실행
 	//======================================================================================================================
@@ -69,6 +92,15 @@ public class ModuleRegistry implements ApplicationRunner
 			syncModule(definition);
 		}
 
+		// 동기화된 권한 정의로 권한 카탈로그 게시 (비트 위치 부여)
+		permissionCatalog.publish(permissionRepository.findAll());
+
+		// 새 권한이 생겼다면 다른 노드에도 카탈로그 재게시 전파 (커밋 후)
+		if (permissionsAdded)
+		{
+			invalidationBus.publishAfterCommit(CacheTopic.MODULE_PERMISSIONS, CacheInvalidationBus.ALL);
+		}
+
 		log.info("모듈 레지스트리 초기화 완료: {}개 모듈 등록", definitionCache.size());
 	}
 
@@ -150,6 +182,14 @@ public class ModuleRegistry implements ApplicationRunner
 		// 코드에 정의된 권한 키 수집 (중복 체크용)
 		Set<String> codePermissionKeys = new HashSet<>();
 
+		// DB에 이미 있는 권한 키 수집 (모듈당 1회 조회)
+		List<ModulePermissionEntity> dbPermissions = permissionRepository.findByModuleCode(moduleCode);
+		Set<String> dbPermissionKeys = new HashSet<>();
+		for (ModulePermissionEntity dbPerm : dbPermissions)
+		{
+			dbPermissionKeys.add(moduleCode + ":" + dbPerm.getResource() + ":" + dbPerm.getAction());
+		}
+
 		//----------------------------------------------------------------------------------------------------------------------
 		// 코드 → DB 동기화 (새 권한 INSERT)
 		//----------------------------------------------------------------------------------------------------------------------
@@ -161,17 +201,15 @@ public class ModuleRegistry implements ApplicationRunner
 			codePermissionKeys.add(key);
 
 			// DB에 이미 존재하면 스킵
-			boolean exists = permissionRepository.existsByModuleCodeAndResourceAndAction(
-					moduleCode, perm.getResource(), perm.getAction()
-			);
-
-			if (!exists)
+			if (!dbPermissionKeys.contains(key))
 			{
 				// 신규 권한 INSERT
 				ModulePermissionEntity entity = ModulePermissionEntity.create(
 						moduleCode, perm.getResource(), perm.getAction(), perm.getName()
 				);
 				permissionRepository.save(entity);
+				dbPermissionKeys.add(key);
+				permissionsAdded = true;
 				log.info("모듈 [{}]: 권한 추가 — {}_{}_{}", moduleCode,
 						moduleCode.toUpperCase(), perm.getResource().toUpperCase(), perm.getAction().toUpperCase());
 			}
@@ -182,7 +220,6 @@ public class ModuleRegistry implements ApplicationRunner
 		//----------------------------------------------------------------------------------------------------------------------
 
 		// DB에만 있고 코드에 없는 권한 경고 (삭제하지 않음 — 기존 권한 부여 데이터 보호)
-		List<ModulePermissionEntity> dbPermissions = permissionRepository.findByModuleCode(moduleCode);
 		for (ModulePermissionEntity dbPerm : dbPermissions)
 		{
 			String key = moduleCode + ":" + dbPerm.getResource() + ":" + dbPerm.getAction();
@@ -217,6 +254,18 @@ public class ModuleRegistry implements ApplicationRunner
 		return definitionCache.containsKey(moduleCode);
 	}
 
+	//----------------------------------------------------------------------------------------------------------------------
+	// 권한 카탈로그 재게시
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// DB의 권한 정의로 카탈로그를 다시 게시하고, 이전 비트 위치로 컴파일된 권한을 이 노드에서 폐기
+	private void reloadCatalog()
+	{
+		permissionCatalog.publish(permissionRepository.findAll());
+		permissionCache.clearLocalAll();
+		log.info("모듈 권한 카탈로그 재게시 완료 (다른 노드의 권한 정의 변경 수신)");
+	}
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// SINGLE 모듈 시스템 인스턴스
 	//----------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,336 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.common.cache.CacheInvalidationBus;
+import com.gizzi.core.common.cache.CacheTopic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 컴파일된 권한 캐시 — userId → (instanceId → CompiledPermissions) + instanceId → 접근 제한 여부
+// 권한 부여/회수, 그룹 멤버십 변경 시 커밋 후 캐시 무효화 버스(PERMISSIONS 토픽)로 모든 노드에서 해당 항목을 제거한다
+// (메시지 누락 시 버스가 전체 무효화("*")로 따라잡는다)
+// 무효화 키 형식: "instance:{instanceId}", "user:{userId}", "entry:{userId}:{instanceId}", "*" (전체)
+// 같은 메시지로 권한 역색인(인스턴스별 부여 행), 그룹 멤버십 캐시, 역할 카탈로그(전체 메시지)도 함께 제거하여
+// 컴파일 입력과 결과가 함께 갱신된다
+// 전체 항목 수가 상한에 도달하면 캐시를 비우고 다시 채운다 (메모리 상한, 접근 제한 여부 맵도 같은 상한)
+// 사용자의 마지막 항목이 제거되면 사용자 맵도 함께 제거하여 빈 맵이 남지 않게 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionCache
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private static final String INSTANCE_PREFIX = "instance:";                 // 인스턴스 단위 무효화 접두사
+	private static final String USER_PREFIX     = "user:";                     // 사용자 단위 무효화 접두사
+	private static final String ENTRY_PREFIX    = "entry:";                    // (사용자, 인스턴스) 단위 무효화 접두사
+	private static final String ALL             = CacheInvalidationBus.ALL;    // 전체 무효화 표식
+	private static final int    MAX_ENTRIES     = 100_000;                     // 최대 (사용자, 인스턴스) 항목 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final CacheInvalidationBus          invalidationBus;     // 노드 간 캐시 무효화 버스
+	private final MeterRegistry                 meterRegistry;       // 히트/미스 계측
+	private final PermissionHolderIndex         holderIndex;         // 권한 역색인 (같은 무효화 메시지로 함께 갱신)
+	private final GroupMembershipCache          membershipCache;     // 그룹 멤버십 캐시 (같은 무효화 메시지로 함께 갱신)
+	private final RoleCatalog                   roleCatalog;         // 역할 카탈로그 (전체 무효화 시 함께 폐기)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 캐시 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, CompiledPermissions>> cache =
+			new ConcurrentHashMap<>();                          // userId → instanceId → 컴파일된 권한
+	private final ConcurrentHashMap<String, Boolean> restricted =
+			new ConcurrentHashMap<>();                          // instanceId → 권한 설정 여부 (true=접근 제한, false=전체 공개)
+	private final AtomicInteger size  = new AtomicInteger();   // 전체 항목 수 (근사치)
+	private final AtomicLong    epoch = new AtomicLong();      // 무효화 시마다 증가하는 세대 번호
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 메트릭 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private Counter hitCounter;    // 캐시 히트 횟수
+	private Counter missCounter;   // 캐시 미스 횟수 (컴파일 발생)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 무효화 토픽 구독 + 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+
+	@PostConstruct
+	void init()
+	{
+		invalidationBus.subscribe(CacheTopic.PERMISSIONS, this::applyLocal);
+		hitCounter  = meterRegistry.counter("permission.cache", "result", "hit");
+		missCounter = meterRegistry.counter("permission.cache", "result", "miss");
+		Gauge.builder("permission.cache.size", size, AtomicInteger::get).register(meterRegistry);
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	// 캐시된 권한 반환, 없으면 compiler로 컴파일 후 저장 (compiler가 null을 반환하면 저장하지 않음)
+	// 컴파일 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	public CompiledPermissions get(String userId, String instanceId, Supplier<CompiledPermissions> compiler)
+	{
+		Map<String, CompiledPermissions> byInstance = cache.get(userId);
+		if (byInstance != null)
+		{
+			CompiledPermissions cached = byInstance.get(instanceId);
+			if (cached != null)
+			{
+				hitCounter.increment();
+				return cached;
+			}
+		}
+
+		missCounter.increment();
+		long                loadEpoch = epoch.get();
+		CompiledPermissions compiled  = compiler.get();
+		if (compiled == null)
+		{
+			return null;
+		}
+
+		// 상한 도달 시 전체 비움
+		if (size.get() >= MAX_ENTRIES)
+		{
+			log.info("권한 캐시 상한 도달 — 전체 비움: size={}", size.get());
+			clearLocal();
+		}
+
+		if (epoch.get() == loadEpoch)
+		{
+			putLocal(userId, Map.of(instanceId, compiled));
+		}
+		if (epoch.get() != loadEpoch)
+		{
+			removeLocal(userId, instanceId);
+		}
+		return compiled;
+	}
+
+	// 여러 인스턴스의 캐시된 권한 일괄 반환 — 미스난 인스턴스만 모아 batchCompiler로 한 번에 컴파일 후 저장
+	// batchCompiler 결과에 없는 인스턴스(존재하지 않는 인스턴스)는 반환 맵에서 빠진다
+	public Map<String, CompiledPermissions> getAll(String userId, Collection<String> instanceIds,
+	                                               Function<Set<String>, Map<String, CompiledPermissions>> batchCompiler)
+	{
+		Map<String, CompiledPermissions> result     = new HashMap<>(instanceIds.size() * 2);
+		Set<String>                      missing    = new HashSet<>();
+		Map<String, CompiledPermissions> byInstance = cache.get(userId);
+		for (String instanceId : instanceIds)
+		{
+			CompiledPermissions cached = byInstance != null ? byInstance.get(instanceId) : null;
+			if (cached != null)
+			{
+				result.put(instanceId, cached);
+			}
+			else
+			{
+				missing.add(instanceId);
+			}
+		}
+
+		hitCounter.increment(result.size());
+		if (missing.isEmpty())
+		{
+			return result;
+		}
+		missCounter.increment(missing.size());
+
+		long                             loadEpoch = epoch.get();
+		Map<String, CompiledPermissions> compiled  = batchCompiler.apply(missing);
+		result.putAll(compiled);
+
+		// 상한 도달 시 전체 비움
+		if (size.get() + compiled.size() > MAX_ENTRIES)
+		{
+			log.info("권한 캐시 상한 도달 — 전체 비움: size={}", size.get());
+			clearLocal();
+		}
+
+		if (epoch.get() == loadEpoch && !compiled.isEmpty())
+		{
+			putLocal(userId, compiled);
+			if (epoch.get() != loadEpoch)
+			{
+				compiled.keySet().forEach(instanceId -> removeLocal(userId, instanceId));
+			}
+		}
+		return result;
+	}
+
+	// 인스턴스의 접근 제한 여부 반환, 없으면 loader로 조회 후 저장
+	// 권한 부여/회수 시 인스턴스 무효화로 제거되어 다음 조회 때 다시 계산된다
+	public boolean isRestricted(String instanceId, Supplier<Boolean> loader)
+	{
+		Boolean cached = restricted.get(instanceId);
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		long    loadEpoch = epoch.get();
+		boolean value     = loader.get();
+
+		// 상한 도달 시 접근 제한 여부 맵만 비움
+		if (restricted.mappingCount() >= MAX_ENTRIES)
+		{
+			log.info("인스턴스 접근 제한 캐시 상한 도달 — 전체 비움: size={}", restricted.mappingCount());
+			restricted.clear();
+		}
+
+		if (epoch.get() == loadEpoch)
+		{
+			restricted.put(instanceId, value);
+			if (epoch.get() != loadEpoch)
+			{
+				restricted.remove(instanceId);
+			}
+		}
+		return value;
+	}
+
+	//======================================================================================================================
+	// 무효화 (커밋 후 모든 노드에 전파)
+	//======================================================================================================================
+
+	// 인스턴스의 권한 부여/회수 — 모든 사용자의 해당 인스턴스 항목 제거
+	public void invalidateInstance(String instanceId)
+	{
+		publishAfterCommit(INSTANCE_PREFIX + instanceId);
+	}
+
+	// 사용자의 그룹 멤버십 변경 — 해당 사용자의 모든 항목 제거
+	public void invalidateUser(String userId)
+	{
+		publishAfterCommit(USER_PREFIX + userId);
+	}
+
+	// 사용자 직접 권한 변경 — 해당 (사용자, 인스턴스) 항목 + 인스턴스 접근 제한 여부만 제거
+	public void invalidateUserInstance(String userId, String instanceId)
+	{
+		publishAfterCommit(ENTRY_PREFIX + userId + ":" + instanceId);
+	}
+
+	// 그룹 삭제 등 영향 범위를 특정하기 어려운 변경 — 전체 제거
+	public void invalidateAll()
+	{
+		publishAfterCommit(ALL);
+	}
+
+	// 이 노드의 전체 항목만 제거 (권한 카탈로그 재게시처럼 모든 노드가 각자 수행하는 변경용, 브로드캐스트 없음)
+	void clearLocalAll()
+	{
+		applyLocal(ALL);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼 — 무효화 전파
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 트랜잭션 커밋 후 모든 노드에 발행 (트랜잭션 밖이면 즉시, 발행 노드는 즉시 로컬 적용)
+	private void publishAfterCommit(String payload)
+	{
+		invalidationBus.publishAfterCommit(CacheTopic.PERMISSIONS, payload);
+	}
+
+	// 무효화 키 로컬 적용 (버스 핸들러 — 자기 발행, 다른 노드 메시지, 누락 따라잡기 모두 여기로 온다)
+	private void applyLocal(String payload)
+	{
+		epoch.incrementAndGet();
+		if (payload.startsWith(INSTANCE_PREFIX))
+		{
+			String instanceId = payload.substring(INSTANCE_PREFIX.length());
+			restricted.remove(instanceId);
+			holderIndex.invalidateInstance(instanceId);
+			cache.keySet().forEach(userId -> removeLocal(userId, instanceId));
+		}
+		else if (payload.startsWith(ENTRY_PREFIX))
+		{
+			String entry      = payload.substring(ENTRY_PREFIX.length());
+			int    separator  = entry.indexOf(':');
+			String instanceId = entry.substring(separator + 1);
+			restricted.remove(instanceId);
+			holderIndex.invalidateInstance(instanceId);
+			removeLocal(entry.substring(0, separator), instanceId);
+		}
+		else if (payload.startsWith(USER_PREFIX))
+		{
+			String                           userId  = payload.substring(USER_PREFIX.length());
+			membershipCache.invalidateUser(userId);
+			Map<String, CompiledPermissions> removed = cache.remove(userId);
+			if (removed != null)
+			{
+				size.addAndGet(-removed.size());
+			}
+		}
+		else
+		{
+			restricted.clear();
+			holderIndex.clear();
+			membershipCache.clear();
+			roleCatalog.clear();
+			clearLocal();
+		}
+	}
+
+	// 사용자 항목 저장 — 사용자 맵 생성과 저장을 같은 compute 안에서 수행하여 동시 제거와 엇갈리지 않게 한다
+	private void putLocal(String userId, Map<String, CompiledPermissions> entries)
+	{
+		cache.compute(userId, (k, byInstance) ->
+		{
+			ConcurrentHashMap<String, CompiledPermissions> target =
+					byInstance != null ? byInstance : new ConcurrentHashMap<>();
+			entries.forEach((instanceId, permissions) ->
+			{
+				if (target.put(instanceId, permissions) == null)
+				{
+					size.incrementAndGet();
+				}
+			});
+			return target;
+		});
+	}
+
+	// 단일 항목 제거 — 사용자의 마지막 항목이면 사용자 맵도 제거
+	private void removeLocal(String userId, String instanceId)
+	{
+		cache.computeIfPresent(userId, (k, byInstance) ->
+		{
+			if (byInstance.remove(instanceId) != null)
+			{
+				size.decrementAndGet();
+			}
+			return byInstance.isEmpty() ? null : byInstance;
+		});
+	}
+
+	// 전체 제거
+	private void clearLocal()
+	{
+		cache.clear();
+		size.set(0);
+	}
+}
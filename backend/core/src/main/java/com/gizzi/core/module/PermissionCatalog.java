@@ -0,0 +1,180 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+import com.gizzi.core.module.repository.ModulePermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 모듈 권한 카탈로그 — 모듈별 권한 정의를 비트 위치로 매핑한 불변 스냅샷
+// ModuleRegistry가 tb_module_permissions 동기화를 마친 뒤 publish()로 게시한다
+// 권한 정의는 모듈 동기화 시에만 바뀌므로 런타임의 모든 권한 정의 조회는 DB 대신 이 카탈로그를 사용한다
+// 색인: 권한 ID, 모듈 코드, (module, resource, action)
+// 모듈마다 (resource, action) 정렬 순서대로 0부터 비트 위치를 부여하며,
+// PermissionChecker는 사용자 권한을 이 비트 위치의 long[] 비트셋으로 컴파일하여 비트 검사로 판정한다
+//
+// 사용 예:
+//   int bit = catalog.bitOf("board", "BOARD_POST_WRITE");   // 모르는 권한이면 -1
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionCatalog
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final ModulePermissionRepository permissionRepository;   // 모듈 권한 정의 리포지토리 (게시 전 조회 시 폴백 적재)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 카탈로그 스냅샷 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private volatile Snapshot snapshot;   // 현재 게시된 스냅샷 (null이면 첫 조회 시 적재)
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 모듈 단위 비트 매핑
+	// permissions: 비트 위치 순서의 권한 정의 / bitByFlat: 플랫 문자열 → 비트 / bitById: 권한 ID → 비트
+	//----------------------------------------------------------------------------------------------------------------------
+	public record ModuleBits(String                       moduleCode,
+	                         List<ModulePermissionEntity> permissions,
+	                         Map<String, Integer>         bitByFlat,
+	                         Map<String, Integer>         bitById)
+	{
+		// 비트셋 저장에 필요한 long 워드 수
+		public int wordCount()
+		{
+			return (permissions.size() + 63) >>> 6;
+		}
+	}
+
+	// 전체 카탈로그 스냅샷
+	// modules: 모듈 코드 → 모듈 비트 매핑 / byId: 권한 ID → 정의 / byKey: "module:resource:action" → 정의
+	private record Snapshot(Map<String, ModuleBits>             modules,
+	                        Map<String, ModulePermissionEntity> byId,
+	                        Map<String, ModulePermissionEntity> byKey)
+	{
+	}
+
+	//======================================================================================================================
+	// 카탈로그 게시
+	//======================================================================================================================
+
+	// 권한 정의 전체로 새 스냅샷을 만들어 원자적으로 교체
+	public void publish(Collection<ModulePermissionEntity> permissions)
+	{
+		// 모듈별 그룹핑
+		Map<String, List<ModulePermissionEntity>> byModule = new HashMap<>();
+		for (ModulePermissionEntity perm : permissions)
+		{
+			byModule.computeIfAbsent(perm.getModuleCode(), k -> new ArrayList<>()).add(perm);
+		}
+
+		// 모듈별 비트 위치 부여 (resource, action 순) + ID/키 색인
+		Map<String, ModuleBits>             modules = new HashMap<>();
+		Map<String, ModulePermissionEntity> byId    = new HashMap<>();
+		Map<String, ModulePermissionEntity> byKey   = new HashMap<>();
+		for (Map.Entry<String, List<ModulePermissionEntity>> entry : byModule.entrySet())
+		{
+			List<ModulePermissionEntity> ordered = entry.getValue().stream()
+					.sorted(Comparator.comparing(ModulePermissionEntity::getResource)
+							.thenComparing(ModulePermissionEntity::getAction))
+					.toList();
+
+			Map<String, Integer> bitByFlat = new LinkedHashMap<>();
+			Map<String, Integer> bitById   = new HashMap<>();
+			for (int bit = 0; bit < ordered.size(); bit++)
+			{
+				ModulePermissionEntity perm = ordered.get(bit);
+				bitByFlat.put(perm.toFlatPermissionString(), bit);
+				bitById.put(perm.getId(), bit);
+				byId.put(perm.getId(), perm);
+				byKey.put(key(perm.getModuleCode(), perm.getResource(), perm.getAction()), perm);
+			}
+
+			modules.put(entry.getKey(), new ModuleBits(entry.getKey(), ordered,
+					Map.copyOf(bitByFlat), Map.copyOf(bitById)));
+		}
+
+		this.snapshot = new Snapshot(Map.copyOf(modules), Map.copyOf(byId), Map.copyOf(byKey));
+		log.info("권한 카탈로그 게시: 모듈 {}개, 권한 {}개", modules.size(), permissions.size());
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	// 모듈의 비트 매핑 조회 (권한 정의가 없는 모듈이면 null)
+	public ModuleBits getModule(String moduleCode)
+	{
+		return current().modules().get(moduleCode);
+	}
+
+	// 권한 ID로 권한 정의 조회
+	public Optional<ModulePermissionEntity> findById(String permissionId)
+	{
+		return Optional.ofNullable(current().byId().get(permissionId));
+	}
+
+	// 모듈의 전체 권한 정의 목록 조회 (resource, action 순, 없으면 빈 리스트)
+	public List<ModulePermissionEntity> getPermissions(String moduleCode)
+	{
+		ModuleBits module = getModule(moduleCode);
+		return module != null ? module.permissions() : List.of();
+	}
+
+	// 모듈 코드 + 리소스 + 액션으로 권한 정의 조회
+	public Optional<ModulePermissionEntity> find(String moduleCode, String resource, String action)
+	{
+		return Optional.ofNullable(current().byKey().get(key(moduleCode, resource, action)));
+	}
+
+	// 플랫 권한 문자열의 비트 위치 조회 (예: "BOARD_POST_WRITE", 모르는 권한이면 -1)
+	// 호출부는 대문자 상수를 전달하므로 먼저 그대로 조회하고, 없을 때만 대문자로 변환하여 재조회한다
+	public int bitOf(String moduleCode, String flatPermission)
+	{
+		ModuleBits module = getModule(moduleCode);
+		if (module == null || flatPermission == null)
+		{
+			return -1;
+		}
+		Integer bit = module.bitByFlat().get(flatPermission);
+		if (bit == null)
+		{
+			bit = module.bitByFlat().get(flatPermission.toUpperCase());
+		}
+		return bit != null ? bit : -1;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// (module, resource, action) 색인 키
+	private static String key(String moduleCode, String resource, String action)
+	{
+		return moduleCode + ":" + resource + ":" + action;
+	}
+
+	// 현재 스냅샷 반환 (ModuleRegistry 게시 전이면 DB에서 적재)
+	private Snapshot current()
+	{
+		Snapshot current = snapshot;
+		if (current == null)
+		{
+			publish(permissionRepository.findAll());
+			current = snapshot;
+		}
+		return current;
+	}
+}
@@ -1,41 +1,40 @@
 package com.gizzi.core.module;
 
-import com.gizzi.core.module.entity.ModuleInstanceEntity;
-import com.gizzi.core.module.entity.ModulePermissionEntity;
-import com.gizzi.core.module.repository.GroupModulePermissionRepository;
-import com.gizzi.core.module.repository.ModuleInstanceRepository;
-import com.gizzi.core.module.repository.ModulePermissionRepository;
-import com.gizzi.core.module.repository.UserModulePermissionRepository;
+import com.gizzi.core.module.dto.PermissionCheckItemDto;
+import com.gizzi.core.module.dto.PermissionCheckResultDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-// 플랫 문자열 기반 권한 체크 유틸리티
+// 컴파일된 비트셋 기반 권한 체크 유틸리티
 // 모듈 인스턴스에 대한 사용자 권한을 검증한다
 //
 // 권한 체크 흐름:
-//   1. 인스턴스 소유자 확인 → 소유자면 전체 권한 (true)
-//   2. 사용자 직접 권한 (tb_user_module_permissions) 조회 → Set<플랫문자열>
-//   3. 소속 그룹 권한 (tb_group_module_permissions) 합산 → Set<플랫문자열>
-//   4. Set.contains("BOARD_POST_WRITE") → true/false
+//   1. PermissionCache에서 (userId, instanceId)의 컴파일된 권한 조회 → 히트면 DB 조회 없음
+//   2. 미스 시 컴파일: 인스턴스 색인(PermissionHolderIndex — 소유자, 권한별 부여 그룹/사용자) 조회
+//      → 소유자면 전체 비트, 아니면 직접 부여 + 소속 그룹(GroupMembershipCache)과 교차한 권한 ID
+//      → PermissionCatalog 비트 위치로 변환 + 역할(RoleCatalog)로 미리 컴파일된 비트셋 OR
+//      인스턴스 색인은 모든 사용자가 공유하고 멤버십은 사용자별로 1회만 조회하므로, 캐시가 데워진 뒤에는 DB 조회가 없다
+//   3. "BOARD_POST_WRITE" → 카탈로그 비트 위치 → 비트 검사
+//   여러 인스턴스를 한 번에 평가할 때는 색인에 없는 인스턴스만 모아 인스턴스 수와 무관하게 쿼리 3회로 적재한다
 //
 // 사용 예:
 //   permissionChecker.hasPermission(userId, instanceId, "BOARD_POST_WRITE");
 //   permissionChecker.getPermissionMap(userId, instanceId);
+//   permissionChecker.getPermissionMaps(userId, instanceIds);
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PermissionChecker
 {
 
@@ -43,10 +42,11 @@ public class PermissionChecker
 	// [ 의존성 ]
 	//----------------------------------------------------------------------------------------------------------------------
 
-	private final ModuleInstanceRepository         instanceRepository;        // 모듈 인스턴스 리포지토리 (소유자 확인용)
-	private final ModulePermissionRepository        permissionRepository;      // 모듈 권한 정의 리포지토리 (권한 ID → 플랫 문자열 변환용)
-	private final UserModulePermissionRepository    userPermissionRepository;  // 사용자 직접 권한 리포지토리
-	private final GroupModulePermissionRepository   groupPermissionRepository; // 그룹 권한 리포지토리
+	private final PermissionCatalog     permissionCatalog;   // 모듈 권한 카탈로그 (권한 → 비트 위치)
+	private final PermissionCache       permissionCache;     // 컴파일된 권한 캐시
+	private final PermissionHolderIndex holderIndex;         // 인스턴스별 부여 그룹/사용자 색인 (모든 사용자 공유)
+	private final GroupMembershipCache  membershipCache;     // 사용자 → 소속 그룹 ID + 사용자 단위 역할 ID 캐시
+	private final RoleCatalog           roleCatalog;         // 역할별 모듈 비트셋 (적재 시 컴파일)
 
 	//======================================================================================================================
 	// 권한 확인
@@ -55,156 +55,163 @@ public class PermissionChecker
 	// 해당 인스턴스에 권한이 하나라도 부여되어 있는지 확인
 	// (그룹/사용자 무관, 어떤 권한이든 설정된 적이 있는지)
 	// 반환값: true → 권한이 설정되어 있음 (접근 제한 모드), false → 권한 미설정 (전체 공개)
+	// 인스턴스별 결과는 PermissionCache에 보관되어 권한 변경 전까지 맵 조회 1회로 끝난다
 	public boolean hasAnyPermissionGranted(String instanceId)
 	{
-		long groupCount = groupPermissionRepository.countByModuleInstanceId(instanceId);
-		long userCount  = userPermissionRepository.countByModuleInstanceId(instanceId);
-		return (groupCount + userCount) > 0;
+		return permissionCache.isRestricted(instanceId, () ->
+		{
+			PermissionHolderIndex.InstanceHolders holders = holderIndex.find(instanceId);
+			return holders != null && holders.hasGrants();
+		});
 	}
 
 	// 특정 권한 보유 여부 확인
 	// permission: 플랫 문자열 (예: "BOARD_POST_WRITE")
 	public boolean hasPermission(String userId, String instanceId, String permission)
 	{
-		// 1. 인스턴스 소유자 확인 — 소유자는 전체 권한
-		if (isOwner(userId, instanceId))
+		// 비로그인 사용자는 소유자도 아니고 부여된 권한도 없음
+		if (userId == null)
 		{
-			return true;
+			return false;
 		}
 
-		// 2. 사용자 직접 + 그룹 권한 합산 후 포함 여부 확인
-		Set<String> allPermissions = collectAllPermissions(userId, instanceId);
-		return allPermissions.contains(permission.toUpperCase());
+		// 컴파일된 권한의 비트 검사 (소유자는 전체 권한)
+		CompiledPermissions compiled = getCompiled(userId, instanceId);
+		if (compiled == null)
+		{
+			return false;
+		}
+		return compiled.has(permissionCatalog.bitOf(compiled.getModuleCode(), permission));
 	}
 
 	//======================================================================================================================
 	// 권한 맵 조회
 	//======================================================================================================================
 
-	// 리소스별 허용된 액션 목록 반환
+	// 리소스별 허용된 액션 목록 반환 (불변 맵)
 	// 메뉴 가시성 판단, Resolve API 응답, 프론트엔드 UI 제어에 사용
 	// 반환 예: {"post": ["read", "write"], "comment": ["read"]}
 	public Map<String, List<String>> getPermissionMap(String userId, String instanceId)
 	{
-		// 인스턴스에서 모듈 코드 조회
-		Optional<ModuleInstanceEntity> instanceOpt = instanceRepository.findById(instanceId);
-		if (instanceOpt.isEmpty())
+		if (userId == null)
 		{
 			return Map.of();
 		}
 
-		ModuleInstanceEntity instance   = instanceOpt.get();
-		String               moduleCode = instance.getModuleCode();
-
-		// 소유자는 해당 모듈의 모든 권한 보유
-		if (userId != null && userId.equals(instance.getOwnerId()))
-		{
-			return buildFullPermissionMap(moduleCode);
-		}
-
-		// 사용자 직접 + 그룹 권한 합산
-		Set<String> permissionIds = collectAllPermissionIds(userId, instanceId);
-
-		// 권한 ID → (resource, action) 매핑으로 변환
-		return buildPermissionMapFromIds(moduleCode, permissionIds);
+		CompiledPermissions compiled = getCompiled(userId, instanceId);
+		return compiled != null ? compiled.getPermissionMap() : Map.of();
 	}
 
-	//----------------------------------------------------------------------------------------------------------------------
-	// 헬퍼 — 소유자 확인
-	//----------------------------------------------------------------------------------------------------------------------
-
-	// 인스턴스 소유자 여부 확인
-	private boolean isOwner(String userId, String instanceId)
+	// 여러 인스턴스의 권한 맵 일괄 반환 (instanceId → 리소스별 허용 액션, 요청 순서 유지)
+	// 비로그인 사용자이거나 존재하지 않는 인스턴스는 빈 맵
+	public Map<String, Map<String, List<String>>> getPermissionMaps(String userId, Collection<String> instanceIds)
 	{
-		if (userId == null)
+		Map<String, CompiledPermissions>       compiled = getCompiledAll(userId, instanceIds);
+		Map<String, Map<String, List<String>>> result   = new LinkedHashMap<>();
+		for (String instanceId : instanceIds)
 		{
-			return false;
+			CompiledPermissions permissions = compiled.get(instanceId);
+			result.put(instanceId, permissions != null ? permissions.getPermissionMap() : Map.of());
 		}
-		return instanceRepository.findById(instanceId)
-				.map(instance -> userId.equals(instance.getOwnerId()))
-				.orElse(false);
+		return result;
 	}
 
-	//----------------------------------------------------------------------------------------------------------------------
-	// 헬퍼 — 권한 수집
-	//----------------------------------------------------------------------------------------------------------------------
+	//======================================================================================================================
+	// 일괄 권한 확인
+	//======================================================================================================================
 
-	// 사용자 직접 + 그룹 권한 합산하여 플랫 문자열 Set 반환
-	private Set<String> collectAllPermissions(String userId, String instanceId)
+	// 여러 (인스턴스, 권한) 쌍의 보유 여부 일괄 확인 (요청 순서대로 결과 반환)
+	// 각 항목에 권한 미설정(전체 공개) 인스턴스 여부를 함께 담아 비로그인/공개 인스턴스도 호출자가 판단할 수 있게 한다
+	// 관련 인스턴스를 한 번에 컴파일하므로 항목 수와 무관하게 DB 조회는 최대 5회 (색인 3회 + 멤버십 2회)
+	public List<PermissionCheckResultDto> checkPermissions(String userId, List<PermissionCheckItemDto> checks)
 	{
-		// 권한 ID 수집
-		Set<String> permissionIds = collectAllPermissionIds(userId, instanceId);
+		Set<String> instanceIds = new LinkedHashSet<>();
+		checks.forEach(check -> instanceIds.add(check.getInstanceId()));
+		Map<String, PermissionHolderIndex.InstanceHolders> holders  = holderIndex.findAll(instanceIds);
+		Map<String, CompiledPermissions>                   compiled = getCompiledAll(userId, instanceIds);
 
-		// 권한 ID → 플랫 문자열 변환
-		Set<String> flatPermissions = new HashSet<>();
-		for (String permId : permissionIds)
+		List<PermissionCheckResultDto> results = new ArrayList<>(checks.size());
+		for (PermissionCheckItemDto check : checks)
 		{
-			permissionRepository.findById(permId)
-					.ifPresent(perm -> flatPermissions.add(perm.toFlatPermissionString()));
+			CompiledPermissions permissions = compiled.get(check.getInstanceId());
+			boolean             granted     = permissions != null
+					&& permissions.has(permissionCatalog.bitOf(permissions.getModuleCode(), check.getPermission()));
+			PermissionHolderIndex.InstanceHolders instance = holders.get(check.getInstanceId());
+			results.add(PermissionCheckResultDto.builder()
+					.instanceId(check.getInstanceId())
+					.permission(check.getPermission())
+					.granted(granted)
+					.open(instance != null && !instance.hasGrants())
+					.build());
 		}
-
-		return flatPermissions;
+		return results;
 	}
 
-	// 사용자 직접 + 그룹 권한 ID 합산
-	private Set<String> collectAllPermissionIds(String userId, String instanceId)
+	// 여러 인스턴스 중 특정 권한을 보유한 인스턴스만 반환 (모듈 접근 정책의 일괄 판정용)
+	// 비로그인 사용자이거나 존재하지 않는 인스턴스는 포함되지 않는다
+	public Set<String> filterGranted(String userId, Collection<String> instanceIds, String permission)
 	{
-		Set<String> permissionIds = new HashSet<>();
-
-		if (userId == null)
+		Set<String> granted = new HashSet<>();
+		getCompiledAll(userId, instanceIds).forEach((instanceId, permissions) ->
 		{
-			return permissionIds;
-		}
-
-		// 사용자 직접 권한 ID 조회
-		List<String> userPermIds = userPermissionRepository
-				.findPermissionIdsByUserIdAndInstanceId(userId, instanceId);
-		permissionIds.addAll(userPermIds);
-
-		// 소속 그룹 권한 ID 합산 조회
-		List<String> groupPermIds = groupPermissionRepository
-				.findPermissionIdsByUserGroupsAndInstanceId(userId, instanceId);
-		permissionIds.addAll(groupPermIds);
-
-		return permissionIds;
+			if (permissions.has(permissionCatalog.bitOf(permissions.getModuleCode(), permission)))
+			{
+				granted.add(instanceId);
+			}
+		});
+		return granted;
 	}
 
 	//----------------------------------------------------------------------------------------------------------------------
-	// 헬퍼 — 권한 맵 빌드
+	// 헬퍼 — 컴파일
 	//----------------------------------------------------------------------------------------------------------------------
 
-	// 모듈의 모든 권한을 리소스별 액션 맵으로 변환 (소유자용)
-	private Map<String, List<String>> buildFullPermissionMap(String moduleCode)
+	// 캐시된 컴파일 결과 조회 (미스 시 컴파일, 인스턴스가 없으면 null)
+	private CompiledPermissions getCompiled(String userId, String instanceId)
 	{
-		List<ModulePermissionEntity> allPerms = permissionRepository.findByModuleCode(moduleCode);
-		return groupByResource(allPerms);
+		return permissionCache.get(userId, instanceId, () -> compile(userId, instanceId));
 	}
 
-	// 권한 ID Set에 해당하는 권한만 리소스별 액션 맵으로 변환
-	private Map<String, List<String>> buildPermissionMapFromIds(String moduleCode,
-	                                                            Set<String> permissionIds)
+	// (사용자, 인스턴스) 권한 컴파일 — 인스턴스 색인 + 사용자 멤버십 (존재하지 않는 인스턴스면 null)
+	private CompiledPermissions compile(String userId, String instanceId)
 	{
-		// 해당 모듈의 모든 권한 정의에서 부여된 ID만 필터링
-		List<ModulePermissionEntity> granted = permissionRepository.findByModuleCode(moduleCode)
-				.stream()
-				.filter(perm -> permissionIds.contains(perm.getId()))
-				.collect(Collectors.toList());
+		PermissionHolderIndex.InstanceHolders holders = holderIndex.find(instanceId);
+		return holders != null ? compile(userId, holders, membershipCache.getMembership(userId)) : null;
+	}
 
-		return groupByResource(granted);
+	// 여러 인스턴스의 컴파일 결과 일괄 조회 (비로그인이면 빈 맵, 존재하지 않는 인스턴스는 제외)
+	private Map<String, CompiledPermissions> getCompiledAll(String userId, Collection<String> instanceIds)
+	{
+		if (userId == null || instanceIds.isEmpty())
+		{
+			return Map.of();
+		}
+		return permissionCache.getAll(userId, instanceIds, missing -> compileAll(userId, missing));
 	}
 
-	// 권한 엔티티 목록을 리소스별 액션 맵으로 그룹핑
-	// 예: [post:read, post:write, comment:read] → {post: [read, write], comment: [read]}
-	private Map<String, List<String>> groupByResource(List<ModulePermissionEntity> permissions)
+	// 여러 인스턴스 권한 일괄 컴파일 — 색인에 없는 인스턴스만 일괄 적재 (쿼리 최대 3회 + 멤버십 2회)
+	private Map<String, CompiledPermissions> compileAll(String userId, Set<String> instanceIds)
 	{
-		Map<String, List<String>> map = new HashMap<>();
+		Map<String, PermissionHolderIndex.InstanceHolders> holders    = holderIndex.findAll(instanceIds);
+		GroupMembershipCache.Membership                    membership = membershipCache.getMembership(userId);
+		Map<String, CompiledPermissions>                   result     = new HashMap<>(holders.size() * 2);
+		holders.forEach((instanceId, instance) -> result.put(instanceId, compile(userId, instance, membership)));
+		return result;
+	}
 
-		for (ModulePermissionEntity perm : permissions)
+	// 인스턴스 색인 + 멤버십에서 사용자 권한 컴파일 (소유자는 해당 모듈의 모든 권한 보유)
+	// 직접/그룹 부여 권한 ID에 역할 비트셋을 OR한다
+	private CompiledPermissions compile(String userId, PermissionHolderIndex.InstanceHolders holders,
+	                                    GroupMembershipCache.Membership membership)
+	{
+		String                       moduleCode = holders.moduleCode();
+		PermissionCatalog.ModuleBits module     = permissionCatalog.getModule(moduleCode);
+		if (userId.equals(holders.ownerId()))
 		{
-			map.computeIfAbsent(perm.getResource(), k -> new ArrayList<>())
-			   .add(perm.getAction());
+			return CompiledPermissions.compile(module, moduleCode, true, List.of());
 		}
-
-		return map;
+		return CompiledPermissions.compile(module, moduleCode, false,
+				holders.permissionIdsOf(userId, membership.groupIds()),
+				roleCatalog.bitsFor(moduleCode, membership.roleIds(), membership.groupIds()));
 	}
 }
@@ -0,0 +1,395 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.common.exception.ModuleErrorCode;
+import com.gizzi.core.module.dto.HolderUserPageDto;
+import com.gizzi.core.module.dto.PermissionHoldersDto;
+import com.gizzi.core.module.entity.GroupModulePermissionEntity;
+import com.gizzi.core.module.entity.ModuleInstanceEntity;
+import com.gizzi.core.module.entity.UserModulePermissionEntity;
+import com.gizzi.core.module.repository.GroupModulePermissionRepository;
+import com.gizzi.core.module.repository.ModuleInstanceRepository;
+import com.gizzi.core.module.repository.UserModulePermissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 권한 역색인 — (인스턴스, 권한) → 권한을 직접 보유한 그룹/사용자 집합
+// "게시판 Y를 읽을 수 있는 사용자" 같은 질의를 위해 인스턴스별로 부여 행을 한 번 읽어 권한 ID 기준으로 뒤집어 보관한다
+// 권한 부여/회수, 그룹 삭제 시 PermissionCache 무효화와 함께 해당 인스턴스(또는 전체) 항목이 제거된다
+// 그룹 멤버십은 색인하지 않고, 사용자 목록 페이지 조회 시 tb_group_members PK (group_id, user_id)를 키셋으로 읽는다
+// 역할(scope=GLOBAL) 경유 보유자는 색인하지 않고 조회 시 RoleCatalog 스냅샷에서 권한을 부여하는 역할을 찾아
+// 역할 보유 그룹(tb_group_roles)은 그룹 멤버 키셋에 합치고, 사용자 단위 역할(tb_user_roles, tb_group_member_roles)은 별도 키셋으로 읽는다
+// PermissionChecker도 권한 컴파일 시 이 색인을 입력으로 사용한다 — 인스턴스의 그룹 권한은 모든 멤버가 공유하고,
+// 사용자별로는 소속 그룹 ID 집합(GroupMembershipCache)과 교차만 하므로 캐시가 데워진 뒤에는 DB 조회가 없다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionHolderIndex
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private static final int MAX_INSTANCES = 10_000;   // 최대 색인 인스턴스 수 (초과 시 전체 비움)
+	private static final int MAX_PAGE_SIZE = 5_000;    // 사용자 목록 페이지 최대 크기
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final ModuleInstanceRepository         instanceRepository;        // 모듈 인스턴스 리포지토리 (소유자/모듈 코드)
+	private final UserModulePermissionRepository    userPermissionRepository;  // 사용자 직접 권한 리포지토리
+	private final GroupModulePermissionRepository   groupPermissionRepository; // 그룹 권한 리포지토리
+	private final PermissionCatalog                 permissionCatalog;         // 플랫 권한 → 권한 ID 변환
+	private final RoleCatalog                       roleCatalog;               // 권한을 부여하는 역할 / 역할 보유 그룹
+	private final JdbcTemplate                      jdbcTemplate;              // 그룹 멤버 / 역할 보유 사용자 키셋 조회
+	private final MeterRegistry                     meterRegistry;             // 적재 횟수 계측
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 색인 저장소 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final ConcurrentHashMap<String, InstanceHolders> index = new ConcurrentHashMap<>();  // instanceId → 권한별 보유자
+	private final AtomicLong                                 epoch = new AtomicLong();           // 무효화 시마다 증가하는 세대 번호
+
+	private Counter loadCounter;   // 색인 적재(DB 조회)한 인스턴스 수
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 인스턴스 단위 색인 — 소유자 + 권한 ID → 그룹 ID 집합 / 권한 ID → 사용자 PK 집합 (정렬)
+	//----------------------------------------------------------------------------------------------------------------------
+	record InstanceHolders(String                             moduleCode,
+	                       String                             ownerId,
+	                       Map<String, Set<String>>           groupsByPermission,
+	                       Map<String, NavigableSet<String>>  usersByPermission)
+	{
+		// 부여 행이 하나라도 있는지 (접근 제한 모드 판별)
+		boolean hasGrants()
+		{
+			return !groupsByPermission.isEmpty() || !usersByPermission.isEmpty();
+		}
+
+		// 사용자에게 부여된 권한 ID 집합 — 직접 부여 + 소속 그룹 중 하나라도 부여된 권한
+		Set<String> permissionIdsOf(String userId, Set<String> groupIds)
+		{
+			Set<String> result = new HashSet<>();
+			usersByPermission.forEach((permissionId, users) ->
+			{
+				if (users.contains(userId))
+				{
+					result.add(permissionId);
+				}
+			});
+			if (!groupIds.isEmpty())
+			{
+				groupsByPermission.forEach((permissionId, groups) ->
+				{
+					if (!result.contains(permissionId) && !Collections.disjoint(groups, groupIds))
+					{
+						result.add(permissionId);
+					}
+				});
+			}
+			return result;
+		}
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+
+	@PostConstruct
+	void init()
+	{
+		loadCounter = meterRegistry.counter("permission.holder.index.loads");
+	}
+
+	//======================================================================================================================
+	// 권한 보유자 조회
+	//======================================================================================================================
+
+	// (인스턴스, 플랫 권한)을 직접 보유한 그룹/사용자 + 소유자 + 권한을 부여하는 역할/역할 보유 그룹 반환
+	public PermissionHoldersDto getHolders(String instanceId, String permission)
+	{
+		InstanceHolders holders      = holders(instanceId);
+		int             bit          = resolveBit(holders, permission);
+		String          permissionId = permissionIdOf(holders, bit);
+		Set<String>     roleIds      = roleCatalog.rolesGranting(holders.moduleCode(), bit);
+
+		return PermissionHoldersDto.builder()
+				.instanceId(instanceId)
+				.permission(permission)
+				.ownerId(holders.ownerId())
+				.groupIds(List.copyOf(holders.groupsByPermission().getOrDefault(permissionId, Set.of())))
+				.userIds(List.copyOf(holders.usersByPermission().getOrDefault(permissionId, Collections.emptyNavigableSet())))
+				.roleIds(List.copyOf(roleIds))
+				.roleGroupIds(List.copyOf(roleCatalog.groupsHoldingAny(roleIds)))
+				.build();
+	}
+
+	//======================================================================================================================
+	// 권한 보유 사용자 페이지 조회 (키셋)
+	//======================================================================================================================
+
+	// 소유자 + 직접 부여 사용자 + 부여된 그룹의 멤버 + 역할 경유 보유자를 사용자 PK 오름차순으로 after 이후 size개 반환
+	// 그룹 멤버(직접 부여 그룹 + 역할 보유 그룹)는 PK (group_id, user_id) 범위 조회 1회,
+	// 사용자 단위 역할 보유자는 tb_user_roles / tb_group_member_roles 조회 1회, 직접/소유자는 메모리 정렬 집합에서 병합한다
+	public HolderUserPageDto getHolderUserPage(String instanceId, String permission, String after, int size)
+	{
+		InstanceHolders holders      = holders(instanceId);
+		int             bit          = resolveBit(holders, permission);
+		String          permissionId = permissionIdOf(holders, bit);
+		Set<String>     roleIds      = roleCatalog.rolesGranting(holders.moduleCode(), bit);
+		int             limit        = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		String          cursor       = after != null ? after : "";
+
+		// 직접 부여 사용자 + 소유자 (after 이후)
+		NavigableSet<String> direct = new TreeSet<>(
+				holders.usersByPermission().getOrDefault(permissionId, Collections.emptyNavigableSet()).tailSet(cursor, false));
+		if (holders.ownerId() != null && holders.ownerId().compareTo(cursor) > 0)
+		{
+			direct.add(holders.ownerId());
+		}
+
+		// 권한이 부여된 그룹 + 권한을 부여하는 역할을 보유한 그룹의 멤버 (after 이후 최대 limit명)
+		Set<String> groupIds = new HashSet<>(holders.groupsByPermission().getOrDefault(permissionId, Set.of()));
+		groupIds.addAll(roleCatalog.groupsHoldingAny(roleIds));
+		List<String> members = loadGroupMembers(groupIds, cursor, limit);
+
+		// 사용자 단위 / 그룹 멤버 단위로 역할을 할당받은 사용자 (after 이후 최대 limit명)
+		List<String> roleUsers = loadRoleUsers(roleIds, cursor, limit);
+
+		// 세 정렬 목록 병합 (중복 제거) 후 limit개
+		List<String> page = mergePage(limit, List.of(direct, members, roleUsers));
+
+		// 페이지가 꽉 찼으면 뒤에 더 있을 수 있으므로 마지막 PK를 다음 커서로 반환
+		// (각 DB 후보가 limit명 미만이면 소진된 것이므로 페이지가 덜 찼을 때는 끝)
+		String nextCursor = page.size() == limit ? page.get(page.size() - 1) : null;
+
+		return HolderUserPageDto.builder()
+				.userIds(page)
+				.nextCursor(nextCursor)
+				.build();
+	}
+
+	//======================================================================================================================
+	// 무효화 (PermissionCache 무효화 메시지 적용 시 호출)
+	//======================================================================================================================
+
+	// 인스턴스 색인 제거 (권한 부여/회수)
+	void invalidateInstance(String instanceId)
+	{
+		epoch.incrementAndGet();
+		index.remove(instanceId);
+	}
+
+	// 전체 색인 제거 (그룹 삭제 등)
+	void clear()
+	{
+		epoch.incrementAndGet();
+		index.clear();
+	}
+
+	//======================================================================================================================
+	// 인스턴스 색인 조회 (PermissionChecker 권한 컴파일 입력)
+	//======================================================================================================================
+
+	// 인스턴스 색인 조회 (없으면 적재, 존재하지 않는 인스턴스면 null)
+	InstanceHolders find(String instanceId)
+	{
+		InstanceHolders cached = index.get(instanceId);
+		return cached != null ? cached : load(Set.of(instanceId)).get(instanceId);
+	}
+
+	// 여러 인스턴스 색인 일괄 조회 — 미적재 인스턴스만 모아 쿼리 3회로 적재 (존재하지 않는 인스턴스는 제외)
+	Map<String, InstanceHolders> findAll(Collection<String> instanceIds)
+	{
+		Map<String, InstanceHolders> result  = new HashMap<>(instanceIds.size() * 2);
+		Set<String>                  missing = new HashSet<>();
+		for (String instanceId : instanceIds)
+		{
+			InstanceHolders cached = index.get(instanceId);
+			if (cached != null)
+			{
+				result.put(instanceId, cached);
+			}
+			else
+			{
+				missing.add(instanceId);
+			}
+		}
+		if (!missing.isEmpty())
+		{
+			result.putAll(load(missing));
+		}
+		return result;
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼 — 색인 적재
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 인스턴스 색인 조회 (없는 인스턴스면 예외)
+	private InstanceHolders holders(String instanceId)
+	{
+		InstanceHolders holders = find(instanceId);
+		if (holders == null)
+		{
+			throw new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND);
+		}
+		return holders;
+	}
+
+	// 인스턴스 일괄 적재 — 인스턴스 + 그룹 권한 + 사용자 권한 조회 3회 (인스턴스 수와 무관)
+	// 적재 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	private Map<String, InstanceHolders> load(Set<String> instanceIds)
+	{
+		long                              loadEpoch = epoch.get();
+		Map<String, ModuleInstanceEntity> instances = new HashMap<>();
+		for (ModuleInstanceEntity instance : instanceRepository.findAllById(instanceIds))
+		{
+			instances.put(instance.getInstanceId(), instance);
+		}
+		if (instances.isEmpty())
+		{
+			return Map.of();
+		}
+
+		Map<String, Map<String, Set<String>>> groups = new HashMap<>();
+		for (GroupModulePermissionEntity grant : groupPermissionRepository.findByModuleInstanceIdIn(instances.keySet()))
+		{
+			groups.computeIfAbsent(grant.getModuleInstanceId(), k -> new HashMap<>())
+					.computeIfAbsent(grant.getModulePermissionId(), k -> new TreeSet<>()).add(grant.getGroupId());
+		}
+		Map<String, Map<String, NavigableSet<String>>> users = new HashMap<>();
+		for (UserModulePermissionEntity grant : userPermissionRepository.findByModuleInstanceIdIn(instances.keySet()))
+		{
+			users.computeIfAbsent(grant.getModuleInstanceId(), k -> new HashMap<>())
+					.computeIfAbsent(grant.getModulePermissionId(), k -> new TreeSet<>()).add(grant.getUserId());
+		}
+		loadCounter.increment(instances.size());
+
+		Map<String, InstanceHolders> loaded = new HashMap<>(instances.size() * 2);
+		instances.forEach((instanceId, instance) -> loaded.put(instanceId, new InstanceHolders(
+				instance.getModuleCode(), instance.getOwnerId(),
+				Collections.unmodifiableMap(groups.getOrDefault(instanceId, Map.of())),
+				Collections.unmodifiableMap(users.getOrDefault(instanceId, Map.of())))));
+
+		// 상한 도달 시 전체 비움
+		if (index.size() + loaded.size() > MAX_INSTANCES)
+		{
+			log.info("권한 역색인 상한 도달 — 전체 비움: size={}", index.size());
+			index.clear();
+		}
+		if (epoch.get() == loadEpoch)
+		{
+			index.putAll(loaded);
+			if (epoch.get() != loadEpoch)
+			{
+				loaded.keySet().forEach(index::remove);
+			}
+		}
+		return loaded;
+	}
+
+	// 플랫 권한 문자열 → 모듈 비트 위치 (인스턴스 모듈에 없는 권한이면 예외)
+	private int resolveBit(InstanceHolders holders, String permission)
+	{
+		int bit = permissionCatalog.bitOf(holders.moduleCode(), permission);
+		if (bit < 0)
+		{
+			throw new BusinessException(ModuleErrorCode.MODULE_PERMISSION_INVALID);
+		}
+		return bit;
+	}
+
+	// 모듈 비트 위치 → 권한 ID
+	private String permissionIdOf(InstanceHolders holders, int bit)
+	{
+		return permissionCatalog.getModule(holders.moduleCode()).permissions().get(bit).getId();
+	}
+
+	// 그룹 멤버 키셋 조회 — PK (group_id, user_id) 범위 스캔, user_id > after 오름차순 최대 limit명
+	private List<String> loadGroupMembers(Set<String> groupIds, String after, int limit)
+	{
+		if (groupIds.isEmpty())
+		{
+			return List.of();
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(groupIds.size(), "?"));
+		String sql = "SELECT DISTINCT user_id FROM tb_group_members " +
+		             "WHERE group_id IN (" + placeholders + ") AND user_id > ? " +
+		             "ORDER BY user_id LIMIT ?";
+
+		List<Object> params = new ArrayList<>(groupIds);
+		params.add(after);
+		params.add(limit);
+		return jdbcTemplate.queryForList(sql, String.class, params.toArray());
+	}
+
+	// 역할 보유 사용자 키셋 조회 — 사용자 단위 역할 + 그룹 멤버 단위 역할, user_id > after 오름차순 최대 limit명
+	private List<String> loadRoleUsers(Set<String> roleIds, String after, int limit)
+	{
+		if (roleIds.isEmpty())
+		{
+			return List.of();
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(roleIds.size(), "?"));
+		String sql = "SELECT user_id FROM tb_user_roles " +
+		             "WHERE role_id IN (" + placeholders + ") AND user_id > ? " +
+		             "UNION " +
+		             "SELECT user_id FROM tb_group_member_roles " +
+		             "WHERE role_id IN (" + placeholders + ") AND user_id > ? " +
+		             "ORDER BY user_id LIMIT ?";
+
+		List<Object> params = new ArrayList<>(roleIds.size() * 2 + 3);
+		params.addAll(roleIds);
+		params.add(after);
+		params.addAll(roleIds);
+		params.add(after);
+		params.add(limit);
+		return jdbcTemplate.queryForList(sql, String.class, params.toArray());
+	}
+
+	// 정렬된 후보 목록들을 병합 (중복 제거) 후 앞에서 limit개
+	// 각 후보는 커서 이후 오름차순 상위 limit개 이상을 담고 있어야 병합 결과의 앞 limit개가 전체 순서와 일치한다
+	static List<String> mergePage(int limit, List<? extends Collection<String>> sources)
+	{
+		NavigableSet<String> merged = new TreeSet<>();
+		for (Collection<String> source : sources)
+		{
+			merged.addAll(source);
+		}
+
+		List<String> page = new ArrayList<>(Math.min(limit, merged.size()));
+		for (String userId : merged)
+		{
+			if (page.size() == limit)
+			{
+				break;
+			}
+			page.add(userId);
+		}
+		return page;
+	}
+}
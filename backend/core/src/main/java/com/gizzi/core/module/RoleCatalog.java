@@ -0,0 +1,213 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.domain.role.entity.GroupRoleEntity;
+import com.gizzi.core.domain.role.entity.RolePermissionEntity;
+import com.gizzi.core.domain.role.repository.GroupRoleRepository;
+import com.gizzi.core.domain.role.repository.RolePermissionRepository;
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 역할 카탈로그 — 역할별 모듈 비트셋 + 그룹별 역할 ID의 불변 스냅샷
+// 역할 정의(tb_role_permissions)를 적재 시점에 PermissionCatalog 비트 위치의 long[] 비트셋으로 미리 컴파일하여,
+// 권한 컴파일 시 역할 권한은 비트셋 OR만으로 합산된다 (역할 수가 늘어도 요청당 조회가 늘지 않음)
+// 역할은 scope=GLOBAL이므로 묶인 권한이 해당 모듈의 모든 인스턴스에 적용된다
+// 역할 정의 변경, 그룹 역할 변경 시 발행되는 PermissionCache 전체 무효화("*")를 적용하면서 스냅샷을 폐기하고 다음 조회 때 다시 적재한다
+//
+// 사용 예:
+//   long[] bits = roleCatalog.bitsFor("board", membership.roleIds(), membership.groupIds());   // 해당 모듈 역할 권한이 없으면 null
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleCatalog
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final RolePermissionRepository rolePermissionRepository;   // 역할 권한 리포지토리
+	private final GroupRoleRepository      groupRoleRepository;        // 그룹 역할 리포지토리
+	private final PermissionCatalog        permissionCatalog;          // 권한 ID → 모듈/비트 위치
+	private final MeterRegistry            meterRegistry;              // 적재 횟수 계측
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 카탈로그 스냅샷 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();   // 현재 스냅샷 (null이면 다음 조회 시 적재)
+	private final AtomicLong                epoch    = new AtomicLong();          // 무효화 시마다 증가하는 세대 번호
+
+	private Counter loadCounter;   // 스냅샷 적재(DB 조회) 횟수
+
+	// 전체 스냅샷
+	// bitsByRole: 역할 ID → 모듈 코드 → 비트셋 / rolesByGroup: 그룹 ID → 역할 ID 집합
+	private record Snapshot(Map<String, Map<String, long[]>> bitsByRole,
+	                        Map<String, Set<String>>         rolesByGroup)
+	{
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 초기화 — 메트릭 등록
+	//----------------------------------------------------------------------------------------------------------------------
+
+	@PostConstruct
+	void init()
+	{
+		loadCounter = meterRegistry.counter("permission.role.catalog.loads");
+	}
+
+	//======================================================================================================================
+	// 조회
+	//======================================================================================================================
+
+	// 사용자 단위 역할 + 소속 그룹의 역할이 해당 모듈에 부여하는 비트셋 OR 결과 (부여 비트가 없으면 null)
+	// 반환 배열은 호출부 소유의 새 배열이다
+	long[] bitsFor(String moduleCode, Set<String> roleIds, Set<String> groupIds)
+	{
+		Snapshot current = current();
+		if (current.bitsByRole().isEmpty())
+		{
+			return null;
+		}
+
+		long[] result = null;
+		for (String roleId : roleIds)
+		{
+			result = or(result, current.bitsByRole().get(roleId), moduleCode);
+		}
+		for (String groupId : groupIds)
+		{
+			for (String roleId : current.rolesByGroup().getOrDefault(groupId, Set.of()))
+			{
+				result = or(result, current.bitsByRole().get(roleId), moduleCode);
+			}
+		}
+		return result;
+	}
+
+	// 해당 모듈 비트를 부여하는 역할 ID 집합 (권한 역색인 — 역할 경유 보유자 조회)
+	Set<String> rolesGranting(String moduleCode, int bit)
+	{
+		Set<String> result = new TreeSet<>();
+		current().bitsByRole().forEach((roleId, modules) ->
+		{
+			long[] bits = modules.get(moduleCode);
+			if (bits != null && (bits[bit >>> 6] & (1L << bit)) != 0)
+			{
+				result.add(roleId);
+			}
+		});
+		return result;
+	}
+
+	// 역할 중 하나라도 보유한 그룹 ID 집합 (tb_group_roles — 그룹 멤버 전원이 역할 권한을 가짐)
+	Set<String> groupsHoldingAny(Set<String> roleIds)
+	{
+		Set<String> result = new TreeSet<>();
+		if (roleIds.isEmpty())
+		{
+			return result;
+		}
+		current().rolesByGroup().forEach((groupId, roles) ->
+		{
+			if (!Collections.disjoint(roles, roleIds))
+			{
+				result.add(groupId);
+			}
+		});
+		return result;
+	}
+
+	//======================================================================================================================
+	// 무효화 (PermissionCache 전체 무효화 메시지 적용 시 호출)
+	//======================================================================================================================
+
+	// 스냅샷 폐기 (다음 조회 때 다시 적재)
+	void clear()
+	{
+		epoch.incrementAndGet();
+		snapshot.set(null);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 현재 스냅샷 반환 (없으면 역할 권한 + 그룹 역할 조회 2회로 적재)
+	// 적재 도중 무효화가 있었다면 세대 번호가 바뀌므로 결과를 반환만 하고 저장하지 않는다
+	private Snapshot current()
+	{
+		Snapshot cached = snapshot.get();
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		long loadEpoch = epoch.get();
+
+		// 역할별 모듈 비트셋 컴파일 (카탈로그에 없는 권한 ID는 무시)
+		Map<String, Map<String, long[]>> bitsByRole = new HashMap<>();
+		for (RolePermissionEntity grant : rolePermissionRepository.findAll())
+		{
+			Optional<ModulePermissionEntity> permission = permissionCatalog.findById(grant.getModulePermissionId());
+			if (permission.isEmpty())
+			{
+				continue;
+			}
+			String                       moduleCode = permission.get().getModuleCode();
+			PermissionCatalog.ModuleBits module     = permissionCatalog.getModule(moduleCode);
+			int                          bit        = module.bitById().get(grant.getModulePermissionId());
+			bitsByRole.computeIfAbsent(grant.getRoleId(), k -> new HashMap<>())
+					.computeIfAbsent(moduleCode, k -> new long[module.wordCount()])[bit >>> 6] |= 1L << bit;
+		}
+
+		// 그룹별 역할 ID
+		Map<String, Set<String>> rolesByGroup = new HashMap<>();
+		for (GroupRoleEntity grant : groupRoleRepository.findAll())
+		{
+			rolesByGroup.computeIfAbsent(grant.getGroupId(), k -> new HashSet<>()).add(grant.getRoleId());
+		}
+		loadCounter.increment();
+
+		Snapshot loaded = new Snapshot(Map.copyOf(bitsByRole), Map.copyOf(rolesByGroup));
+		if (epoch.get() == loadEpoch && snapshot.compareAndSet(null, loaded))
+		{
+			log.info("역할 카탈로그 적재: 역할 {}개, 역할 보유 그룹 {}개", bitsByRole.size(), rolesByGroup.size());
+		}
+		return loaded;
+	}
+
+	// 누적 비트셋에 역할의 모듈 비트셋 OR (역할에 해당 모듈 권한이 없으면 그대로 반환)
+	private static long[] or(long[] target, Map<String, long[]> roleBits, String moduleCode)
+	{
+		long[] bits = roleBits != null ? roleBits.get(moduleCode) : null;
+		if (bits == null)
+		{
+			return target;
+		}
+		if (target == null)
+		{
+			return bits.clone();
+		}
+		for (int word = 0; word < bits.length; word++)
+		{
+			target[word] |= bits[word];
+		}
+		return target;
+	}
+}
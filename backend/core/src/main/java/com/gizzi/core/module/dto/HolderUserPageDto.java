@@ -0,0 +1,23 @@
+package com.gizzi.core.module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 보유 사용자 페이지 DTO (키셋 페이지네이션)
+// 사용자 PK 오름차순으로 반환하며, nextCursor를 다음 요청의 after로 전달한다 (마지막 페이지면 null)
+@Getter
+@Builder
+@AllArgsConstructor
+public class HolderUserPageDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final List<String> userIds;      // 사용자 PK 목록 (오름차순, 중복 없음)
+	private final String       nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,35 @@
+package com.gizzi.core.module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 설정 변경 내역 DTO
+// (그룹 또는 사용자, 인스턴스) 한 칸에서 실제로 추가/회수된 권한 ID를 반환한다
+// 변경이 없으면 두 목록 모두 비어 있고 DB 쓰기와 캐시 무효화도 일어나지 않는다
+@Getter
+@Builder
+@AllArgsConstructor
+public class PermissionChangeSetDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final String       principalType;          // 대상 유형 ("GROUP" / "USER")
+	private final String       principalId;            // 그룹 ID 또는 사용자 PK
+	private final String       instanceId;             // 모듈 인스턴스 ID
+	private final List<String> grantedPermissionIds;   // 새로 부여된 권한 ID 목록
+	private final List<String> revokedPermissionIds;   // 회수된 권한 ID 목록
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 변경 여부
+	//----------------------------------------------------------------------------------------------------------------------
+	public boolean isChanged()
+	{
+		return !grantedPermissionIds.isEmpty() || !revokedPermissionIds.isEmpty();
+	}
+}
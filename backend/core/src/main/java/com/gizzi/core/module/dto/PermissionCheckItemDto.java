@@ -0,0 +1,23 @@
+package com.gizzi.core.module.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+// 일괄 권한 확인 요청 항목 DTO
+// 확인할 (모듈 인스턴스, 플랫 권한 문자열) 한 쌍
+@Getter
+public class PermissionCheckItemDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 모듈 인스턴스 ID
+	@NotBlank(message = "인스턴스 ID는 필수입니다")
+	private String instanceId;
+
+	// 플랫 권한 문자열 (예: "BOARD_POST_WRITE")
+	@NotBlank(message = "권한은 필수입니다")
+	private String permission;
+}
@@ -0,0 +1,25 @@
+package com.gizzi.core.module.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 권한 확인 요청 DTO
+// 여러 (인스턴스, 권한) 쌍을 한 번의 호출로 확인한다 (네비게이션/목록 렌더링용)
+@Getter
+public class PermissionCheckRequestDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 확인할 항목 목록 (최대 500개)
+	@Valid
+	@NotNull(message = "확인 항목 목록은 필수입니다")
+	@Size(max = 500, message = "확인 항목은 500개 이내여야 합니다")
+	private List<PermissionCheckItemDto> checks;
+}
@@ -0,0 +1,25 @@
+package com.gizzi.core.module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 일괄 권한 확인 결과 항목 DTO
+// 요청 항목과 같은 순서로 보유 여부를 반환한다
+// granted는 명시적으로 부여된(또는 소유자) 권한만 뜻하므로, 권한이 설정되지 않은 인스턴스는 open으로 따로 알린다
+// (open 인스턴스의 실제 허용 여부는 모듈 규칙을 따른다 — 예: 게시판 비로그인은 익명 접근 설정)
+@Getter
+@Builder
+@AllArgsConstructor
+public class PermissionCheckResultDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final String  instanceId;   // 모듈 인스턴스 ID
+	private final String  permission;   // 플랫 권한 문자열 (예: "BOARD_POST_WRITE")
+	private final boolean granted;      // 보유 여부 (비로그인은 항상 false)
+	private final boolean open;         // 권한 미설정 인스턴스 여부 (true면 접근 제한 없이 전체 공개, 존재하지 않는 인스턴스는 false)
+}
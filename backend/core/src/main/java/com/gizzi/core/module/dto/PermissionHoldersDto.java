@@ -0,0 +1,29 @@
+package com.gizzi.core.module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 보유자 DTO ("인스턴스 Y에서 X를 할 수 있는 주체")
+// 권한이 직접 부여된 그룹/사용자, 인스턴스 소유자, 권한을 부여하는 역할과 그 역할을 보유한 그룹을 반환한다
+// 그룹 멤버와 역할 할당 사용자까지 펼친 사용자 목록은 페이지 단위 조회(HolderUserPageDto)로 받는다
+@Getter
+@Builder
+@AllArgsConstructor
+public class PermissionHoldersDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final String       instanceId;     // 모듈 인스턴스 ID
+	private final String       permission;     // 플랫 권한 문자열 (예: "BOARD_POST_READ")
+	private final String       ownerId;        // 인스턴스 소유자 PK (모든 권한 보유, 없으면 null)
+	private final List<String> groupIds;       // 권한이 부여된 그룹 ID 목록
+	private final List<String> userIds;        // 권한이 직접 부여된 사용자 PK 목록
+	private final List<String> roleIds;        // 권한을 부여하는 역할 ID 목록 (할당된 사용자/그룹 멤버 모두 보유)
+	private final List<String> roleGroupIds;   // 권한을 부여하는 역할을 보유한 그룹 ID 목록
+}
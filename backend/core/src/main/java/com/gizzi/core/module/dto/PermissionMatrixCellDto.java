@@ -0,0 +1,30 @@
+package com.gizzi.core.module.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 매트릭스 셀 DTO
+// (그룹, 인스턴스) 한 칸에 최종적으로 부여되어야 할 권한 ID 목록
+@Getter
+public class PermissionMatrixCellDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 모듈 인스턴스 ID
+	@NotBlank(message = "인스턴스 ID는 필수입니다")
+	private String instanceId;
+
+	// 그룹 ID
+	@NotBlank(message = "그룹 ID는 필수입니다")
+	private String groupId;
+
+	// 부여할 권한 ID 목록 (빈 리스트 = 해당 칸의 모든 권한 회수)
+	@NotNull(message = "권한 ID 목록은 필수입니다")
+	private List<String> permissionIds;
+}
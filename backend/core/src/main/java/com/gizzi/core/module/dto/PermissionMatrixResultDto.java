@@ -0,0 +1,24 @@
+package com.gizzi.core.module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 매트릭스 일괄 설정 결과 DTO
+// 실제로 바뀐 행 수와 영향받은 인스턴스를 반환한다 (변경 없는 칸은 DB 쓰기 없음)
+@Getter
+@Builder
+@AllArgsConstructor
+public class PermissionMatrixResultDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final int          grantedCount;          // 새로 부여된 권한 행 수
+	private final int          revokedCount;          // 회수된 권한 행 수
+	private final List<String> changedInstanceIds;    // 권한이 변경된 인스턴스 ID 목록
+}
@@ -0,0 +1,26 @@
+package com.gizzi.core.module.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+// 권한 매트릭스 일괄 설정 요청 DTO
+// 여러 그룹 × 여러 인스턴스의 권한을 하나의 diff로 한 트랜잭션에서 반영한다
+// 요청에 포함되지 않은 (그룹, 인스턴스) 칸은 변경하지 않는다
+@Getter
+public class SetPermissionMatrixRequestDto
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 필드 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 변경할 셀 목록 (최대 2000개, 같은 칸이 중복되면 마지막 항목 적용)
+	@Valid
+	@NotNull(message = "셀 목록은 필수입니다")
+	@Size(max = 2000, message = "셀은 2000개 이내여야 합니다")
+	private List<PermissionMatrixCellDto> cells;
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 // 그룹 모듈 권한 리포지토리 (tb_group_module_permissions 테이블 접근)
@@ -25,6 +26,15 @@ public interface GroupModulePermissionRepository
 	// 특정 인스턴스에 부여된 그룹 권한 레코드 수 조회 (권한 설정 여부 판별용)
 	long countByModuleInstanceId(String moduleInstanceId);
 
+	// 특정 인스턴스에 그룹 권한 레코드가 하나라도 있는지 확인 (권한 설정 여부 판별용, 첫 행에서 종료)
+	boolean existsByModuleInstanceId(String moduleInstanceId);
+
+	// 특정 인스턴스에 부여된 모든 그룹 권한 조회 (그룹별 권한 현황용, 단일 쿼리)
+	List<GroupModulePermissionEntity> findByModuleInstanceId(String moduleInstanceId);
+
+	// 여러 인스턴스에 부여된 모든 그룹 권한 조회 (권한 역색인 일괄 적재, 권한 매트릭스 일괄 설정 시 기존 상태 비교용)
+	List<GroupModulePermissionEntity> findByModuleInstanceIdIn(Collection<String> moduleInstanceIds);
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 그룹별 조회
 	//----------------------------------------------------------------------------------------------------------------------
@@ -43,4 +53,7 @@ public interface GroupModulePermissionRepository
 
 	// 특정 그룹의 전체 인스턴스 권한 조회 (권한 요약용)
 	List<GroupModulePermissionEntity> findByGroupId(String groupId);
+
+	// 여러 그룹의 전체 인스턴스 권한 일괄 조회 (사용자 권한 요약용, 단일 IN 쿼리)
+	List<GroupModulePermissionEntity> findByGroupIdIn(Collection<String> groupIds);
 }
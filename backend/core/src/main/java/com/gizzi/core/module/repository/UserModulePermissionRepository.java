@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 // 사용자 모듈 권한 리포지토리 (tb_user_module_permissions 테이블 접근)
@@ -25,9 +26,15 @@ public interface UserModulePermissionRepository
 	// 특정 인스턴스에 부여된 사용자 권한 레코드 수 조회 (권한 설정 여부 판별용)
 	long countByModuleInstanceId(String moduleInstanceId);
 
+	// 특정 인스턴스에 사용자 권한 레코드가 하나라도 있는지 확인 (권한 설정 여부 판별용, 첫 행에서 종료)
+	boolean existsByModuleInstanceId(String moduleInstanceId);
+
 	// 특정 인스턴스에 대해 직접 권한이 부여된 모든 사용자 권한 조회
 	List<UserModulePermissionEntity> findByModuleInstanceId(String moduleInstanceId);
 
+	// 여러 인스턴스에 직접 부여된 모든 사용자 권한 조회 (권한 역색인 일괄 적재용, 단일 IN 쿼리)
+	List<UserModulePermissionEntity> findByModuleInstanceIdIn(Collection<String> moduleInstanceIds);
+
 	//----------------------------------------------------------------------------------------------------------------------
 	// 사용자별 조회
 	//----------------------------------------------------------------------------------------------------------------------
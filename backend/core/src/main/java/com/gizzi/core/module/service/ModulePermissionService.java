@@ -1,6 +1,7 @@
 package com.gizzi.core.module.service;
 
 import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.common.exception.GroupErrorCode;
 import com.gizzi.core.common.exception.ModuleErrorCode;
 import com.gizzi.core.domain.group.entity.GroupEntity;
 import com.gizzi.core.domain.group.entity.GroupMemberEntity;
@@ -8,20 +9,24 @@ import com.gizzi.core.domain.group.repository.GroupMemberRepository;
 import com.gizzi.core.domain.group.repository.GroupRepository;
 import com.gizzi.core.domain.user.entity.UserEntity;
 import com.gizzi.core.domain.user.repository.UserRepository;
+import com.gizzi.core.module.PermissionCache;
+import com.gizzi.core.module.PermissionCatalog;
 import com.gizzi.core.module.dto.InstancePermissionDto;
+import com.gizzi.core.module.dto.PermissionChangeSetDto;
 import com.gizzi.core.module.dto.PermissionItemDto;
+import com.gizzi.core.module.dto.PermissionMatrixCellDto;
+import com.gizzi.core.module.dto.PermissionMatrixResultDto;
 import com.gizzi.core.module.dto.PermissionSummaryDto;
+import com.gizzi.core.module.dto.SetPermissionMatrixRequestDto;
 import com.gizzi.core.module.dto.SetPermissionsRequestDto;
 import com.gizzi.core.module.dto.SetUserPermissionsRequestDto;
 import com.gizzi.core.module.dto.UserInstancePermissionDto;
 import com.gizzi.core.module.entity.GroupModulePermissionEntity;
-import com.gizzi.core.module.entity.ModuleEntity;
 import com.gizzi.core.module.entity.ModuleInstanceEntity;
 import com.gizzi.core.module.entity.ModulePermissionEntity;
 import com.gizzi.core.module.entity.UserModulePermissionEntity;
 import com.gizzi.core.module.repository.GroupModulePermissionRepository;
 import com.gizzi.core.module.repository.ModuleInstanceRepository;
-import com.gizzi.core.module.repository.ModulePermissionRepository;
 import com.gizzi.core.module.repository.ModuleRepository;
 import com.gizzi.core.module.repository.UserModulePermissionRepository;
 import lombok.RequiredArgsConstructor;
@@ -30,10 +35,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 // 모듈 인스턴스 권한 부여/회수/조회 서비스
 // 그룹/사용자별 권한을 통합 관리하고 권한 요약을 제공한다
@@ -50,13 +59,15 @@ public class ModulePermissionService
 	//----------------------------------------------------------------------------------------------------------------------
 
 	private final ModuleInstanceRepository         instanceRepository;        // 모듈 인스턴스 리포지토리
-	private final ModulePermissionRepository        permissionRepository;      // 모듈 권한 정의 리포지토리
+	private final PermissionCatalog                 permissionCatalog;         // 모듈 권한 카탈로그 (권한 정의 조회, DB 조회 없음)
 	private final GroupModulePermissionRepository   groupPermissionRepository; // 그룹 모듈 권한 리포지토리
 	private final UserModulePermissionRepository    userPermissionRepository;  // 사용자 모듈 권한 리포지토리
 	private final GroupRepository                   groupRepository;           // 그룹 리포지토리
 	private final UserRepository                    userRepository;            // 사용자 리포지토리
 	private final GroupMemberRepository             groupMemberRepository;     // 그룹 멤버 리포지토리
 	private final ModuleRepository                  moduleRepository;          // 모듈 리포지토리
+	private final PermissionCache                   permissionCache;           // 컴파일된 권한 캐시 (권한 변경 시 무효화)
+	private final PermissionGrantWriter             grantWriter;               // 권한 부여 행 배치 기록기 (diff 반영)
 
 	//======================================================================================================================
 	// 그룹 권한 관리
@@ -64,6 +75,7 @@ public class ModulePermissionService
 
 	// 인스턴스의 그룹별 권한 현황 조회
 	// 모든 그룹에 대해 해당 인스턴스에 부여된 권한 ID 목록을 반환한다
+	// 그룹 목록 + 인스턴스 권한 전체를 각각 1회 조회 후 메모리에서 그룹별로 합친다
 	public List<InstancePermissionDto> getGroupPermissions(String instanceId)
 	{
 		// 인스턴스 존재 확인
@@ -75,61 +87,62 @@ public class ModulePermissionService
 		// 모든 그룹 조회
 		List<GroupEntity> allGroups = groupRepository.findAll();
 
-		// 각 그룹별 부여된 권한 조회
-		List<InstancePermissionDto> result = new ArrayList<>();
-		for (GroupEntity group : allGroups)
+		// 인스턴스에 부여된 그룹 권한 전체를 그룹별로 그룹핑
+		Map<String, List<String>> grantedByGroup = new HashMap<>();
+		for (GroupModulePermissionEntity perm : groupPermissionRepository.findByModuleInstanceId(instanceId))
 		{
-			List<GroupModulePermissionEntity> groupPerms =
-					groupPermissionRepository.findByGroupIdAndModuleInstanceId(
-							group.getId(), instanceId);
-
-			List<String> grantedIds = groupPerms.stream()
-					.map(GroupModulePermissionEntity::getModulePermissionId)
-					.collect(Collectors.toList());
+			grantedByGroup.computeIfAbsent(perm.getGroupId(), k -> new ArrayList<>())
+					.add(perm.getModulePermissionId());
+		}
 
+		// 그룹별 DTO 변환 (권한이 없는 그룹은 빈 목록)
+		List<InstancePermissionDto> result = new ArrayList<>(allGroups.size());
+		for (GroupEntity group : allGroups)
+		{
 			result.add(InstancePermissionDto.builder()
 					.groupId(group.getId())
 					.groupName(group.getName())
 					.groupCode(group.getGroupCode())
-					.grantedPermissionIds(grantedIds)
+					.grantedPermissionIds(grantedByGroup.getOrDefault(group.getId(), List.of()))
 					.build());
 		}
 
 		return result;
 	}
 
-	// 그룹별 권한 일괄 설정 (기존 삭제 후 재설정)
+	// 그룹별 권한 일괄 설정 — 기존 권한과 비교해 바뀐 행만 배치로 삭제/추가
+	// 변경이 있을 때만 해당 인스턴스의 컴파일된 권한 캐시를 무효화하고, 변경 내역을 반환한다
 	@Transactional
-	public void setGroupPermissions(String instanceId, SetPermissionsRequestDto request)
+	public PermissionChangeSetDto setGroupPermissions(String instanceId, SetPermissionsRequestDto request)
 	{
-		// 인스턴스 존재 확인
-		if (!instanceRepository.existsById(instanceId))
-		{
-			throw new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND);
-		}
+		// 인스턴스 존재 확인 + 권한 정의 검증
+		ModuleInstanceEntity instance = instanceRepository.findById(instanceId)
+				.orElseThrow(() -> new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND));
+		validatePermissionIds(instance.getModuleCode(), request.getPermissionIds());
 
 		String groupId = request.getGroupId();
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 기존 권한 삭제 후 새 권한 부여
+		// 기존 권한과 diff 계산 후 바뀐 행만 반영
 		//----------------------------------------------------------------------------------------------------------------------
 
-		// 기존 권한 전체 삭제
-		List<GroupModulePermissionEntity> existing =
-				groupPermissionRepository.findByGroupIdAndModuleInstanceId(groupId, instanceId);
-		groupPermissionRepository.deleteAll(existing);
+		List<String> current = groupPermissionRepository.findByGroupIdAndModuleInstanceId(groupId, instanceId).stream()
+				.map(GroupModulePermissionEntity::getModulePermissionId)
+				.toList();
+		PermissionChangeSetDto changeSet = diff("GROUP", groupId, instanceId, current, request.getPermissionIds());
 
-		// 새 권한 부여
-		for (String permissionId : request.getPermissionIds())
+		grantWriter.deleteGroupGrants(toGrants(groupId, instanceId, changeSet.getRevokedPermissionIds()));
+		grantWriter.insertGroupGrants(toGrants(groupId, instanceId, changeSet.getGrantedPermissionIds()));
+
+		// 커밋 후 해당 인스턴스의 컴파일된 권한 캐시 무효화 (그룹 멤버 전체가 영향받음)
+		if (changeSet.isChanged())
 		{
-			GroupModulePermissionEntity entity = GroupModulePermissionEntity.create(
-					groupId, instanceId, permissionId
-			);
-			groupPermissionRepository.save(entity);
+			permissionCache.invalidateInstance(instanceId);
 		}
 
-		log.info("그룹 권한 설정 완료: groupId={}, instanceId={}, 권한 {}개",
-				groupId, instanceId, request.getPermissionIds().size());
+		log.info("그룹 권한 설정 완료: groupId={}, instanceId={}, 부여 {}건, 회수 {}건",
+				groupId, instanceId, changeSet.getGrantedPermissionIds().size(), changeSet.getRevokedPermissionIds().size());
+		return changeSet;
 	}
 
 	//======================================================================================================================
@@ -162,13 +175,15 @@ public class ModulePermissionService
 					.add(perm.getModulePermissionId());
 		}
 
-		// 사용자 정보 조회 후 DTO 변환
-		List<UserInstancePermissionDto> result = new ArrayList<>();
+		// 사용자 정보 일괄 조회 후 DTO 변환
+		Map<String, UserEntity> users = new HashMap<>();
+		userRepository.findAllById(userPermMap.keySet()).forEach(user -> users.put(user.getId(), user));
+
+		List<UserInstancePermissionDto> result = new ArrayList<>(userPermMap.size());
 		for (Map.Entry<String, List<String>> entry : userPermMap.entrySet())
 		{
-			String userPk = entry.getKey();
-			// 사용자 정보 조회
-			UserEntity user = userRepository.findById(userPk).orElse(null);
+			String     userPk = entry.getKey();
+			UserEntity user   = users.get(userPk);
 			if (user == null)
 			{
 				continue;  // 삭제된 사용자는 건너뜀
@@ -185,38 +200,37 @@ public class ModulePermissionService
 		return result;
 	}
 
-	// 사용자별 권한 일괄 설정 (기존 삭제 후 재설정)
+	// 사용자별 권한 일괄 설정 — 기존 권한과 비교해 바뀐 행만 배치로 삭제/추가
+	// 변경이 있을 때만 해당 (사용자, 인스턴스)의 컴파일된 권한 캐시를 무효화하고, 변경 내역을 반환한다
 	@Transactional
-	public void setUserPermissions(String instanceId, SetUserPermissionsRequestDto request)
+	public PermissionChangeSetDto setUserPermissions(String instanceId, SetUserPermissionsRequestDto request)
 	{
-		// 인스턴스 존재 확인
-		if (!instanceRepository.existsById(instanceId))
-		{
-			throw new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND);
-		}
+		// 인스턴스 존재 확인 + 권한 정의 검증
+		ModuleInstanceEntity instance = instanceRepository.findById(instanceId)
+				.orElseThrow(() -> new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND));
+		validatePermissionIds(instance.getModuleCode(), request.getPermissionIds());
 
 		String userId = request.getUserId();
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 기존 권한 삭제 후 새 권한 부여
+		// 기존 권한과 diff 계산 후 바뀐 행만 반영
 		//----------------------------------------------------------------------------------------------------------------------
 
-		// 기존 권한 전체 삭제
-		List<UserModulePermissionEntity> existing =
-				userPermissionRepository.findByUserIdAndModuleInstanceId(userId, instanceId);
-		userPermissionRepository.deleteAll(existing);
+		List<String> current = userPermissionRepository.findPermissionIdsByUserIdAndInstanceId(userId, instanceId);
+		PermissionChangeSetDto changeSet = diff("USER", userId, instanceId, current, request.getPermissionIds());
 
-		// 새 권한 부여
-		for (String permissionId : request.getPermissionIds())
+		grantWriter.deleteUserGrants(toGrants(userId, instanceId, changeSet.getRevokedPermissionIds()));
+		grantWriter.insertUserGrants(toGrants(userId, instanceId, changeSet.getGrantedPermissionIds()));
+
+		// 커밋 후 해당 사용자의 해당 인스턴스 항목만 무효화 (다른 사용자의 컴파일 결과는 유지)
+		if (changeSet.isChanged())
 		{
-			UserModulePermissionEntity entity = UserModulePermissionEntity.create(
-					userId, instanceId, permissionId
-			);
-			userPermissionRepository.save(entity);
+			permissionCache.invalidateUserInstance(userId, instanceId);
 		}
 
-		log.info("사용자 권한 설정 완료: userId={}, instanceId={}, 권한 {}개",
-				userId, instanceId, request.getPermissionIds().size());
+		log.info("사용자 권한 설정 완료: userId={}, instanceId={}, 부여 {}건, 회수 {}건",
+				userId, instanceId, changeSet.getGrantedPermissionIds().size(), changeSet.getRevokedPermissionIds().size());
+		return changeSet;
 	}
 
 	//======================================================================================================================
@@ -225,69 +239,64 @@ public class ModulePermissionService
 
 	// 사용자의 전체 모듈 권한 요약 조회
 	// 직접 부여된 권한 + 그룹을 통한 권한을 인스턴스별로 집계한다
+	// 직접 권한, 멤버십, 그룹, 그룹 권한, 인스턴스, 모듈을 각각 1회씩 조회 후 메모리에서 조합한다
 	public List<PermissionSummaryDto> getUserPermissionSummary(String userPk)
 	{
+		//----------------------------------------------------------------------------------------------------------------------
+		// 1. 직접 권한 + 소속 그룹 권한 일괄 조회
+		//----------------------------------------------------------------------------------------------------------------------
+
+		List<UserModulePermissionEntity> directPerms = userPermissionRepository.findByUserId(userPk);
+
+		List<String> groupIds = groupMemberRepository.findByUserId(userPk).stream()
+				.map(GroupMemberEntity::getGroupId)
+				.toList();
+		Map<String, GroupEntity> groups = new HashMap<>();
+		List<GroupModulePermissionEntity> groupPerms = List.of();
+		if (!groupIds.isEmpty())
+		{
+			groupRepository.findAllById(groupIds).forEach(group -> groups.put(group.getId(), group));
+			groupPerms = groupPermissionRepository.findByGroupIdIn(groupIds);
+		}
+
+		// 요약에 필요한 인스턴스/모듈 정보 일괄 조회
+		Set<String> instanceIds = new HashSet<>();
+		directPerms.forEach(perm -> instanceIds.add(perm.getModuleInstanceId()));
+		groupPerms.forEach(perm -> instanceIds.add(perm.getModuleInstanceId()));
+		SummaryLookup lookup = loadSummaryLookup(instanceIds);
+
 		List<PermissionSummaryDto> result = new ArrayList<>();
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 1. 직접 부여된 권한 조회
+		// 2. 직접 부여된 권한 → 인스턴스별 요약
 		//----------------------------------------------------------------------------------------------------------------------
 
-		List<UserModulePermissionEntity> directPerms = userPermissionRepository.findByUserId(userPk);
-		// 인스턴스별로 그룹핑
 		Map<String, List<String>> directPermsByInstance = new LinkedHashMap<>();
 		for (UserModulePermissionEntity perm : directPerms)
 		{
 			directPermsByInstance.computeIfAbsent(perm.getModuleInstanceId(), k -> new ArrayList<>())
 					.add(perm.getModulePermissionId());
 		}
-
-		// 직접 권한 → PermissionSummaryDto 변환
-		for (Map.Entry<String, List<String>> entry : directPermsByInstance.entrySet())
-		{
-			PermissionSummaryDto summary = buildPermissionSummary(
-					entry.getKey(), entry.getValue(), "DIRECT");
-			if (summary != null)
-			{
-				result.add(summary);
-			}
-		}
+		addSummaries(result, directPermsByInstance, "DIRECT", lookup);
 
 		//----------------------------------------------------------------------------------------------------------------------
-		// 2. 소속 그룹을 통한 권한 조회
+		// 3. 소속 그룹을 통한 권한 → 그룹(멤버십 순서) × 인스턴스별 요약
 		//----------------------------------------------------------------------------------------------------------------------
 
-		List<GroupMemberEntity> memberships = groupMemberRepository.findByUserId(userPk);
-		for (GroupMemberEntity membership : memberships)
+		Map<String, Map<String, List<String>>> groupPermsByGroup = new HashMap<>();
+		for (GroupModulePermissionEntity perm : groupPerms)
+		{
+			groupPermsByGroup.computeIfAbsent(perm.getGroupId(), k -> new LinkedHashMap<>())
+					.computeIfAbsent(perm.getModuleInstanceId(), k -> new ArrayList<>())
+					.add(perm.getModulePermissionId());
+		}
+		for (String groupId : groupIds)
 		{
-			String groupId = membership.getGroupId();
-			// 그룹명 조회
-			GroupEntity group = groupRepository.findById(groupId).orElse(null);
+			GroupEntity group = groups.get(groupId);
 			if (group == null) continue;
 
-			// 그룹의 전체 인스턴스 권한 조회
-			List<GroupModulePermissionEntity> groupPerms =
-					groupPermissionRepository.findByGroupId(groupId);
-
-			// 인스턴스별로 그룹핑
-			Map<String, List<String>> groupPermsByInstance = new LinkedHashMap<>();
-			for (GroupModulePermissionEntity perm : groupPerms)
-			{
-				groupPermsByInstance.computeIfAbsent(perm.getModuleInstanceId(), k -> new ArrayList<>())
-						.add(perm.getModulePermissionId());
-			}
-
-			// 그룹 권한 → PermissionSummaryDto 변환
-			String source = "GROUP:" + group.getName();
-			for (Map.Entry<String, List<String>> entry : groupPermsByInstance.entrySet())
-			{
-				PermissionSummaryDto summary = buildPermissionSummary(
-						entry.getKey(), entry.getValue(), source);
-				if (summary != null)
-				{
-					result.add(summary);
-				}
-			}
+			addSummaries(result, groupPermsByGroup.getOrDefault(groupId, Map.of()),
+					"GROUP:" + group.getName(), lookup);
 		}
 
 		return result;
@@ -300,8 +309,6 @@ public class ModulePermissionService
 	// 그룹의 전체 모듈 권한 요약 조회
 	public List<PermissionSummaryDto> getGroupPermissionSummary(String groupId)
 	{
-		List<PermissionSummaryDto> result = new ArrayList<>();
-
 		// 그룹의 전체 인스턴스 권한 조회
 		List<GroupModulePermissionEntity> groupPerms =
 				groupPermissionRepository.findByGroupId(groupId);
@@ -314,18 +321,106 @@ public class ModulePermissionService
 					.add(perm.getModulePermissionId());
 		}
 
-		// 인스턴스별 PermissionSummaryDto 변환
-		for (Map.Entry<String, List<String>> entry : permsByInstance.entrySet())
+		// 인스턴스/모듈 정보 일괄 조회 후 인스턴스별 요약 변환
+		List<PermissionSummaryDto> result = new ArrayList<>();
+		addSummaries(result, permsByInstance, "DIRECT", loadSummaryLookup(permsByInstance.keySet()));
+		return result;
+	}
+
+	//======================================================================================================================
+	// 권한 매트릭스 일괄 설정
+	//======================================================================================================================
+
+	// 여러 (그룹, 인스턴스) 칸의 권한을 하나의 diff로 반영
+	// 관련 인스턴스의 기존 그룹 권한을 한 번에 읽어 칸별 목표 상태와 비교하고, 바뀐 행만 삭제/추가한다
+	// 요청에 없는 칸은 건드리지 않으며, 권한은 인스턴스 모듈에 정의된 것만 허용한다
+	@Transactional
+	public PermissionMatrixResultDto setPermissionMatrix(SetPermissionMatrixRequestDto request)
+	{
+		//----------------------------------------------------------------------------------------------------------------------
+		// 칸별 목표 상태 정리 (같은 칸이 중복되면 마지막 항목 적용)
+		//----------------------------------------------------------------------------------------------------------------------
+		Map<String, PermissionMatrixCellDto> cells = new LinkedHashMap<>();
+		for (PermissionMatrixCellDto cell : request.getCells())
+		{
+			cells.put(cellKey(cell.getGroupId(), cell.getInstanceId()), cell);
+		}
+		Set<String> instanceIds = new HashSet<>();
+		Set<String> groupIds    = new HashSet<>();
+		cells.values().forEach(cell ->
+		{
+			instanceIds.add(cell.getInstanceId());
+			groupIds.add(cell.getGroupId());
+		});
+		if (cells.isEmpty())
 		{
-			PermissionSummaryDto summary = buildPermissionSummary(
-					entry.getKey(), entry.getValue(), "DIRECT");
-			if (summary != null)
+			return PermissionMatrixResultDto.builder().changedInstanceIds(List.of()).build();
+		}
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 인스턴스/그룹 존재 + 권한 정의 검증 (일괄 조회)
+		//----------------------------------------------------------------------------------------------------------------------
+		Map<String, ModuleInstanceEntity> instances = new HashMap<>();
+		instanceRepository.findAllById(instanceIds).forEach(instance -> instances.put(instance.getInstanceId(), instance));
+		if (instances.size() != instanceIds.size())
+		{
+			throw new BusinessException(ModuleErrorCode.MODULE_INSTANCE_NOT_FOUND);
+		}
+		if (groupRepository.findAllById(groupIds).size() != groupIds.size())
+		{
+			throw new BusinessException(GroupErrorCode.GROUP_NOT_FOUND);
+		}
+		for (PermissionMatrixCellDto cell : cells.values())
+		{
+			validatePermissionIds(instances.get(cell.getInstanceId()).getModuleCode(), cell.getPermissionIds());
+		}
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 기존 상태 일괄 조회 후 칸별 diff 계산
+		//----------------------------------------------------------------------------------------------------------------------
+		Map<String, List<GroupModulePermissionEntity>> existingByCell = new HashMap<>();
+		for (GroupModulePermissionEntity perm : groupPermissionRepository.findByModuleInstanceIdIn(instanceIds))
+		{
+			String key = cellKey(perm.getGroupId(), perm.getModuleInstanceId());
+			if (cells.containsKey(key))
 			{
-				result.add(summary);
+				existingByCell.computeIfAbsent(key, k -> new ArrayList<>()).add(perm);
 			}
 		}
 
-		return result;
+		List<PermissionGrantWriter.Grant> toRevoke = new ArrayList<>();
+		List<PermissionGrantWriter.Grant> toGrant  = new ArrayList<>();
+		Set<String>                       changed  = new LinkedHashSet<>();
+		cells.forEach((key, cell) ->
+		{
+			List<String> current = existingByCell.getOrDefault(key, List.of()).stream()
+					.map(GroupModulePermissionEntity::getModulePermissionId)
+					.toList();
+			PermissionChangeSetDto changeSet = diff("GROUP", cell.getGroupId(), cell.getInstanceId(),
+					current, cell.getPermissionIds());
+			if (changeSet.isChanged())
+			{
+				toRevoke.addAll(toGrants(cell.getGroupId(), cell.getInstanceId(), changeSet.getRevokedPermissionIds()));
+				toGrant.addAll(toGrants(cell.getGroupId(), cell.getInstanceId(), changeSet.getGrantedPermissionIds()));
+				changed.add(cell.getInstanceId());
+			}
+		});
+
+		//----------------------------------------------------------------------------------------------------------------------
+		// 바뀐 행만 배치로 반영 + 변경된 인스턴스의 컴파일된 권한 캐시 무효화
+		//----------------------------------------------------------------------------------------------------------------------
+		grantWriter.deleteGroupGrants(toRevoke);
+		grantWriter.insertGroupGrants(toGrant);
+		changed.forEach(permissionCache::invalidateInstance);
+
+		log.info("권한 매트릭스 설정 완료: 칸 {}개, 부여 {}건, 회수 {}건, 변경 인스턴스 {}개",
+				cells.size(), toGrant.size(), toRevoke.size(), changed.size());
+
+		return PermissionMatrixResultDto.builder()
+				.grantedCount(toGrant.size())
+				.revokedCount(toRevoke.size())
+				.changedInstanceIds(List.copyOf(changed))
+				.build();
 	}
 
 	//======================================================================================================================
@@ -335,7 +430,7 @@ public class ModulePermissionService
 	// 해당 모듈의 사용 가능한 권한 목록 조회
 	public List<ModulePermissionEntity> getAvailablePermissions(String moduleCode)
 	{
-		return permissionRepository.findByModuleCode(moduleCode);
+		return permissionCatalog.getPermissions(moduleCode);
 	}
 
 	// 인스턴스의 모듈 코드 조회
@@ -350,24 +445,99 @@ public class ModulePermissionService
 	// 헬퍼 메서드
 	//----------------------------------------------------------------------------------------------------------------------
 
-	// 인스턴스 ID + 권한 ID 목록 → PermissionSummaryDto 빌드
-	private PermissionSummaryDto buildPermissionSummary(String instanceId,
-	                                                   List<String> permissionIds,
-	                                                   String source)
+	// 권한 ID가 모두 인스턴스 모듈에 정의된 권한인지 검증 (카탈로그 조회, DB 조회 없음)
+	private void validatePermissionIds(String moduleCode, List<String> permissionIds)
 	{
-		// 인스턴스 조회
-		ModuleInstanceEntity instance = instanceRepository.findById(instanceId).orElse(null);
-		if (instance == null) return null;
+		for (String permissionId : permissionIds)
+		{
+			boolean valid = permissionCatalog.findById(permissionId)
+					.map(perm -> perm.getModuleCode().equals(moduleCode))
+					.orElse(false);
+			if (!valid)
+			{
+				throw new BusinessException(ModuleErrorCode.MODULE_PERMISSION_INVALID);
+			}
+		}
+	}
 
-		// 모듈 정보 조회
-		ModuleEntity module     = moduleRepository.findByCode(instance.getModuleCode()).orElse(null);
-		String       moduleName = (module != null) ? module.getName() : instance.getModuleCode();
+	// 기존 권한 ID와 목표 권한 ID 비교 → 추가/회수 목록 (중복 ID는 하나로 취급)
+	private PermissionChangeSetDto diff(String principalType, String principalId, String instanceId,
+	                                    Collection<String> current, Collection<String> desired)
+	{
+		Set<String> currentSet = new LinkedHashSet<>(current);
+		Set<String> desiredSet = new LinkedHashSet<>(desired);
 
-		// 권한 정의 조회 후 PermissionItemDto 변환
+		List<String> granted = desiredSet.stream().filter(id -> !currentSet.contains(id)).toList();
+		List<String> revoked = currentSet.stream().filter(id -> !desiredSet.contains(id)).toList();
+
+		return PermissionChangeSetDto.builder()
+				.principalType(principalType)
+				.principalId(principalId)
+				.instanceId(instanceId)
+				.grantedPermissionIds(granted)
+				.revokedPermissionIds(revoked)
+				.build();
+	}
+
+	// 권한 ID 목록 → 배치 기록용 행 목록
+	private static List<PermissionGrantWriter.Grant> toGrants(String principalId, String instanceId,
+	                                                          List<String> permissionIds)
+	{
+		return permissionIds.stream()
+				.map(permissionId -> new PermissionGrantWriter.Grant(principalId, instanceId, permissionId))
+				.toList();
+	}
+
+	// 권한 요약에 필요한 인스턴스/모듈명 조회 결과
+	private record SummaryLookup(Map<String, ModuleInstanceEntity> instances, Map<String, String> moduleNames)
+	{
+	}
+
+	// 인스턴스 일괄 조회 + 모듈명 조회 (쿼리 2회)
+	private SummaryLookup loadSummaryLookup(Collection<String> instanceIds)
+	{
+		Map<String, ModuleInstanceEntity> instances   = new HashMap<>();
+		Map<String, String>               moduleNames = new HashMap<>();
+		if (instanceIds.isEmpty())
+		{
+			return new SummaryLookup(instances, moduleNames);
+		}
+
+		instanceRepository.findAllById(instanceIds).forEach(instance -> instances.put(instance.getInstanceId(), instance));
+		moduleRepository.findAll().forEach(module -> moduleNames.put(module.getCode(), module.getName()));
+		return new SummaryLookup(instances, moduleNames);
+	}
+
+	// 인스턴스별 권한 ID 목록 → PermissionSummaryDto 변환 후 추가 (삭제된 인스턴스는 건너뜀)
+	private void addSummaries(List<PermissionSummaryDto> result,
+	                          Map<String, List<String>> permsByInstance,
+	                          String source,
+	                          SummaryLookup lookup)
+	{
+		for (Map.Entry<String, List<String>> entry : permsByInstance.entrySet())
+		{
+			ModuleInstanceEntity instance = lookup.instances().get(entry.getKey());
+			if (instance != null)
+			{
+				result.add(buildPermissionSummary(instance, entry.getValue(), source, lookup.moduleNames()));
+			}
+		}
+	}
+
+	// 인스턴스 + 권한 ID 목록 → PermissionSummaryDto 빌드
+	private PermissionSummaryDto buildPermissionSummary(ModuleInstanceEntity instance,
+	                                                   List<String> permissionIds,
+	                                                   String source,
+	                                                   Map<String, String> moduleNames)
+	{
+		// 모듈명 (모듈 정보가 없으면 모듈 코드)
+		String moduleName = moduleNames.getOrDefault(instance.getModuleCode(), instance.getModuleCode());
+
+		// 권한 정의 조회 (카탈로그) 후 PermissionItemDto 변환
 		List<PermissionItemDto> permissionItems = new ArrayList<>();
 		for (String permId : permissionIds)
 		{
-			ModulePermissionEntity permEntity = permissionRepository.findById(permId).orElse(null);
+			ModulePermissionEntity permEntity = permissionCatalog.findById(permId).orElse(null);
 			if (permEntity == null) continue;
 
 			permissionItems.add(PermissionItemDto.builder()
@@ -378,7 +548,7 @@ public class ModulePermissionService
 		}
 
 		return PermissionSummaryDto.builder()
-				.instanceId(instanceId)
+				.instanceId(instance.getInstanceId())
 				.instanceName(instance.getInstanceName())
 				.instanceSlug(instance.getSlug())
 				.moduleCode(instance.getModuleCode())
@@ -387,4 +557,10 @@ public class ModulePermissionService
 				.permissions(permissionItems)
 				.build();
 	}
+
+	// 매트릭스 칸 키 (그룹 ID + 인스턴스 ID)
+	private static String cellKey(String groupId, String instanceId)
+	{
+		return groupId + "|" + instanceId;
+	}
 }
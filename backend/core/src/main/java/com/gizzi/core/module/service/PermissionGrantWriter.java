@@ -0,0 +1,121 @@
+package com.gizzi.core.module.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 모듈 권한 부여 행 일괄 기록기
+// tb_group_module_permissions / tb_user_module_permissions에 diff 결과(추가/삭제 행)만 JDBC 배치로 반영한다
+// 엔티티를 거치지 않으므로 행마다 SELECT(merge) 없이 문장 1개에 여러 행이 묶여 전송된다
+// 호출 측 트랜잭션에 참여하므로 같은 트랜잭션의 조회 결과와 함께 원자적으로 커밋된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionGrantWriter
+{
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 상수 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private static final String INSERT_GROUP_SQL =
+			"INSERT INTO tb_group_module_permissions (group_id, module_instance_id, module_permission_id, granted_at) " +
+			"VALUES (?, ?, ?, ?)";
+	private static final String DELETE_GROUP_SQL =
+			"DELETE FROM tb_group_module_permissions " +
+			"WHERE group_id = ? AND module_instance_id = ? AND module_permission_id = ?";
+	private static final String INSERT_USER_SQL  =
+			"INSERT INTO tb_user_module_permissions (user_id, module_instance_id, module_permission_id, granted_at) " +
+			"VALUES (?, ?, ?, ?)";
+	private static final String DELETE_USER_SQL  =
+			"DELETE FROM tb_user_module_permissions " +
+			"WHERE user_id = ? AND module_instance_id = ? AND module_permission_id = ?";
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// [ 의존성 ]
+	//----------------------------------------------------------------------------------------------------------------------
+
+	private final JdbcTemplate jdbcTemplate;   // 배치 INSERT/DELETE 실행용 JDBC 템플릿
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 권한 부여 행 — (그룹 또는 사용자 ID, 인스턴스 ID, 권한 ID)
+	//----------------------------------------------------------------------------------------------------------------------
+	public record Grant(String principalId, String instanceId, String permissionId)
+	{
+	}
+
+	//======================================================================================================================
+	// 그룹 권한
+	//======================================================================================================================
+
+	// 그룹 권한 행 일괄 추가
+	public void insertGroupGrants(Collection<Grant> grants)
+	{
+		insert(INSERT_GROUP_SQL, grants);
+	}
+
+	// 그룹 권한 행 일괄 삭제
+	public void deleteGroupGrants(Collection<Grant> grants)
+	{
+		delete(DELETE_GROUP_SQL, grants);
+	}
+
+	//======================================================================================================================
+	// 사용자 권한
+	//======================================================================================================================
+
+	// 사용자 직접 권한 행 일괄 추가
+	public void insertUserGrants(Collection<Grant> grants)
+	{
+		insert(INSERT_USER_SQL, grants);
+	}
+
+	// 사용자 직접 권한 행 일괄 삭제
+	public void deleteUserGrants(Collection<Grant> grants)
+	{
+		delete(DELETE_USER_SQL, grants);
+	}
+
+	//----------------------------------------------------------------------------------------------------------------------
+	// 헬퍼 — 배치 실행
+	//----------------------------------------------------------------------------------------------------------------------
+
+	// 부여 일시를 포함한 INSERT 배치 (빈 목록이면 실행하지 않음)
+	private void insert(String sql, Collection<Grant> grants)
+	{
+		if (grants.isEmpty())
+		{
+			return;
+		}
+
+		Timestamp      grantedAt = new Timestamp(System.currentTimeMillis());
+		List<Object[]> args      = new ArrayList<>(grants.size());
+		for (Grant grant : grants)
+		{
+			args.add(new Object[] { grant.principalId(), grant.instanceId(), grant.permissionId(), grantedAt });
+		}
+		jdbcTemplate.batchUpdate(sql, args);
+	}
+
+	// PK 기준 DELETE 배치 (빈 목록이면 실행하지 않음)
+	private void delete(String sql, Collection<Grant> grants)
+	{
+		if (grants.isEmpty())
+		{
+			return;
+		}
+
+		List<Object[]> args = new ArrayList<>(grants.size());
+		for (Grant grant : grants)
+		{
+			args.add(new Object[] { grant.principalId(), grant.instanceId(), grant.permissionId() });
+		}
+		jdbcTemplate.batchUpdate(sql, args);
+	}
+}
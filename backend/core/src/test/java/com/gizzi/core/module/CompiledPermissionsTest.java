@@ -0,0 +1,139 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+import com.gizzi.core.module.repository.ModulePermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.gizzi.core.module.PermissionTestFixtures.permission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CompiledPermissionsTest {
+
+	private PermissionCatalog catalog;
+
+	// board 모듈 비트 위치: comment.write=0, post.read=1, post.write=2
+	@BeforeEach
+	void setUp() {
+		catalog = new PermissionCatalog(mock(ModulePermissionRepository.class));
+		catalog.publish(List.of(
+			permission("p-post-read", "board", "post", "read"),
+			permission("p-post-write", "board", "post", "write"),
+			permission("p-comment-write", "board", "comment", "write")));
+	}
+
+	@Test
+	@DisplayName("부여된 권한 ID만 비트로 설정되고 카탈로그에 없는 ID는 무시")
+	void compile_grantedIds_setsOnlyKnownBits() {
+		// given: post.read + 카탈로그에 없는 권한 ID
+		PermissionCatalog.ModuleBits module = catalog.getModule("board");
+
+		// when: 컴파일
+		CompiledPermissions compiled = CompiledPermissions.compile(module, "board", false,
+			List.of("p-post-read", "unknown"));
+
+		// then: post.read만 보유
+		assertThat(compiled.has(catalog.bitOf("board", "BOARD_POST_READ"))).isTrue();
+		assertThat(compiled.has(catalog.bitOf("board", "BOARD_POST_WRITE"))).isFalse();
+		assertThat(compiled.has(catalog.bitOf("board", "BOARD_COMMENT_WRITE"))).isFalse();
+		assertThat(compiled.getPermissionMap()).containsExactly(Map.entry("post", List.of("read")));
+	}
+
+	@Test
+	@DisplayName("소유자는 부여 행과 무관하게 모듈의 모든 권한 보유")
+	void compile_owner_hasAllPermissions() {
+		// given: 부여 행 없는 소유자
+		PermissionCatalog.ModuleBits module = catalog.getModule("board");
+
+		// when: 컴파일
+		CompiledPermissions compiled = CompiledPermissions.compile(module, "board", true, List.of());
+
+		// then: 모든 비트 + 리소스/액션 정렬 순서의 권한 맵
+		assertThat(compiled.has(0)).isTrue();
+		assertThat(compiled.has(2)).isTrue();
+		assertThat(compiled.getPermissionMap()).containsExactly(
+			Map.entry("comment", List.of("write")),
+			Map.entry("post", List.of("read", "write")));
+	}
+
+	@Test
+	@DisplayName("역할 비트셋은 직접/그룹 부여 비트와 OR로 합산")
+	void compile_withRoleBits_mergesRoleBits() {
+		// given: 직접 부여 post.read + 역할 비트 comment.write(0)
+		PermissionCatalog.ModuleBits module = catalog.getModule("board");
+
+		// when: 컴파일
+		CompiledPermissions compiled = CompiledPermissions.compile(module, "board", false,
+			List.of("p-post-read"), new long[] {0b001L});
+
+		// then: comment.write + post.read
+		assertThat(compiled.has(0)).isTrue();
+		assertThat(compiled.has(1)).isTrue();
+		assertThat(compiled.has(2)).isFalse();
+	}
+
+	@Test
+	@DisplayName("모르는 권한(-1)이나 범위를 벗어난 비트는 false")
+	void has_unknownOrOutOfRangeBit_returnsFalse() {
+		// given: 모든 권한을 부여받은 비소유자
+		CompiledPermissions compiled = CompiledPermissions.compile(catalog.getModule("board"), "board", false,
+			List.of("p-post-read", "p-post-write", "p-comment-write"));
+
+		// when & then: -1, 워드 범위 밖 비트는 false
+		assertThat(compiled.has(-1)).isFalse();
+		assertThat(compiled.has(64)).isFalse();
+	}
+
+	@Test
+	@DisplayName("권한 정의가 없는 모듈은 빈 권한으로 컴파일")
+	void compile_unknownModule_returnsEmpty() {
+		// when: 카탈로그에 없는 모듈로 컴파일
+		CompiledPermissions compiled = CompiledPermissions.compile(null, "page", false, List.of("p-post-read"));
+
+		// then: 보유 권한 없음
+		assertThat(compiled.has(0)).isFalse();
+		assertThat(compiled.getPermissionMap()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("64개를 넘는 권한도 여러 워드에 걸쳐 비트 검사")
+	void compile_moreThan64Permissions_usesMultipleWords() {
+		// given: 70개 권한 모듈 (action 정렬 순서 a00..a69)
+		List<ModulePermissionEntity> permissions = new ArrayList<>();
+		for (int i = 0; i < 70; i++) {
+			String action = String.format("a%02d", i);
+			permissions.add(permission("p-" + action, "wide", "item", action));
+		}
+		catalog.publish(permissions);
+		PermissionCatalog.ModuleBits module = catalog.getModule("wide");
+
+		// when: 마지막 권한만 부여
+		CompiledPermissions compiled = CompiledPermissions.compile(module, "wide", false, List.of("p-a69"));
+
+		// then: 두 번째 워드의 비트만 설정
+		assertThat(module.wordCount()).isEqualTo(2);
+		assertThat(compiled.has(catalog.bitOf("wide", "WIDE_ITEM_A69"))).isTrue();
+		assertThat(compiled.has(catalog.bitOf("wide", "WIDE_ITEM_A05"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("권한 맵은 수정할 수 없음")
+	void getPermissionMap_isUnmodifiable() {
+		// given: post.read 보유
+		CompiledPermissions compiled = CompiledPermissions.compile(catalog.getModule("board"), "board", false,
+			List.of("p-post-read"));
+
+		// when & then: 맵과 액션 목록 모두 불변
+		assertThatThrownBy(() -> compiled.getPermissionMap().put("comment", List.of()))
+			.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> compiled.getPermissionMap().get("post").add("write"))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+}
@@ -0,0 +1,120 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+import com.gizzi.core.module.repository.ModulePermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.gizzi.core.module.PermissionTestFixtures.permission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionCatalogTest {
+
+	@InjectMocks
+	private PermissionCatalog catalog;
+
+	@Mock
+	private ModulePermissionRepository permissionRepository;
+
+	// board 모듈 비트 위치: comment.write=0, post.read=1, post.write=2
+	@BeforeEach
+	void setUp() {
+		catalog.publish(List.of(
+			permission("p-post-write", "board", "post", "write"),
+			permission("p-post-read", "board", "post", "read"),
+			permission("p-comment-write", "board", "comment", "write"),
+			permission("p-page-read", "page", "page", "read")));
+	}
+
+	@Test
+	@DisplayName("비트 위치는 모듈별로 resource, action 정렬 순서대로 0부터 부여")
+	void bitOf_flatPermission_returnsSortedPosition() {
+		// when & then: 게시 순서와 무관하게 정렬 순서 기준
+		assertThat(catalog.bitOf("board", "BOARD_COMMENT_WRITE")).isZero();
+		assertThat(catalog.bitOf("board", "BOARD_POST_READ")).isEqualTo(1);
+		assertThat(catalog.bitOf("board", "BOARD_POST_WRITE")).isEqualTo(2);
+		assertThat(catalog.bitOf("page", "PAGE_PAGE_READ")).isZero();
+	}
+
+	@Test
+	@DisplayName("소문자 플랫 권한도 대문자로 변환하여 조회")
+	void bitOf_lowerCase_returnsSameBit() {
+		// when & then: 대소문자 무관
+		assertThat(catalog.bitOf("board", "board_post_read")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("모르는 권한, 다른 모듈의 권한, 모르는 모듈, null은 -1")
+	void bitOf_unknown_returnsMinusOne() {
+		// when & then: 조회 실패는 모두 -1
+		assertThat(catalog.bitOf("board", "BOARD_POST_DELETE")).isEqualTo(-1);
+		assertThat(catalog.bitOf("board", "PAGE_PAGE_READ")).isEqualTo(-1);
+		assertThat(catalog.bitOf("unknown", "BOARD_POST_READ")).isEqualTo(-1);
+		assertThat(catalog.bitOf("board", null)).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("재게시하면 새 정의 기준으로 비트 위치가 바뀜")
+	void bitOf_afterRepublish_usesNewSnapshot() {
+		// given: post.delete가 추가된 정의 재게시 (comment.write=0, post.delete=1, post.read=2)
+		catalog.publish(List.of(
+			permission("p-post-read", "board", "post", "read"),
+			permission("p-post-delete", "board", "post", "delete"),
+			permission("p-comment-write", "board", "comment", "write")));
+
+		// when & then: 새 정렬 순서
+		assertThat(catalog.bitOf("board", "BOARD_POST_DELETE")).isEqualTo(1);
+		assertThat(catalog.bitOf("board", "BOARD_POST_READ")).isEqualTo(2);
+		assertThat(catalog.bitOf("board", "BOARD_POST_WRITE")).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("권한 ID, (모듈, 리소스, 액션), 모듈 코드로 권한 정의 조회")
+	void find_byIdAndKeyAndModule_returnsDefinitions() {
+		// when & then: 각 색인으로 같은 정의 조회
+		assertThat(catalog.findById("p-post-read")).get()
+			.extracting(ModulePermissionEntity::toFlatPermissionString).isEqualTo("BOARD_POST_READ");
+		assertThat(catalog.find("board", "post", "write")).get()
+			.extracting(ModulePermissionEntity::getId).isEqualTo("p-post-write");
+		assertThat(catalog.getPermissions("board"))
+			.extracting(ModulePermissionEntity::getId)
+			.containsExactly("p-comment-write", "p-post-read", "p-post-write");
+	}
+
+	@Test
+	@DisplayName("없는 권한 정의 조회는 빈 결과")
+	void find_unknown_returnsEmpty() {
+		// when & then: 없는 ID/키/모듈
+		assertThat(catalog.findById("unknown")).isEmpty();
+		assertThat(catalog.find("board", "post", "delete")).isEmpty();
+		assertThat(catalog.getPermissions("unknown")).isEmpty();
+		assertThat(catalog.getModule("unknown")).isNull();
+	}
+
+	@Test
+	@DisplayName("게시 전 조회 시 DB에서 한 번 적재")
+	void find_beforePublish_loadsFromRepository() {
+		// given: 아직 게시되지 않은 카탈로그
+		PermissionCatalog fresh = new PermissionCatalog(permissionRepository);
+		given(permissionRepository.findAll()).willReturn(List.of(permission("p-post-read", "board", "post", "read")));
+
+		// when: 두 번 조회
+		int bit = fresh.bitOf("board", "BOARD_POST_READ");
+		fresh.findById("p-post-read");
+
+		// then: 적재는 1회
+		assertThat(bit).isZero();
+		verify(permissionRepository, times(1)).findAll();
+	}
+}
@@ -0,0 +1,150 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.dto.HolderUserPageDto;
+import com.gizzi.core.module.entity.GroupModulePermissionEntity;
+import com.gizzi.core.module.entity.ModuleInstanceEntity;
+import com.gizzi.core.module.entity.UserModulePermissionEntity;
+import com.gizzi.core.module.repository.GroupModulePermissionRepository;
+import com.gizzi.core.module.repository.ModuleInstanceRepository;
+import com.gizzi.core.module.repository.ModulePermissionRepository;
+import com.gizzi.core.module.repository.UserModulePermissionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.gizzi.core.module.PermissionTestFixtures.permission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionHolderIndexTest {
+
+	@Mock
+	private ModuleInstanceRepository instanceRepository;
+
+	@Mock
+	private UserModulePermissionRepository userPermissionRepository;
+
+	@Mock
+	private GroupModulePermissionRepository groupPermissionRepository;
+
+	@Mock
+	private RoleCatalog roleCatalog;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private PermissionHolderIndex holderIndex;
+
+	// board 모듈 권한: post.read (비트 0)
+	@BeforeEach
+	void setUp() {
+		PermissionCatalog catalog = new PermissionCatalog(mock(ModulePermissionRepository.class));
+		catalog.publish(List.of(permission("p-post-read", "board", "post", "read")));
+
+		holderIndex = new PermissionHolderIndex(instanceRepository, userPermissionRepository, groupPermissionRepository,
+			catalog, roleCatalog, jdbcTemplate, new SimpleMeterRegistry());
+		holderIndex.init();
+	}
+
+	// board-1 인스턴스: 소유자 u3, post.read 직접 부여 u1/u5, 그룹 g1 부여
+	private void givenBoardInstance() {
+		ModuleInstanceEntity instance = ModuleInstanceEntity.create("board", "공지", "notice", null, "u3", "SHARED", "u3");
+		ReflectionTestUtils.setField(instance, "instanceId", "board-1");
+		given(instanceRepository.findAllById(anySet())).willReturn(List.of(instance));
+		given(userPermissionRepository.findByModuleInstanceIdIn(anySet())).willReturn(List.of(
+			UserModulePermissionEntity.create("u1", "board-1", "p-post-read"),
+			UserModulePermissionEntity.create("u5", "board-1", "p-post-read")));
+		given(groupPermissionRepository.findByModuleInstanceIdIn(anySet())).willReturn(List.of(
+			GroupModulePermissionEntity.create("g1", "board-1", "p-post-read")));
+	}
+
+	@Test
+	@DisplayName("직접 부여 사용자, 소유자, 그룹 멤버를 PK 오름차순으로 중복 없이 병합하고 꽉 찬 페이지는 다음 커서 반환")
+	void getHolderUserPage_fullPage_mergesSourcesAndReturnsCursor() {
+		// given: g1 멤버 u2, u5(직접 부여와 중복), u6
+		givenBoardInstance();
+		given(jdbcTemplate.queryForList(contains("tb_group_members"), eq(String.class), any(Object[].class)))
+			.willReturn(List.of("u2", "u5", "u6"));
+
+		// when: 첫 페이지 3명
+		HolderUserPageDto page = holderIndex.getHolderUserPage("board-1", "BOARD_POST_READ", null, 3);
+
+		// then: u1(직접), u2(그룹), u3(소유자)
+		assertThat(page.getUserIds()).containsExactly("u1", "u2", "u3");
+		assertThat(page.getNextCursor()).isEqualTo("u3");
+	}
+
+	@Test
+	@DisplayName("커서 이후 후보가 페이지보다 적으면 마지막 페이지 (다음 커서 null)")
+	void getHolderUserPage_lastPage_returnsNullCursor() {
+		// given: u3 이후 g1 멤버 u5, u6
+		givenBoardInstance();
+		given(jdbcTemplate.queryForList(contains("tb_group_members"), eq(String.class), any(Object[].class)))
+			.willReturn(List.of("u5", "u6"));
+
+		// when: u3 이후 3명
+		HolderUserPageDto page = holderIndex.getHolderUserPage("board-1", "BOARD_POST_READ", "u3", 3);
+
+		// then: 소유자 u3은 제외, 직접 부여 u5와 그룹 멤버가 중복 없이 병합
+		assertThat(page.getUserIds()).containsExactly("u5", "u6");
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("역할 보유 그룹 멤버와 역할 할당 사용자도 병합")
+	void getHolderUserPage_roleHolders_areMerged() {
+		// given: post.read를 부여하는 역할 r1 — 보유 그룹 g2, 사용자 단위 할당 u4
+		givenBoardInstance();
+		given(roleCatalog.rolesGranting("board", 0)).willReturn(Set.of("r1"));
+		given(roleCatalog.groupsHoldingAny(Set.of("r1"))).willReturn(Set.of("g2"));
+		given(jdbcTemplate.queryForList(contains("tb_group_members"), eq(String.class), any(Object[].class)))
+			.willReturn(List.of("u2"));
+		given(jdbcTemplate.queryForList(contains("tb_user_roles"), eq(String.class), any(Object[].class)))
+			.willReturn(List.of("u4"));
+
+		// when: 전체 조회
+		HolderUserPageDto page = holderIndex.getHolderUserPage("board-1", "BOARD_POST_READ", null, 10);
+
+		// then: 직접/소유자/그룹 멤버/역할 할당 사용자 모두
+		assertThat(page.getUserIds()).containsExactly("u1", "u2", "u3", "u4", "u5");
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("정렬된 후보 목록들을 중복 없이 병합하여 앞에서 limit개 반환")
+	void mergePage_overlappingSources_dedupsAndLimits() {
+		// given: 겹치는 세 후보 목록
+		TreeSet<String> direct  = new TreeSet<>(List.of("a", "d", "f"));
+		List<String>    members = List.of("b", "d", "e");
+		List<String>    roles   = List.of("a", "c");
+
+		// when: 4개 병합
+		List<String> page = PermissionHolderIndex.mergePage(4, List.of(direct, members, roles));
+
+		// then: 오름차순, 중복 없음, 4개
+		assertThat(page).containsExactly("a", "b", "c", "d");
+	}
+
+	@Test
+	@DisplayName("후보가 모두 비어 있으면 빈 페이지")
+	void mergePage_emptySources_returnsEmpty() {
+		// when & then: 빈 목록
+		assertThat(PermissionHolderIndex.mergePage(10, List.of(List.<String>of(), new TreeSet<String>()))).isEmpty();
+	}
+}
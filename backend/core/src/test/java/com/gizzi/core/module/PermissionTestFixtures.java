@@ -0,0 +1,18 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.module.entity.ModulePermissionEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 권한 카탈로그/역할/역색인 테스트 공용 픽스처
+final class PermissionTestFixtures {
+
+	private PermissionTestFixtures() {
+	}
+
+	// 권한 정의 생성 (PK는 저장 시 생성되므로 직접 주입)
+	static ModulePermissionEntity permission(String id, String moduleCode, String resource, String action) {
+		ModulePermissionEntity entity = ModulePermissionEntity.create(moduleCode, resource, action, id);
+		ReflectionTestUtils.setField(entity, "id", id);
+		return entity;
+	}
+}
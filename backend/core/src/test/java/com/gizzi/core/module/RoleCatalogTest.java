@@ -0,0 +1,143 @@
+package com.gizzi.core.module;
+
+import com.gizzi.core.domain.role.entity.GroupRoleEntity;
+import com.gizzi.core.domain.role.entity.RolePermissionEntity;
+import com.gizzi.core.domain.role.repository.GroupRoleRepository;
+import com.gizzi.core.domain.role.repository.RolePermissionRepository;
+import com.gizzi.core.module.repository.ModulePermissionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.gizzi.core.module.PermissionTestFixtures.permission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoleCatalogTest {
+
+	@Mock
+	private RolePermissionRepository rolePermissionRepository;
+
+	@Mock
+	private GroupRoleRepository groupRoleRepository;
+
+	@Mock
+	private ModulePermissionRepository modulePermissionRepository;
+
+	private RoleCatalog roleCatalog;
+
+	// board 모듈 비트 위치: comment.write=0, post.read=1, post.write=2
+	@BeforeEach
+	void setUp() {
+		PermissionCatalog permissionCatalog = new PermissionCatalog(modulePermissionRepository);
+		permissionCatalog.publish(List.of(
+			permission("p-post-read", "board", "post", "read"),
+			permission("p-post-write", "board", "post", "write"),
+			permission("p-comment-write", "board", "comment", "write"),
+			permission("p-page-read", "page", "page", "read")));
+
+		roleCatalog = new RoleCatalog(rolePermissionRepository, groupRoleRepository,
+			permissionCatalog, new SimpleMeterRegistry());
+		roleCatalog.init();
+	}
+
+	@Test
+	@DisplayName("사용자 역할과 소속 그룹 역할의 모듈 비트셋을 OR로 합산")
+	void bitsFor_userAndGroupRoles_returnsUnion() {
+		// given: 사용자 역할 editor(post.write), 그룹 역할 reader(post.read)
+		given(rolePermissionRepository.findAll()).willReturn(List.of(
+			RolePermissionEntity.create("editor", "p-post-write"),
+			RolePermissionEntity.create("reader", "p-post-read")));
+		given(groupRoleRepository.findAll()).willReturn(List.of(
+			GroupRoleEntity.create("g-staff", "reader")));
+
+		// when: board 모듈 비트셋 조회
+		long[] bits = roleCatalog.bitsFor("board", Set.of("editor"), Set.of("g-staff"));
+
+		// then: post.read(1) + post.write(2) 비트만 켜짐
+		assertThat(bits).containsExactly(0b110L);
+	}
+
+	@Test
+	@DisplayName("해당 모듈 권한을 부여하는 역할이 없으면 null")
+	void bitsFor_noRoleForModule_returnsNull() {
+		// given: page 모듈 권한만 가진 역할
+		given(rolePermissionRepository.findAll()).willReturn(List.of(
+			RolePermissionEntity.create("page-reader", "p-page-read")));
+		given(groupRoleRepository.findAll()).willReturn(List.of());
+
+		// when: board 모듈 비트셋 조회
+		long[] bits = roleCatalog.bitsFor("board", Set.of("page-reader"), Set.of());
+
+		// then: 부여 비트 없음
+		assertThat(bits).isNull();
+	}
+
+	@Test
+	@DisplayName("반환 비트셋은 호출부 소유의 복사본이라 수정해도 스냅샷에 영향이 없음")
+	void bitsFor_mutateResult_doesNotAffectSnapshot() {
+		// given: 역할 editor(post.write)
+		given(rolePermissionRepository.findAll()).willReturn(List.of(
+			RolePermissionEntity.create("editor", "p-post-write")));
+		given(groupRoleRepository.findAll()).willReturn(List.of());
+
+		// when: 첫 결과를 수정한 뒤 다시 조회
+		long[] first = roleCatalog.bitsFor("board", Set.of("editor"), Set.of());
+		first[0] = -1L;
+		long[] second = roleCatalog.bitsFor("board", Set.of("editor"), Set.of());
+
+		// then: 두 번째 결과는 원래 비트 그대로, 스냅샷은 한 번만 적재
+		assertThat(second).containsExactly(0b100L);
+		verify(rolePermissionRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("clear 후 조회 시 스냅샷을 다시 적재")
+	void bitsFor_afterClear_reloadsSnapshot() {
+		// given: 역할 정의가 clear 전후로 바뀜
+		given(rolePermissionRepository.findAll())
+			.willReturn(List.of(RolePermissionEntity.create("editor", "p-post-write")))
+			.willReturn(List.of(RolePermissionEntity.create("editor", "p-comment-write")));
+		given(groupRoleRepository.findAll()).willReturn(List.of());
+		roleCatalog.bitsFor("board", Set.of("editor"), Set.of());
+
+		// when: 스냅샷 폐기 후 재조회
+		roleCatalog.clear();
+		long[] bits = roleCatalog.bitsFor("board", Set.of("editor"), Set.of());
+
+		// then: 새 정의의 comment.write(0) 비트
+		assertThat(bits).containsExactly(0b001L);
+	}
+
+	@Test
+	@DisplayName("권한 비트를 부여하는 역할과 그 역할을 보유한 그룹 조회")
+	void rolesGranting_permissionBit_returnsRolesAndGroups() {
+		// given: editor/admin은 post.write 보유, reader는 post.read만 보유
+		given(rolePermissionRepository.findAll()).willReturn(List.of(
+			RolePermissionEntity.create("editor", "p-post-write"),
+			RolePermissionEntity.create("admin", "p-post-write"),
+			RolePermissionEntity.create("admin", "p-post-read"),
+			RolePermissionEntity.create("reader", "p-post-read")));
+		given(groupRoleRepository.findAll()).willReturn(List.of(
+			GroupRoleEntity.create("g-editors", "editor"),
+			GroupRoleEntity.create("g-readers", "reader")));
+
+		// when: post.write(2) 비트를 부여하는 역할과 역할 보유 그룹 조회
+		Set<String> roleIds  = roleCatalog.rolesGranting("board", 2);
+		Set<String> groupIds = roleCatalog.groupsHoldingAny(roleIds);
+
+		// then: editor/admin 역할, editor를 보유한 그룹만
+		assertThat(roleIds).containsExactly("admin", "editor");
+		assertThat(groupIds).containsExactly("g-editors");
+	}
+}
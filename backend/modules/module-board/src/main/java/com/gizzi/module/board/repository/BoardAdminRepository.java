@@ -3,7 +3,10 @@ package com.gizzi.module.board.repository;
 import com.gizzi.module.board.entity.BoardAdminEntity;
 import com.gizzi.module.board.entity.BoardAdminId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 // 게시판 부관리자 리포지토리 (tb_board_admins 테이블 접근)
@@ -15,6 +18,12 @@ public interface BoardAdminRepository extends JpaRepository<BoardAdminEntity, Bo
 	// 부관리자 존재 여부 확인
 	boolean existsByBoardInstanceIdAndUserId(String boardInstanceId, String userId);
 
+	// 주어진 게시판 중 사용자가 부관리자인 게시판 ID 목록 (메뉴 가시성 일괄 판정용)
+	@Query("SELECT a.boardInstanceId FROM BoardAdminEntity a " +
+			"WHERE a.userId = :userId AND a.boardInstanceId IN :boardInstanceIds")
+	List<String> findAdminBoardInstanceIds(@Param("userId") String userId,
+	                                       @Param("boardInstanceIds") Collection<String> boardInstanceIds);
+
 	// 부관리자 삭제
 	void deleteByBoardInstanceIdAndUserId(String boardInstanceId, String userId);
 }
@@ -0,0 +1,32 @@
+package com.gizzi.module.board.service;
+
+import com.gizzi.core.module.ModuleAccessPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 게시판 모듈 접근 정책 (core 메뉴 가시성 판정용)
+// 게시판 화면을 막는 canAccessBoard와 같은 규칙으로 판정한다
+// (시스템 관리자/부관리자 우회, 권한 미설정 게시판 전체 공개, BOARD_BOARD_ACCESS, 비로그인은 익명 접근 설정)
+@Component
+@RequiredArgsConstructor
+public class BoardAccessPolicy implements ModuleAccessPolicy {
+
+	// 모듈 코드
+	private static final String MODULE_CODE = "board";
+
+	// 게시판 권한 체크 헬퍼
+	private final BoardPermissionHelper permissionHelper;
+
+	@Override
+	public String getModuleCode() {
+		return MODULE_CODE;
+	}
+
+	// 접근 가능한 게시판만 반환
+	@Override
+	public Set<String> filterAccessible(String userId, Set<String> instanceIds) {
+		return permissionHelper.filterAccessibleBoards(userId, instanceIds);
+	}
+}
@@ -1,6 +1,7 @@
 package com.gizzi.module.board.service;
 
 import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.domain.menu.service.MenuTreeCache;
 import com.gizzi.core.module.entity.ModuleInstanceEntity;
 import com.gizzi.core.module.repository.ModuleInstanceRepository;
 import com.gizzi.module.board.dto.board.BoardListResponseDto;
@@ -43,6 +44,9 @@ public class BoardInstanceService {
 	// 게시판 게시글 리포지토리 (게시글 수 카운트용)
 	private final BoardPostRepository      postRepository;
 
+	// 사용자 메뉴 트리 캐시 (게시판 slug 변경/삭제 시 메뉴 URL 갱신용)
+	private final MenuTreeCache            menuTreeCache;
+
 	// ─── 게시판 CRUD ───
 
 	// 게시판 생성 — ModuleInstance + BoardSettings 동시 생성
@@ -98,6 +102,8 @@ public class BoardInstanceService {
 		instance.updateInfo(request.getName(), request.getSlug(), request.getDescription(), updatedBy);
 		// 변경 사항 저장
 		instanceRepository.save(instance);
+		// 메뉴 URL이 slug를 포함하므로 커밋 후 메뉴 트리 캐시 무효화
+		menuTreeCache.invalidateAfterCommit();
 		// 삭제되지 않은 게시글 수 카운트
 		long postCount = postRepository.countByBoardInstanceIdAndIsDeletedFalse(boardId);
 		// 응답 DTO 변환
@@ -112,6 +118,8 @@ public class BoardInstanceService {
 				.orElseThrow(() -> new BusinessException(BoardErrorCode.BOARD_NOT_FOUND));
 		// 인스턴스 삭제 (Settings, Posts, Comments, Files 모두 FK cascade 삭제)
 		instanceRepository.delete(instance);
+		// 삭제된 게시판을 가리키는 메뉴 URL 갱신
+		menuTreeCache.invalidateAfterCommit();
 
 		log.info("게시판 삭제: {} (id: {})", instance.getInstanceName(), boardId);
 	}
@@ -0,0 +1,74 @@
+package com.gizzi.module.board.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 게시판 권한 평가 컨텍스트 — (사용자, 게시판 인스턴스) 한 쌍의 요청 범위 스냅샷
+// BoardPermissionHelper가 요청 속성(request attribute)에 보관하여,
+// 한 요청 안에서 여러 번 호출되는 권한 질의가 관리자 여부/부관리자 여부/권한 설정 여부/개별 권한을
+// 다시 조회하지 않고 이 스냅샷에서 답하도록 한다
+public final class BoardPermissionContext {
+
+	// 평가 대상 사용자 PK (비로그인이면 null)
+	private final String  userId;
+
+	// 평가 대상 게시판 인스턴스 ID
+	private final String  boardInstanceId;
+
+	// administrator 그룹 소속 또는 게시판 부관리자 여부
+	private final boolean adminAccess;
+
+	// 게시판에 권한이 하나라도 설정되어 있는지 (false면 전체 공개)
+	private final boolean restricted;
+
+	// 익명 접근 허용 여부 (비로그인 질의에서 처음 필요할 때 조회)
+	private Boolean       anonymousAccessAllowed;
+
+	// 플랫 권한 문자열 → 보유 여부 (처음 질의할 때 조회)
+	private final Map<String, Boolean> granted = new HashMap<>(8);
+
+	// 생성자 (BoardPermissionHelper 전용)
+	BoardPermissionContext(String userId, String boardInstanceId, boolean adminAccess, boolean restricted) {
+		this.userId          = userId;
+		this.boardInstanceId = boardInstanceId;
+		this.adminAccess     = adminAccess;
+		this.restricted      = restricted;
+	}
+
+	// ─── 조회 ───
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public String getBoardInstanceId() {
+		return boardInstanceId;
+	}
+
+	// 게시판 전체 관리 권한 보유 여부
+	public boolean hasAdminAccess() {
+		return adminAccess;
+	}
+
+	// 권한 설정 여부 (false면 권한 미설정 게시판 — 전체 공개)
+	public boolean isRestricted() {
+		return restricted;
+	}
+
+	// ─── 지연 조회 (요청 내 1회) ───
+
+	// 익명 접근 허용 여부 (최초 1회만 loader 실행)
+	boolean anonymousAccessAllowed(Supplier<Boolean> loader) {
+		if (anonymousAccessAllowed == null) {
+			anonymousAccessAllowed = loader.get();
+		}
+		return anonymousAccessAllowed;
+	}
+
+	// 권한 보유 여부 (권한별 최초 1회만 resolver 실행)
+	boolean hasPermission(String permission, Function<String, Boolean> resolver) {
+		return granted.computeIfAbsent(permission, resolver);
+	}
+}
@@ -1,6 +1,6 @@
 package com.gizzi.module.board.service;
 
-import com.gizzi.core.domain.group.repository.GroupMemberRepository;
+import com.gizzi.core.domain.group.service.AdminAccessService;
 import com.gizzi.core.module.PermissionChecker;
 import com.gizzi.module.board.entity.BoardSettingsEntity;
 import com.gizzi.module.board.repository.BoardAdminRepository;
@@ -9,6 +9,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.Set;
 
 // 게시판 전용 권한 체크 헬퍼
 // core의 PermissionChecker를 감싸며 게시판 특화 로직(부관리자, 익명 접근 등)을 추가한다
@@ -20,14 +25,17 @@ import org.springframework.transaction.annotation.Transactional;
 //   4. 개별 사용자 권한 (tb_user_module_permissions)
 //   5. 소속 그룹 권한 (tb_group_module_permissions)
 //   6. 게시판 기본 설정 (allow_anonymous_access 등)
+//
+// 한 요청 안에서 같은 (사용자, 게시판)에 대한 질의는 BoardPermissionContext 스냅샷 하나로 답한다
+// (관리자/부관리자/권한 설정 여부는 최초 질의 시 1회, 개별 권한은 권한별 1회만 조회)
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BoardPermissionHelper {
 
-	// administrator 그룹 ID 상수 (시드 데이터)
-	private static final String ADMIN_GROUP_ID = "administrator";
+	// 요청 속성 키 접두사 (평가 컨텍스트 보관용)
+	private static final String CONTEXT_ATTRIBUTE = BoardPermissionContext.class.getName() + ":";
 
 	// core 권한 체커
 	private final PermissionChecker        permissionChecker;
@@ -38,17 +46,36 @@ public class BoardPermissionHelper {
 	// 게시판 설정 리포지토리
 	private final BoardSettingsRepository  boardSettingsRepository;
 
-	// 그룹 멤버 리포지토리 (administrator 그룹 확인용)
-	private final GroupMemberRepository    groupMemberRepository;
+	// 관리자 그룹 소속 확인 서비스 (인메모리 관리자 멤버 집합)
+	private final AdminAccessService       adminAccessService;
+
+	// ─── 평가 컨텍스트 ───
+
+	// 요청 범위 평가 컨텍스트 조회 (없으면 생성 후 요청 속성에 보관)
+	// 요청 밖(비동기 작업 등)에서 호출되면 보관하지 않고 매번 생성한다
+	public BoardPermissionContext getContext(String userId, String boardInstanceId) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		String            key        = CONTEXT_ATTRIBUTE + userId + ":" + boardInstanceId;
+		if (attributes != null
+				&& attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST) instanceof BoardPermissionContext cached) {
+			return cached;
+		}
+
+		BoardPermissionContext context = resolveContext(userId, boardInstanceId);
+		if (attributes != null) {
+			attributes.setAttribute(key, context, RequestAttributes.SCOPE_REQUEST);
+		}
+		return context;
+	}
 
 	// ─── 시스템 관리자 확인 ───
 
-	// administrator 그룹 소속 여부 확인
+	// administrator 그룹 소속 여부 확인 (그룹 PK로 조회해야 하므로 AdminAccessService의 캐시된 멤버 집합 사용)
 	public boolean isAdministrator(String userId) {
 		if (userId == null) {
 			return false;
 		}
-		return groupMemberRepository.existsByGroupIdAndUserId(ADMIN_GROUP_ID, userId);
+		return adminAccessService.isAdminMember(userId);
 	}
 
 	// ─── 게시판 관리자 확인 ───
@@ -67,12 +94,7 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		// 시스템 관리자 확인
-		if (isAdministrator(userId)) {
-			return true;
-		}
-		// 게시판 부관리자 확인
-		return isBoardAdmin(userId, boardInstanceId);
+		return getContext(userId, boardInstanceId).hasAdminAccess();
 	}
 
 	// ─── 게시판 접근 권한 ───
@@ -80,41 +102,86 @@ public class BoardPermissionHelper {
 	// 게시판 접근 가능 여부 확인
 	// 비로그인 사용자는 allow_anonymous_access 설정에 따라 접근 결정
 	public boolean canAccessBoard(String userId, String boardInstanceId) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
 		// 관리자는 항상 접근 가능
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 
 		// 비로그인 사용자 — 익명 접근 허용 여부 확인
 		if (userId == null) {
-			return isAnonymousAccessAllowed(boardInstanceId);
+			return isAnonymousAccessAllowed(ctx);
 		}
 
 		// 로그인 사용자 — 권한이 설정되지 않은 게시판은 전체 공개
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
 
 		// BOARD_BOARD_ACCESS 권한 체크
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_BOARD_ACCESS");
+		return hasPermission(ctx, "BOARD_BOARD_ACCESS");
+	}
+
+	// 여러 게시판 중 접근 가능한 게시판만 반환 (메뉴 가시성 일괄 판정용)
+	// canAccessBoard와 같은 규칙을 게시판 수와 무관한 일괄 조회로 적용한다
+	public Set<String> filterAccessibleBoards(String userId, Set<String> boardInstanceIds) {
+		Set<String> accessible = new HashSet<>();
+
+		// 비로그인 사용자 — 익명 접근을 허용한 게시판만
+		if (userId == null) {
+			boardSettingsRepository.findAllById(boardInstanceIds).forEach(settings -> {
+				if (Boolean.TRUE.equals(settings.getAllowAnonymousAccess())) {
+					accessible.add(settings.getBoardInstanceId());
+				}
+			});
+			return accessible;
+		}
+
+		// 시스템 관리자는 모든 게시판 접근 가능
+		if (isAdministrator(userId)) {
+			return boardInstanceIds;
+		}
+
+		// 권한이 설정되지 않은 게시판은 전체 공개
+		Set<String> restricted = new HashSet<>();
+		for (String boardInstanceId : boardInstanceIds) {
+			if (permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+				restricted.add(boardInstanceId);
+			} else {
+				accessible.add(boardInstanceId);
+			}
+		}
+		if (restricted.isEmpty()) {
+			return accessible;
+		}
+
+		// BOARD_BOARD_ACCESS 보유 게시판, 나머지는 부관리자 여부를 한 번에 확인
+		Set<String> granted = permissionChecker.filterGranted(userId, restricted, "BOARD_BOARD_ACCESS");
+		accessible.addAll(granted);
+		restricted.removeAll(granted);
+		if (!restricted.isEmpty()) {
+			accessible.addAll(boardAdminRepository.findAdminBoardInstanceIds(userId, restricted));
+		}
+		return accessible;
 	}
 
 	// ─── 게시글 권한 ───
 
 	// 게시글 읽기 권한
 	public boolean canReadPost(String userId, String boardInstanceId) {
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		// 익명 접근 허용 시 비로그인도 읽기 가능
 		if (userId == null) {
-			return isAnonymousAccessAllowed(boardInstanceId);
+			return isAnonymousAccessAllowed(ctx);
 		}
 		// 권한 미설정 게시판은 전체 공개
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_READ");
+		return hasPermission(ctx, "BOARD_POST_READ");
 	}
 
 	// 게시글 작성 권한
@@ -122,14 +189,15 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		// 권한 미설정 게시판은 로그인 사용자 전체 허용
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_WRITE");
+		return hasPermission(ctx, "BOARD_POST_WRITE");
 	}
 
 	// 게시글 수정 권한 (본인 글 또는 타인 글 수정 권한)
@@ -137,18 +205,19 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		// 본인 글 수정
 		if (userId.equals(authorId)) {
-			if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+			if (!ctx.isRestricted()) {
 				return true;
 			}
-			return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_EDIT_OWN");
+			return hasPermission(ctx, "BOARD_POST_EDIT_OWN");
 		}
 		// 타인 글 수정
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_EDIT_OTHERS");
+		return hasPermission(ctx, "BOARD_POST_EDIT_OTHERS");
 	}
 
 	// 게시글 삭제 권한 (본인 글 또는 타인 글 삭제 권한)
@@ -156,15 +225,16 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		// 본인 글 삭제
 		if (userId.equals(authorId)) {
-			if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+			if (!ctx.isRestricted()) {
 				return true;
 			}
-			return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_DELETE_OWN");
+			return hasPermission(ctx, "BOARD_POST_DELETE_OWN");
 		}
 		// 타인 글 삭제 (관리 권한 필요)
 		return false;
@@ -179,10 +249,11 @@ public class BoardPermissionHelper {
 		if (userId.equals(authorId)) {
 			return true;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_SECRET_READ");
+		return hasPermission(ctx, "BOARD_POST_SECRET_READ");
 	}
 
 	// ─── 댓글 권한 ───
@@ -192,13 +263,14 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_COMMENT_WRITE");
+		return hasPermission(ctx, "BOARD_COMMENT_WRITE");
 	}
 
 	// 댓글 수정 권한
@@ -206,16 +278,17 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		if (userId.equals(authorId)) {
-			if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+			if (!ctx.isRestricted()) {
 				return true;
 			}
-			return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_COMMENT_EDIT_OWN");
+			return hasPermission(ctx, "BOARD_COMMENT_EDIT_OWN");
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_COMMENT_EDIT_OTHERS");
+		return hasPermission(ctx, "BOARD_COMMENT_EDIT_OTHERS");
 	}
 
 	// 댓글 삭제 권한
@@ -223,14 +296,15 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
 		if (userId.equals(authorId)) {
-			if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+			if (!ctx.isRestricted()) {
 				return true;
 			}
-			return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_COMMENT_DELETE_OWN");
+			return hasPermission(ctx, "BOARD_COMMENT_DELETE_OWN");
 		}
 		return false;
 	}
@@ -242,13 +316,14 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_FILE_UPLOAD");
+		return hasPermission(ctx, "BOARD_FILE_UPLOAD");
 	}
 
 	// ─── 투표 권한 ───
@@ -258,21 +333,36 @@ public class BoardPermissionHelper {
 		if (userId == null) {
 			return false;
 		}
-		if (hasAdminAccess(userId, boardInstanceId)) {
+		BoardPermissionContext ctx = getContext(userId, boardInstanceId);
+		if (ctx.hasAdminAccess()) {
 			return true;
 		}
-		if (!permissionChecker.hasAnyPermissionGranted(boardInstanceId)) {
+		if (!ctx.isRestricted()) {
 			return true;
 		}
-		return permissionChecker.hasPermission(userId, boardInstanceId, "BOARD_POST_VOTE");
+		return hasPermission(ctx, "BOARD_POST_VOTE");
 	}
 
 	// ─── 내부 헬퍼 ───
 
-	// 익명(비로그인) 접근 허용 여부 (게시판 설정 확인)
-	private boolean isAnonymousAccessAllowed(String boardInstanceId) {
-		return boardSettingsRepository.findById(boardInstanceId)
+	// 평가 컨텍스트 생성 — 관리자 여부(시스템 관리자 → 부관리자 순) + 권한 설정 여부
+	private BoardPermissionContext resolveContext(String userId, String boardInstanceId) {
+		boolean adminAccess = userId != null
+				&& (isAdministrator(userId) || isBoardAdmin(userId, boardInstanceId));
+		boolean restricted  = permissionChecker.hasAnyPermissionGranted(boardInstanceId);
+		return new BoardPermissionContext(userId, boardInstanceId, adminAccess, restricted);
+	}
+
+	// 컨텍스트에 기록된 권한 보유 여부 (권한별 최초 1회만 PermissionChecker 조회)
+	private boolean hasPermission(BoardPermissionContext ctx, String permission) {
+		return ctx.hasPermission(permission,
+				p -> permissionChecker.hasPermission(ctx.getUserId(), ctx.getBoardInstanceId(), p));
+	}
+
+	// 익명(비로그인) 접근 허용 여부 (게시판 설정 확인, 요청 내 1회)
+	private boolean isAnonymousAccessAllowed(BoardPermissionContext ctx) {
+		return ctx.anonymousAccessAllowed(() -> boardSettingsRepository.findById(ctx.getBoardInstanceId())
 				.map(BoardSettingsEntity::getAllowAnonymousAccess)
-				.orElse(false);
+				.orElse(false));
 	}
 }
@@ -0,0 +1,48 @@
+package com.gizzi.module.page.service;
+
+import com.gizzi.core.module.ModuleAccessPolicy;
+import com.gizzi.core.module.PermissionChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// 페이지 모듈 접근 정책 (core 메뉴 가시성 판정용)
+// 페이지 조회를 막는 PageService.canAccessPage와 같은 규칙으로 판정한다
+// (권한 미설정 인스턴스 전체 공개, 권한 설정 인스턴스는 로그인 + PAGE_PAGE_READ)
+@Component
+@RequiredArgsConstructor
+public class PageAccessPolicy implements ModuleAccessPolicy {
+
+	// 모듈 코드
+	private static final String MODULE_CODE = "page";
+
+	// core 권한 체커
+	private final PermissionChecker permissionChecker;
+
+	@Override
+	public String getModuleCode() {
+		return MODULE_CODE;
+	}
+
+	// 접근 가능한 페이지 인스턴스만 반환
+	@Override
+	public Set<String> filterAccessible(String userId, Set<String> instanceIds) {
+		Set<String> accessible = new HashSet<>();
+		Set<String> restricted = new HashSet<>();
+		for (String instanceId : instanceIds) {
+			if (permissionChecker.hasAnyPermissionGranted(instanceId)) {
+				restricted.add(instanceId);
+			} else {
+				accessible.add(instanceId);
+			}
+		}
+
+		// 권한이 설정된 인스턴스 — PAGE_PAGE_READ 보유 여부 일괄 확인 (비로그인은 보유 권한 없음)
+		if (!restricted.isEmpty()) {
+			accessible.addAll(permissionChecker.filterGranted(userId, restricted, "PAGE_PAGE_READ"));
+		}
+		return accessible;
+	}
+}
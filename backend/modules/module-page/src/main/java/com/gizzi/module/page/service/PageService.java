@@ -1,6 +1,7 @@
 package com.gizzi.module.page.service;
 
 import com.gizzi.core.common.exception.BusinessException;
+import com.gizzi.core.domain.menu.service.MenuTreeCache;
 import com.gizzi.core.module.PermissionChecker;
 import com.gizzi.core.module.entity.ModuleInstanceEntity;
 import com.gizzi.core.module.repository.ModuleInstanceRepository;
@@ -53,6 +54,9 @@ public class PageService {
 	// 권한 체크 유틸리티
 	private final PermissionChecker        permissionChecker;
 
+	// 사용자 메뉴 트리 캐시 (페이지 slug 변경/삭제 시 메뉴 URL 갱신용)
+	private final MenuTreeCache            menuTreeCache;
+
 	// ─── 관리자용 API (admin-api) ───
 
 	// 페이지 생성 — ModuleInstance + PageEntity 동시 생성
@@ -123,6 +127,8 @@ public class PageService {
 						);
 						instanceRepository.save(instance);
 					});
+			// 메뉴 URL이 slug를 포함하므로 커밋 후 메뉴 트리 캐시 무효화
+			menuTreeCache.invalidateAfterCommit();
 		}
 
 		// 페이지 정보 수정
@@ -150,6 +156,8 @@ public class PageService {
 		if (entity.getModuleInstanceId() != null) {
 			instanceRepository.findById(entity.getModuleInstanceId())
 					.ifPresent(instanceRepository::delete);
+			// 삭제된 페이지를 가리키는 메뉴 URL 갱신
+			menuTreeCache.invalidateAfterCommit();
 		}
 
 		// 페이지 삭제
@@ -64,10 +64,12 @@ public class SecurityConfig {
 				.requestMatchers("/pages/**").permitAll()
 				// 게시판 엔드포인트 (인증 선택 — 비로그인 접근 허용 게시판 지원)
 				.requestMatchers("/boards/**").permitAll()
-				// 메뉴 조회 (인증 불필요, 모든 사용자에게 공개)
+				// 메뉴 조회 (인증 선택 — 비로그인은 권한 미설정 인스턴스 메뉴만)
 				.requestMatchers("/menus/me").permitAll()
 				// Slug 기반 동적 라우팅 (비인증 사용자는 권한 빈 맵으로 응답)
 				.requestMatchers("/resolve/**").permitAll()
+				// 일괄 권한 확인 (비인증 사용자는 모든 항목 false로 응답)
+				.requestMatchers("/permissions/check").permitAll()
 				// Actuator 헬스체크는 모두 허용
 				.requestMatchers("/actuator/health", "/actuator/info").permitAll()
 				// 그 외 모든 요청은 인증 필요 (메뉴, resolve 등)
@@ -6,6 +6,7 @@ import com.gizzi.core.domain.menu.service.MenuService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,8 +14,8 @@ import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
 
 // 사용자 메뉴 조회 API 컨트롤러
-// 모든 사용자에게 보이는 메뉴 트리를 반환한다 (인증 불필요)
-// 권한 필터링은 없으며, is_visible 플래그만으로 제어한다
+// 현재 사용자에게 보이는 메뉴 트리를 반환한다 (인증 선택)
+// is_visible 플래그 + MODULE 항목은 연결된 인스턴스의 READ 권한으로 필터링한다 (비로그인은 권한 미설정 인스턴스만)
 @Slf4j
 @RestController
 @RequestMapping("/menus")
@@ -24,10 +25,13 @@ public class MenuController {
 	// 메뉴 서비스
 	private final MenuService menuService;
 
-	// 보이는 메뉴 트리 조회 (인증 불필요, 전체 공개)
+	// 보이는 메뉴 트리 조회 (인증 선택 — 권한 프로필별 캐시)
 	@GetMapping("/me")
-	public ResponseEntity<ApiResponseDto<List<MenuResponseDto>>> getMyMenu() {
-		List<MenuResponseDto> tree = menuService.getVisibleMenuTree();
+	public ResponseEntity<ApiResponseDto<List<MenuResponseDto>>> getMyMenu(Authentication authentication) {
+		// 인증된 사용자 ID 추출
+		String userId = authentication != null ? authentication.getName() : null;
+
+		List<MenuResponseDto> tree = menuService.getVisibleMenuTree(userId);
 		return ResponseEntity.ok(ApiResponseDto.ok(tree));
 	}
 }
@@ -0,0 +1,43 @@
+package com.gizzi.user.controller.permission;
+
+import com.gizzi.core.common.dto.ApiResponseDto;
+import com.gizzi.core.module.PermissionChecker;
+import com.gizzi.core.module.dto.PermissionCheckRequestDto;
+import com.gizzi.core.module.dto.PermissionCheckResultDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 일괄 권한 확인 API 컨트롤러
+// 네비게이션/목록 렌더링 시 여러 모듈 인스턴스의 권한을 한 번의 호출로 확인한다
+// 비인증 사용자는 granted가 모두 false로 응답되며, 권한 미설정(전체 공개) 인스턴스는 open=true로 구분된다
+@Slf4j
+@RestController
+@RequestMapping("/permissions")
+@RequiredArgsConstructor
+public class PermissionController {
+
+	// core 권한 체커
+	private final PermissionChecker permissionChecker;
+
+	// 여러 (인스턴스, 권한) 쌍의 보유 여부 일괄 확인 (요청 순서대로 결과 반환)
+	// POST /permissions/check
+	@PostMapping("/check")
+	public ResponseEntity<ApiResponseDto<List<PermissionCheckResultDto>>> check(
+			@Valid @RequestBody PermissionCheckRequestDto request,
+			Authentication authentication) {
+		// 인증된 사용자 ID 추출
+		String userId = authentication != null ? authentication.getName() : null;
+
+		List<PermissionCheckResultDto> results = permissionChecker.checkPermissions(userId, request.getChecks());
+		return ResponseEntity.ok(ApiResponseDto.ok(results));
+	}
+}
@@ -134,7 +134,8 @@ CREATE TABLE tb_sessions (
     FOREIGN KEY (user_id) REFERENCES tb_users(id) ON DELETE CASCADE,
   KEY idx_sessions_user (user_id),
   KEY idx_sessions_access_expires_at (access_expires_at),
-  KEY idx_sessions_refresh_expires_at (refresh_expires_at)
+  KEY idx_sessions_refresh_expires_at (refresh_expires_at),
+  KEY idx_sessions_revoked_at (revoked_at)
 );
 
 -- Groups
@@ -355,14 +356,15 @@ CREATE TABLE tb_roles (
   UNIQUE KEY uq_roles_code (code)
 );
 
+-- 역할이 묶는 모듈 권한 (scope=GLOBAL: 해당 모듈의 모든 인스턴스에 적용)
 CREATE TABLE tb_role_permissions (
-  role_id       CHAR(36)    NOT NULL, -- 역할 FK
-  permission_id CHAR(36)    NOT NULL, -- 권한 FK
-  PRIMARY KEY (role_id, permission_id),
+  role_id              CHAR(36)    NOT NULL, -- 역할 FK
+  module_permission_id CHAR(36)    NOT NULL, -- 모듈 권한 FK
+  PRIMARY KEY (role_id, module_permission_id),
   CONSTRAINT fk_role_permissions_role
     FOREIGN KEY (role_id) REFERENCES tb_roles(id) ON DELETE CASCADE,
   CONSTRAINT fk_role_permissions_permission
-    FOREIGN KEY (permission_id) REFERENCES tb_permissions(id) ON DELETE CASCADE
+    FOREIGN KEY (module_permission_id) REFERENCES tb_module_permissions(id) ON DELETE CASCADE
 );
 
 CREATE TABLE tb_user_roles (
@@ -390,6 +392,7 @@ CREATE TABLE tb_group_member_roles (
   user_id  CHAR(36)    NOT NULL, -- 사용자 FK
   role_id  CHAR(36)    NOT NULL, -- 역할 FK
   PRIMARY KEY (group_id, user_id, role_id),
+  KEY idx_group_member_roles_user (user_id),
   CONSTRAINT fk_group_member_roles_member
     FOREIGN KEY (group_id, user_id) REFERENCES tb_group_members(group_id, user_id) ON DELETE CASCADE,
   CONSTRAINT fk_group_member_roles_role
@@ -0,0 +1,26 @@
+-- V2: 역할 권한을 모듈 권한(tb_module_permissions) 기준으로 전환
+-- 대상: db/init/01-schema.sql 이전 버전으로 초기화된 기존 데이터베이스
+--       (새로 초기화하는 Docker 개발환경은 01-schema.sql에 이미 반영되어 있어 실행하지 않는다)
+
+-- tb_role_permissions는 미사용 범용 권한(tb_permissions)을 참조했으며, 이전 버전에서는 역할 권한이 권한 평가에 쓰이지 않았다
+-- 범용 권한 행은 모듈 권한으로 대응시킬 수 없으므로 비운 뒤 컬럼을 교체한다 (역할 권한은 관리 API로 다시 설정)
+DELETE FROM tb_role_permissions;
+
+ALTER TABLE tb_role_permissions
+  DROP FOREIGN KEY fk_role_permissions_permission,
+  DROP FOREIGN KEY fk_role_permissions_role;
+
+ALTER TABLE tb_role_permissions
+  DROP PRIMARY KEY,
+  CHANGE COLUMN permission_id module_permission_id CHAR(36) NOT NULL, -- 모듈 권한 FK
+  ADD PRIMARY KEY (role_id, module_permission_id);
+
+ALTER TABLE tb_role_permissions
+  ADD CONSTRAINT fk_role_permissions_role
+    FOREIGN KEY (role_id) REFERENCES tb_roles(id) ON DELETE CASCADE,
+  ADD CONSTRAINT fk_role_permissions_permission
+    FOREIGN KEY (module_permission_id) REFERENCES tb_module_permissions(id) ON DELETE CASCADE;
+
+-- 사용자 단위 역할 조회 (GroupMembershipCache UNION 쿼리)용 인덱스
+ALTER TABLE tb_group_member_roles
+  ADD KEY idx_group_member_roles_user (user_id);